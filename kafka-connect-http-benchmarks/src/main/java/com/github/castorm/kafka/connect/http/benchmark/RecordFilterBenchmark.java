@@ -0,0 +1,60 @@
+package com.github.castorm.kafka.connect.http.benchmark;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.OffsetRecordFilterFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters the records against the offset of the record in the middle of the response, as if half of them had been
+ * already seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RecordFilterBenchmark {
+
+    private final OffsetRecordFilterFactory filterFactory = new OffsetRecordFilterFactory();
+
+    private Offset offset;
+
+    @Setup
+    public void setUp(SyntheticResponse response) {
+        offset = Offset.of(response.sourceRecords.get(response.sourceRecords.size() / 2).sourceOffset());
+    }
+
+    @Benchmark
+    public long filter(SyntheticResponse response, RecordCounter counter) {
+        counter.add(response);
+        return response.sourceRecords.stream().filter(filterFactory.create(offset)).count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.castorm.kafka.connect.http.benchmark;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResponseParserBenchmark {
+
+    @Param({"false", "true"})
+    boolean streaming;
+
+    private JacksonKvRecordHttpResponseParser parser;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> settings = SyntheticResponse.settings();
+        settings.put("http.response.list.streaming", String.valueOf(streaming));
+        parser = new JacksonKvRecordHttpResponseParser();
+        parser.configure(settings);
+    }
+
+    @Benchmark
+    public List<KvRecord> parse(SyntheticResponse response, RecordCounter counter) {
+        counter.add(response);
+        return parser.parse(response.response);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.castorm.kafka.connect.http.benchmark;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.record.SchemedKvSourceRecordMapper;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParser;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Synthetic JSON response of {@code recordCount} records, each one with an id, a timestamp and {@code fieldCount}
+ * string fields of {@code fieldLength} characters, along with the records resulting from parsing and mapping it.
+ */
+@State(Scope.Benchmark)
+public class SyntheticResponse {
+
+    private static final Instant FIRST_TIMESTAMP = Instant.parse("2020-01-01T00:00:00Z");
+
+    @Param({"10", "100", "1000"})
+    int recordCount;
+
+    @Param({"4", "16"})
+    int fieldCount;
+
+    @Param({"16", "128"})
+    int fieldLength;
+
+    HttpResponse response;
+
+    List<KvRecord> kvRecords;
+
+    List<SourceRecord> sourceRecords;
+
+    @Setup
+    public void setUp() {
+        response = HttpResponse.builder().code(200).body(body().getBytes(UTF_8)).build();
+
+        JacksonKvRecordHttpResponseParser parser = new JacksonKvRecordHttpResponseParser();
+        parser.configure(settings());
+        kvRecords = parser.parse(response);
+
+        SchemedKvSourceRecordMapper mapper = new SchemedKvSourceRecordMapper();
+        mapper.configure(settings());
+        sourceRecords = kvRecords.stream().map(mapper::map).collect(toList());
+    }
+
+    static Map<String, String> settings() {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("kafka.topic", "benchmark");
+        settings.put("http.response.list.pointer", "/items");
+        settings.put("http.response.record.offset.pointer", "key=/id, timestamp=/updatedAt");
+        return settings;
+    }
+
+    private String body() {
+        StringBuilder body = new StringBuilder("{\"items\":[");
+        for (int record = 0; record < recordCount; record++) {
+            if (record > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(record)
+                    .append("\",\"updatedAt\":\"").append(FIRST_TIMESTAMP.plusSeconds(record)).append('"');
+            for (int field = 0; field < fieldCount; field++) {
+                body.append(",\"field").append(field).append("\":\"").append(value(record, field)).append('"');
+            }
+            body.append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private String value(int record, int field) {
+        StringBuilder value = new StringBuilder(fieldLength);
+        for (int i = 0; i < fieldLength; i++) {
+            value.append((char) ('a' + (record + field + i) % 26));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.castorm.kafka.connect.http.benchmark;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.response.timestamp.DateTimeFormatterTimestampParser;
+import com.github.castorm.kafka.connect.http.response.timestamp.EpochMillisOrDelegateTimestampParser;
+import com.github.castorm.kafka.connect.http.response.timestamp.EpochMillisTimestampParser;
+import com.github.castorm.kafka.connect.http.response.timestamp.NattyTimestampParser;
+import com.github.castorm.kafka.connect.http.response.timestamp.RegexTimestampParser;
+import com.github.castorm.kafka.connect.http.response.timestamp.spi.TimestampParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses a single timestamp per operation, in the format each parser is meant for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimestampParserBenchmark {
+
+    @Param({"EpochMillis", "EpochMillisOrDelegate", "DateTimeFormatter", "Regex", "Natty"})
+    String parserName;
+
+    private TimestampParser parser;
+
+    private String timestamp;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> settings = new HashMap<>();
+        switch (parserName) {
+            case "EpochMillis":
+                parser = new EpochMillisTimestampParser();
+                timestamp = "1577836800000";
+                break;
+            case "EpochMillisOrDelegate":
+                parser = new EpochMillisOrDelegateTimestampParser();
+                timestamp = "2020-01-01T00:00:00.000Z";
+                break;
+            case "DateTimeFormatter":
+                parser = new DateTimeFormatterTimestampParser();
+                timestamp = "2020-01-01T00:00:00.000Z";
+                break;
+            case "Regex":
+                parser = new RegexTimestampParser();
+                settings.put("http.response.record.timestamp.parser.regex", "updated at (.*)");
+                timestamp = "updated at 2020-01-01T00:00:00.000Z";
+                break;
+            case "Natty":
+                parser = new NattyTimestampParser();
+                timestamp = "January 1st 2020 00:00:00 UTC";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown timestamp parser " + parserName);
+        }
+        parser.configure(settings);
+    }
+
+    @Benchmark
+    public Instant parse() {
+        return parser.parse(timestamp);
+    }
+}
@@ -23,6 +23,7 @@ package com.github.castorm.kafka.connect.common;
 import lombok.experimental.UtilityClass;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,6 +38,10 @@ import static java.util.stream.IntStream.rangeClosed;
 @UtilityClass
 public class ConfigUtils {
 
+    private static final char ESCAPE = '\\';
+
+    private static final String MAP_SPECIAL_CHARS = "\\,=;";
+
     public static Map<String, List<String>> breakDownHeaders(String headers) {
         return breakDownMultiValuePairs(headers, "(?<!\\\\),", ":")
                 .entrySet()
@@ -61,6 +66,34 @@ public class ConfigUtils {
                 .collect(toList());
     }
 
+    /**
+     * Source partition as comma separated {@code key=value} pairs, where a backslash escapes the next character, so
+     * keys and values can contain {@code ,}, {@code =}, {@code ;} and {@code \}.
+     */
+    public static Map<String, String> breakDownPartition(String partition) {
+        return breakDownEscapedList(partition, ',')
+                .map(ConfigUtils::breakDownEscapedPair)
+                .collect(toMap(Entry::getKey, Entry::getValue));
+    }
+
+    public static List<Map<String, String>> breakDownPartitionList(String partitionList) {
+        return breakDownEscapedList(partitionList, ';')
+                .map(ConfigUtils::breakDownPartition)
+                .collect(toList());
+    }
+
+    public static String joinPartition(Map<String, String> partition) {
+        return partition.entrySet().stream()
+                .map(entry -> escape(entry.getKey()) + "=" + escape(entry.getValue()))
+                .collect(joining(","));
+    }
+
+    public static String joinPartitionList(List<Map<String, String>> partitionList) {
+        return partitionList.stream()
+                .map(ConfigUtils::joinPartition)
+                .collect(joining(";"));
+    }
+
     private static Map<String, String> breakDownPairs(String itemLine, String itemSplitter, String pairSplitter) {
         return breakDownPairs(itemLine, itemSplitter, pairSplitter, toMap(Entry::getKey, Entry::getValue));
     }
@@ -83,6 +116,68 @@ public class ConfigUtils {
         return new SimpleEntry<>(parts[0].trim(), parts[1].trim());
     }
 
+    private static Entry<String, String> breakDownEscapedPair(String pairLine) {
+        int separator = indexOfUnescaped(pairLine, '=', 0);
+        if (separator < 0) {
+            throw new IllegalStateException("Incomplete pair: " + pairLine);
+        }
+        return new SimpleEntry<>(unescape(pairLine.substring(0, separator).trim()), unescape(pairLine.substring(separator + 1).trim()));
+    }
+
+    private static Stream<String> breakDownEscapedList(String itemList, char splitter) {
+        if (itemList == null || itemList.isEmpty()) {
+            return Stream.empty();
+        }
+        List<String> items = new ArrayList<>();
+        int from = 0;
+        for (int to = indexOfUnescaped(itemList, splitter, 0); to >= 0; to = indexOfUnescaped(itemList, splitter, from)) {
+            items.add(itemList.substring(from, to));
+            from = to + 1;
+        }
+        items.add(itemList.substring(from));
+        return items.stream()
+                .map(String::trim)
+                .filter(it -> !it.isEmpty());
+    }
+
+    private static int indexOfUnescaped(String text, char target, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ESCAPE) {
+                i++;
+            } else if (c == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (MAP_SPECIAL_CHARS.indexOf(c) >= 0) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf(ESCAPE) < 0) {
+            return text;
+        }
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ESCAPE && i + 1 < text.length()) {
+                c = text.charAt(++i);
+            }
+            unescaped.append(c);
+        }
+        return unescaped.toString();
+    }
+
     public static List<String> breakDownList(String itemList) {
         return breakDownList(itemList, ",")
                 .collect(toList());
@@ -0,0 +1,203 @@
+package com.github.castorm.kafka.connect.common;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Non-cryptographic hash functions, with seed 0, over byte arrays read as little-endian.
+ */
+@UtilityClass
+public class HashUtils {
+
+    private static final long XXH_PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long XXH_PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long XXH_PRIME_3 = 0x165667B19E3779F9L;
+    private static final long XXH_PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long XXH_PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private static final long MURMUR3_C1 = 0x87C37B91114253D5L;
+    private static final long MURMUR3_C2 = 0x4CF5AD432745937FL;
+
+    public static long xxHash64(byte[] bytes) {
+        int length = bytes.length;
+        int position = 0;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = XXH_PRIME_1 + XXH_PRIME_2;
+            long v2 = XXH_PRIME_2;
+            long v3 = 0;
+            long v4 = -XXH_PRIME_1;
+            int limit = length - 32;
+            do {
+                v1 = xxRound(v1, getLong(bytes, position));
+                v2 = xxRound(v2, getLong(bytes, position + 8));
+                v3 = xxRound(v3, getLong(bytes, position + 16));
+                v4 = xxRound(v4, getLong(bytes, position + 24));
+                position += 32;
+            } while (position <= limit);
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = xxMergeRound(hash, v1);
+            hash = xxMergeRound(hash, v2);
+            hash = xxMergeRound(hash, v3);
+            hash = xxMergeRound(hash, v4);
+        } else {
+            hash = XXH_PRIME_5;
+        }
+
+        hash += length;
+
+        while (position + 8 <= length) {
+            hash ^= xxRound(0, getLong(bytes, position));
+            hash = Long.rotateLeft(hash, 27) * XXH_PRIME_1 + XXH_PRIME_4;
+            position += 8;
+        }
+        if (position + 4 <= length) {
+            hash ^= (getInt(bytes, position) & 0xFFFFFFFFL) * XXH_PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * XXH_PRIME_2 + XXH_PRIME_3;
+            position += 4;
+        }
+        while (position < length) {
+            hash ^= (bytes[position] & 0xFF) * XXH_PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * XXH_PRIME_1;
+            position++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= XXH_PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= XXH_PRIME_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private static long xxRound(long accumulator, long input) {
+        return Long.rotateLeft(accumulator + input * XXH_PRIME_2, 31) * XXH_PRIME_1;
+    }
+
+    private static long xxMergeRound(long accumulator, long value) {
+        return (accumulator ^ xxRound(0, value)) * XXH_PRIME_1 + XXH_PRIME_4;
+    }
+
+    /**
+     * MurmurHash3 x64 128-bit variant, as its two 64-bit halves
+     */
+    public static long[] murmur3_128(byte[] bytes) {
+        int length = bytes.length;
+        long h1 = 0;
+        long h2 = 0;
+
+        int blocksEnd = length & ~15;
+        for (int position = 0; position < blocksEnd; position += 16) {
+            h1 ^= murmur3MixK1(getLong(bytes, position));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52DCE729;
+            h2 ^= murmur3MixK2(getLong(bytes, position + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495AB5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        switch (length & 15) {
+            case 15:
+                k2 ^= (long) (bytes[blocksEnd + 14] & 0xFF) << 48;
+            case 14:
+                k2 ^= (long) (bytes[blocksEnd + 13] & 0xFF) << 40;
+            case 13:
+                k2 ^= (long) (bytes[blocksEnd + 12] & 0xFF) << 32;
+            case 12:
+                k2 ^= (long) (bytes[blocksEnd + 11] & 0xFF) << 24;
+            case 11:
+                k2 ^= (long) (bytes[blocksEnd + 10] & 0xFF) << 16;
+            case 10:
+                k2 ^= (long) (bytes[blocksEnd + 9] & 0xFF) << 8;
+            case 9:
+                k2 ^= bytes[blocksEnd + 8] & 0xFF;
+                h2 ^= murmur3MixK2(k2);
+            case 8:
+                k1 ^= (long) (bytes[blocksEnd + 7] & 0xFF) << 56;
+            case 7:
+                k1 ^= (long) (bytes[blocksEnd + 6] & 0xFF) << 48;
+            case 6:
+                k1 ^= (long) (bytes[blocksEnd + 5] & 0xFF) << 40;
+            case 5:
+                k1 ^= (long) (bytes[blocksEnd + 4] & 0xFF) << 32;
+            case 4:
+                k1 ^= (long) (bytes[blocksEnd + 3] & 0xFF) << 24;
+            case 3:
+                k1 ^= (long) (bytes[blocksEnd + 2] & 0xFF) << 16;
+            case 2:
+                k1 ^= (long) (bytes[blocksEnd + 1] & 0xFF) << 8;
+            case 1:
+                k1 ^= bytes[blocksEnd] & 0xFF;
+                h1 ^= murmur3MixK1(k1);
+            default:
+                break;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = mix64(h1);
+        h2 = mix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private static long murmur3MixK1(long k1) {
+        return Long.rotateLeft(k1 * MURMUR3_C1, 31) * MURMUR3_C2;
+    }
+
+    private static long murmur3MixK2(long k2) {
+        return Long.rotateLeft(k2 * MURMUR3_C2, 33) * MURMUR3_C1;
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer, spreading every input bit over the whole output
+     */
+    public static long mix64(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long getLong(byte[] bytes, int position) {
+        return (bytes[position] & 0xFFL)
+                | (bytes[position + 1] & 0xFFL) << 8
+                | (bytes[position + 2] & 0xFFL) << 16
+                | (bytes[position + 3] & 0xFFL) << 24
+                | (bytes[position + 4] & 0xFFL) << 32
+                | (bytes[position + 5] & 0xFFL) << 40
+                | (bytes[position + 6] & 0xFFL) << 48
+                | (bytes[position + 7] & 0xFFL) << 56;
+    }
+
+    private static int getInt(byte[] bytes, int position) {
+        return (bytes[position] & 0xFF)
+                | (bytes[position + 1] & 0xFF) << 8
+                | (bytes[position + 2] & 0xFF) << 16
+                | (bytes[position + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.castorm.kafka.connect.common;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.experimental.UtilityClass;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.lang.Math.max;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+@UtilityClass
+public class HttpHeaderUtils {
+
+    /**
+     * First value of the header, matching its name case-insensitively.
+     */
+    public static Optional<String> header(Map<String, List<String>> headers, String name) {
+        return headers.entrySet().stream()
+                .filter(entry -> name.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty())
+                .map(entry -> entry.getValue().get(0))
+                .findFirst();
+    }
+
+    /**
+     * Millis to wait according to {@code Retry-After}, either as delay-seconds or as an RFC 1123 HTTP-date.
+     */
+    public static Optional<Long> retryAfterMillis(Map<String, List<String>> headers, long now) {
+        return header(headers, "Retry-After").map(String::trim).flatMap(value -> {
+            Optional<Long> seconds = parseLong(value).map(delay -> max(delay, 0) * 1000);
+            if (seconds.isPresent()) {
+                return seconds;
+            }
+            try {
+                return Optional.of(max(ZonedDateTime.parse(value, RFC_1123_DATE_TIME).toInstant().toEpochMilli() - now, 0));
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    public static Optional<Long> parseLong(String value) {
+        try {
+            return Optional.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -20,29 +20,50 @@ package com.github.castorm.kafka.connect.http;
  * #L%
  */
 
+import com.github.castorm.kafka.connect.http.partition.TaskPartitionerConfig;
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.Task;
 import org.apache.kafka.connect.source.SourceConnector;
+import org.apache.kafka.connect.util.ConnectorUtils;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.joinPartitionList;
 import static com.github.castorm.kafka.connect.common.VersionUtils.getVersion;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.IntStream.range;
 
 public class HttpSourceConnector extends SourceConnector {
 
+    private static final String SOURCE_PARTITIONS = "http.source.partitions";
+
+    private final Function<Map<String, String>, TaskPartitionerConfig> configFactory;
+
     private Map<String, String> settings;
 
+    private TaskPartitioner partitioner;
+
+    HttpSourceConnector(Function<Map<String, String>, TaskPartitionerConfig> configFactory) {
+        this.configFactory = configFactory;
+    }
+
+    public HttpSourceConnector() {
+        this(TaskPartitionerConfig::new);
+    }
+
     @Override
     public void start(Map<String, String> settings) {
         this.settings = settings;
+        this.partitioner = configFactory.apply(settings).getPartitioner();
     }
 
     @Override
     public void stop() {
         settings = null;
+        partitioner = null;
     }
 
     @Override
@@ -57,11 +78,21 @@ public class HttpSourceConnector extends SourceConnector {
 
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
-        return range(0, maxTasks).boxed()
-                .map(__ -> settings)
+        List<Map<String, String>> partitions = partitioner.partition(maxTasks);
+        return ConnectorUtils.groupPartitions(partitions, Math.min(partitions.size(), maxTasks)).stream()
+                .map(this::taskSettings)
                 .collect(toList());
     }
 
+    private Map<String, String> taskSettings(List<Map<String, String>> partitions) {
+        if (partitions.size() == 1 && partitions.get(0).isEmpty()) {
+            return settings;
+        }
+        Map<String, String> taskSettings = new HashMap<>(settings);
+        taskSettings.put(SOURCE_PARTITIONS, joinPartitionList(partitions));
+        return taskSettings;
+    }
+
     @Override
     public String version() {
         return getVersion();
@@ -27,8 +27,10 @@ import com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSo
 import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
 import com.github.castorm.kafka.connect.http.record.spi.SourceRecordSorter;
 import com.github.castorm.kafka.connect.http.request.spi.HttpRequestFactory;
+import com.github.castorm.kafka.connect.http.request.spi.PaginatedHttpRequestFactory;
 import com.github.castorm.kafka.connect.http.request.template.TemplateHttpRequestFactory;
 import com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParser;
+import com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserConfig;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.timer.AdaptableIntervalTimer;
 import com.github.castorm.kafka.connect.timer.TimerThrottler;
@@ -36,13 +38,20 @@ import com.github.castorm.kafka.connect.timer.spi.Timer;
 import lombok.Getter;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownMap;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartition;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartitionList;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Type.BOOLEAN;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
 import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
 @Getter
@@ -55,25 +64,41 @@ class HttpSourceConnectorConfig extends AbstractConfig {
     private static final String RECORD_SORTER = "http.record.sorter";
     private static final String RECORD_FILTER_FACTORY = "http.record.filter.factory";
     private static final String OFFSET_INITIAL = "http.offset.initial";
+    private static final String PIPELINE_DEPTH = "http.poll.pipeline.depth";
+    private static final String RESPONSE_STREAMING = "http.response.body.streaming";
+    private static final String SOURCE_PARTITION = "http.source.partition";
+    private static final String SOURCE_PARTITIONS = "http.source.partitions";
 
     private final TimerThrottler throttler;
     private final HttpRequestFactory requestFactory;
-    private final HttpClient client;
+    @Getter(lazy = true)
+    private final HttpClient client = getConfiguredInstance(CLIENT, HttpClient.class);
     private final HttpResponseParser responseParser;
     private final SourceRecordFilterFactory recordFilterFactory;
     private final SourceRecordSorter recordSorter;
     private final Map<String, String> initialOffset;
+    private final Integer pipelineDepth;
+    private final Boolean responseStreaming;
+    private final Map<String, String> sourcePartition;
+    private final List<Map<String, String>> sourcePartitions;
 
     HttpSourceConnectorConfig(Map<String, ?> originals) {
         super(config(), originals);
         Timer timer = getConfiguredInstance(TIMER, Timer.class);
         throttler = new TimerThrottler(timer);
         requestFactory = getConfiguredInstance(REQUEST_FACTORY, HttpRequestFactory.class);
-        client = getConfiguredInstance(CLIENT, HttpClient.class);
         responseParser = getConfiguredInstance(RESPONSE_PARSER, HttpResponseParser.class);
+        if (requestFactory instanceof PaginatedHttpRequestFactory && responseParser instanceof PolicyHttpResponseParser
+                && new PolicyHttpResponseParserConfig(originals).getOffsetValidators()) {
+            throw new ConfigException(PolicyHttpResponseParserConfig.OFFSET_VALIDATORS, "true", "Validators can't be stored in offsets of paginated requests, as each page has its own");
+        }
         recordSorter = getConfiguredInstance(RECORD_SORTER, SourceRecordSorter.class);
         recordFilterFactory = getConfiguredInstance(RECORD_FILTER_FACTORY, SourceRecordFilterFactory.class);
         initialOffset = breakDownMap(getString(OFFSET_INITIAL));
+        pipelineDepth = getInt(PIPELINE_DEPTH);
+        responseStreaming = getBoolean(RESPONSE_STREAMING);
+        sourcePartition = breakDownPartition(getString(SOURCE_PARTITION));
+        sourcePartitions = breakDownPartitionList(getString(SOURCE_PARTITIONS));
     }
 
     public static ConfigDef config() {
@@ -84,6 +109,10 @@ class HttpSourceConnectorConfig extends AbstractConfig {
                 .define(RESPONSE_PARSER, CLASS, PolicyHttpResponseParser.class, HIGH, "Response Parser Class")
                 .define(RECORD_SORTER, CLASS, OrderDirectionSourceRecordSorter.class, LOW, "Record Sorter Class")
                 .define(RECORD_FILTER_FACTORY, CLASS, OffsetRecordFilterFactory.class, LOW, "Record Filter Factory Class")
-                .define(OFFSET_INITIAL, STRING, "", HIGH, "Starting offset");
+                .define(OFFSET_INITIAL, STRING, "", HIGH, "Starting offset")
+                .define(PIPELINE_DEPTH, INT, 0, atLeast(0), LOW, "Number of batches fetched ahead of poll() on a background thread, 0 disables pipelining")
+                .define(RESPONSE_STREAMING, BOOLEAN, false, LOW, "Parse response bodies as they are read instead of buffering them first")
+                .define(SOURCE_PARTITION, STRING, "", LOW, "Source partition assigned to the task by the connector")
+                .define(SOURCE_PARTITIONS, STRING, "", LOW, "Source partitions assigned to the task by the connector, polled by the task in turns");
     }
 }
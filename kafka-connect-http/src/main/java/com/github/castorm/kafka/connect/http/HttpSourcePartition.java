@@ -0,0 +1,204 @@
+package com.github.castorm.kafka.connect.http;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.ack.ConfirmationWindow;
+import com.github.castorm.kafka.connect.http.client.circuit.CircuitOpenException;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.github.castorm.kafka.connect.http.pipeline.ConcurrentPageFetcher;
+import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
+import com.github.castorm.kafka.connect.http.record.spi.SourceRecordSorter;
+import com.github.castorm.kafka.connect.http.request.spi.HttpRequestFactory;
+import com.github.castorm.kafka.connect.http.request.spi.PaginatedHttpRequestFactory;
+import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
+import com.github.castorm.kafka.connect.timer.TimerThrottler;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.connect.errors.RetriableException;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalRequestUtils.withValidators;
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParser.withOffset;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Polling state of a single source partition: its components, the offset committed so far and the offset the next
+ * request will be created from.
+ */
+@Slf4j
+class HttpSourcePartition {
+
+    @Getter
+    private final Map<String, String> sourcePartition;
+
+    private final TimerThrottler throttler;
+
+    private final HttpRequestFactory requestFactory;
+
+    private final HttpResponseParser responseParser;
+
+    private final SourceRecordSorter recordSorter;
+
+    private final SourceRecordFilterFactory recordFilterFactory;
+
+    private final ConcurrentPageFetcher pageFetcher;
+
+    private final boolean streaming;
+
+    private final boolean fetchAhead;
+
+    private ConfirmationWindow<Map<String, ?>> confirmationWindow = new ConfirmationWindow<>(emptyList());
+
+    @Getter
+    private Offset offset;
+
+    private Offset fetchOffset;
+
+    HttpSourcePartition(HttpSourceConnectorConfig config, Offset offset, boolean fetchAhead) {
+        this.sourcePartition = config.getSourcePartition();
+        this.throttler = config.getThrottler();
+        this.requestFactory = config.getRequestFactory();
+        this.responseParser = config.getResponseParser();
+        this.recordSorter = config.getRecordSorter();
+        this.recordFilterFactory = config.getRecordFilterFactory();
+        this.pageFetcher = requestFactory instanceof PaginatedHttpRequestFactory
+                ? new ConcurrentPageFetcher((PaginatedHttpRequestFactory) requestFactory)
+                : null;
+        this.streaming = config.getResponseStreaming();
+        this.fetchAhead = fetchAhead;
+        this.offset = offset;
+        this.fetchOffset = offset;
+    }
+
+    void throttle() throws InterruptedException {
+        throttler.throttle(lastZero());
+    }
+
+    Long getRemainingMillis() {
+        return throttler.getTimer().getRemainingMillis();
+    }
+
+    void resetTimer() {
+        throttler.getTimer().reset(lastZero());
+    }
+
+    private Instant lastZero() {
+        return fetchOffset.getTimestamp().orElseGet(Instant::now);
+    }
+
+    List<SourceRecord> fetch(HttpClient client) {
+
+        List<SourceRecord> records = executeAndParse(client);
+
+        List<SourceRecord> unseenRecords = withValidatorsOnLast(recordSorter.sort(records).stream()
+                .filter(recordFilterFactory.create(fetchOffset))
+                .collect(toList()));
+
+        log.info("Request for offset {} yields {}/{} new records", fetchOffset.toMap(), unseenRecords.size(), records.size());
+
+        throttler.update(records.size(), unseenRecords.size());
+
+        if (fetchAhead && !unseenRecords.isEmpty()) {
+            fetchOffset = Offset.of(unseenRecords.get(unseenRecords.size() - 1).sourceOffset());
+        }
+        return unseenRecords;
+    }
+
+    /**
+     * Response validators only go with the last record of the response, sorting may have moved the one carrying them.
+     */
+    private static List<SourceRecord> withValidatorsOnLast(List<SourceRecord> records) {
+        int last = records.size() - 1;
+        for (int i = 0; i < last; i++) {
+            Offset validated = Offset.of(records.get(i).sourceOffset());
+            if (validated.getETag().isPresent() || validated.getLastModified().isPresent()) {
+                List<SourceRecord> moved = new ArrayList<>(records);
+                moved.set(i, withOffset(records.get(i), validated.withoutValidators()));
+                moved.set(last, withOffset(records.get(last), Offset.of(records.get(last).sourceOffset())
+                        .withValidators(validated.getETag(), validated.getLastModified())));
+                return moved;
+            }
+        }
+        return records;
+    }
+
+    private List<SourceRecord> executeAndParse(HttpClient client) {
+        try {
+            if (pageFetcher != null) {
+                return pageFetcher.fetch(client, fetchOffset, responseParser::parse);
+            }
+            HttpRequest request = withValidators(requestFactory.createRequest(fetchOffset), fetchOffset.getETag(), fetchOffset.getLastModified());
+            if (streaming) {
+                try (StreamingHttpResponse response = client.executeStreaming(request)) {
+                    return responseParser.parseStream(response);
+                }
+            }
+            return responseParser.parse(client.execute(request));
+        } catch (CircuitOpenException e) {
+            return skipPoll(e);
+        } catch (IOException e) {
+            throw new RetriableException(e);
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof CircuitOpenException) {
+                return skipPoll(e.getCause());
+            }
+            throw new RetriableException(e.getCause());
+        }
+    }
+
+    private static List<SourceRecord> skipPoll(IOException e) {
+        log.debug("Skipping poll: {}", e.getMessage());
+        return emptyList();
+    }
+
+    void track(List<SourceRecord> records) {
+        confirmationWindow = new ConfirmationWindow<>(records.stream()
+                .map(SourceRecord::sourceOffset)
+                .collect(toList()));
+    }
+
+    void confirm(SourceRecord record) {
+        confirmationWindow.confirm(record.sourceOffset());
+    }
+
+    void commit() {
+        offset = confirmationWindow.getLowWatermarkOffset()
+                .map(Offset::of)
+                .orElse(offset);
+
+        if (!fetchAhead) {
+            fetchOffset = offset;
+        }
+
+        log.debug("Offset for {} set to {}", sourcePartition, offset);
+    }
+}
@@ -20,57 +20,46 @@ package com.github.castorm.kafka.connect.http;
  * #L%
  */
 
-import com.github.castorm.kafka.connect.http.ack.ConfirmationWindow;
 import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
-import com.github.castorm.kafka.connect.http.model.HttpRequest;
-import com.github.castorm.kafka.connect.http.model.HttpResponse;
 import com.github.castorm.kafka.connect.http.model.Offset;
-import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
-import com.github.castorm.kafka.connect.http.record.spi.SourceRecordSorter;
-import com.github.castorm.kafka.connect.http.request.spi.HttpRequestFactory;
-import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
-import com.github.castorm.kafka.connect.timer.TimerThrottler;
+import com.github.castorm.kafka.connect.http.pipeline.RecordPipeline;
 import edu.emory.mathcs.backport.java.util.Collections;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.connect.errors.RetriableException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.source.SourceTask;
 
-import java.io.IOException;
-import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.joinPartition;
 import static com.github.castorm.kafka.connect.common.VersionUtils.getVersion;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
 public class HttpSourceTask extends SourceTask {
 
-    private final Function<Map<String, String>, HttpSourceConnectorConfig> configFactory;
+    private static final long PIPELINE_POLL_TIMEOUT_MILLIS = 1000L;
 
-    private TimerThrottler throttler;
+    private static final String SOURCE_PARTITION = "http.source.partition";
 
-    private HttpRequestFactory requestFactory;
+    private final Function<Map<String, String>, HttpSourceConnectorConfig> configFactory;
 
     private HttpClient requestExecutor;
 
-    private HttpResponseParser responseParser;
+    private List<HttpSourcePartition> partitions;
 
-    private SourceRecordSorter recordSorter;
+    private Map<Map<String, ?>, HttpSourcePartition> partitionsBySource;
 
-    private SourceRecordFilterFactory recordFilterFactory;
+    private SourcePartitionScheduler scheduler;
 
-    private ConfirmationWindow<Map<String, ?>> confirmationWindow = new ConfirmationWindow<>(emptyList());
-
-    @Getter
-    private Offset offset;
+    private RecordPipeline pipeline;
 
     HttpSourceTask(Function<Map<String, String>, HttpSourceConnectorConfig> configFactory) {
         this.configFactory = configFactory;
@@ -85,73 +74,97 @@ public class HttpSourceTask extends SourceTask {
 
         HttpSourceConnectorConfig config = configFactory.apply(settings);
 
-        throttler = config.getThrottler();
-        requestFactory = config.getRequestFactory();
         requestExecutor = config.getClient();
-        responseParser = config.getResponseParser();
-        recordSorter = config.getRecordSorter();
-        recordFilterFactory = config.getRecordFilterFactory();
-        offset = loadOffset(config.getInitialOffset());
-    }
 
-    private Offset loadOffset(Map<String, String> initialOffset) {
-        Map<String, Object> restoredOffset = ofNullable(context.offsetStorageReader().offset(emptyMap())).orElseGet(Collections::emptyMap);
-        return Offset.of(!restoredOffset.isEmpty() ? restoredOffset : initialOffset);
-    }
+        boolean pipelined = config.getPipelineDepth() > 0;
+        List<Map<String, String>> sourcePartitions = config.getSourcePartitions();
+        partitions = sourcePartitions.isEmpty()
+                ? singletonList(createPartition(config, pipelined))
+                : sourcePartitions.stream()
+                .map(sourcePartition -> createPartition(configFactory.apply(partitionSettings(settings, sourcePartition)), pipelined))
+                .collect(toList());
 
-    @Override
-    public List<SourceRecord> poll() throws InterruptedException {
+        partitionsBySource = new HashMap<>();
+        partitions.forEach(partition -> partitionsBySource.put(partition.getSourcePartition(), partition));
+        scheduler = new SourcePartitionScheduler(partitions, Thread::sleep);
 
-        throttler.throttle(offset.getTimestamp().orElseGet(Instant::now));
+        if (pipelined) {
+            pipeline = new RecordPipeline(this::fetch, config.getPipelineDepth());
+            pipeline.start();
+        }
+    }
 
-        HttpRequest request = requestFactory.createRequest(offset);
+    private static Map<String, String> partitionSettings(Map<String, String> settings, Map<String, String> sourcePartition) {
+        Map<String, String> partitionSettings = new HashMap<>(settings);
+        partitionSettings.put(SOURCE_PARTITION, joinPartition(sourcePartition));
+        return partitionSettings;
+    }
 
-        HttpResponse response = execute(request);
+    private HttpSourcePartition createPartition(HttpSourceConnectorConfig config, boolean fetchAhead) {
+        return new HttpSourcePartition(config, loadOffset(config.getSourcePartition(), config.getInitialOffset()), fetchAhead);
+    }
 
-        List<SourceRecord> records = responseParser.parse(response);
+    private Offset loadOffset(Map<String, String> sourcePartition, Map<String, String> initialOffset) {
+        Map<String, Object> restoredOffset = ofNullable(context.offsetStorageReader().offset(sourcePartition)).orElseGet(Collections::emptyMap);
+        return Offset.of(!restoredOffset.isEmpty() ? restoredOffset : initialOffset);
+    }
 
-        List<SourceRecord> unseenRecords = recordSorter.sort(records).stream()
-                .filter(recordFilterFactory.create(offset))
-                .collect(toList());
+    /**
+     * Offset committed so far for the first, and usually only, source partition of this task.
+     */
+    public Offset getOffset() {
+        return partitions.get(0).getOffset();
+    }
 
-        log.info("Request for offset {} yields {}/{} new records", offset.toMap(), unseenRecords.size(), records.size());
+    @Override
+    public List<SourceRecord> poll() throws InterruptedException {
+
+        List<SourceRecord> records = pipeline != null ? pipeline.drain(PIPELINE_POLL_TIMEOUT_MILLIS) : fetch();
 
-        confirmationWindow = new ConfirmationWindow<>(extractOffsets(unseenRecords));
+        if (partitions.size() == 1) {
+            partitions.get(0).track(records);
+        } else {
+            records.stream()
+                    .collect(groupingBy(SourceRecord::sourcePartition, LinkedHashMap::new, toList()))
+                    .forEach((sourcePartition, partitionRecords) -> partitionsBySource.get(sourcePartition).track(partitionRecords));
+        }
 
-        return unseenRecords;
+        return records;
     }
 
-    private HttpResponse execute(HttpRequest request) {
-        try {
-            return requestExecutor.execute(request);
-        } catch (IOException e) {
-            throw new RetriableException(e);
+    private List<SourceRecord> fetch() throws InterruptedException {
+
+        if (partitions.size() == 1) {
+            HttpSourcePartition partition = partitions.get(0);
+            partition.throttle();
+            return partition.fetch(requestExecutor);
         }
-    }
 
-    private static List<Map<String, ?>> extractOffsets(List<SourceRecord> recordsToSend) {
-        return recordsToSend.stream()
-                .map(SourceRecord::sourceOffset)
-                .collect(toList());
+        HttpSourcePartition partition = scheduler.next();
+        List<SourceRecord> records = partition.fetch(requestExecutor);
+        partition.resetTimer();
+        return records;
     }
 
     @Override
     public void commitRecord(SourceRecord record, RecordMetadata metadata) {
-        confirmationWindow.confirm(record.sourceOffset());
+        HttpSourcePartition partition = partitions.size() == 1 ? partitions.get(0) : partitionsBySource.get(record.sourcePartition());
+        partition.confirm(record);
     }
 
     @Override
     public void commit() {
-        offset = confirmationWindow.getLowWatermarkOffset()
-                .map(Offset::of)
-                .orElse(offset);
-
-        log.debug("Offset set to {}", offset);
+        partitions.forEach(HttpSourcePartition::commit);
     }
 
     @Override
     public void stop() {
-        // Nothing to do, no resources to release
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+        if (requestExecutor != null) {
+            requestExecutor.close();
+        }
     }
 
     @Override
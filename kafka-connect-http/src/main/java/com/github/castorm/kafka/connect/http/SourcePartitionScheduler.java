@@ -0,0 +1,56 @@
+package com.github.castorm.kafka.connect.http;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.timer.spi.Sleeper;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Picks the next source partition due for polling, going round-robin among those whose timer already elapsed so no
+ * partition is starved, and sleeping until the earliest one becomes due otherwise.
+ */
+@RequiredArgsConstructor
+class SourcePartitionScheduler {
+
+    private final List<HttpSourcePartition> partitions;
+
+    private final Sleeper sleeper;
+
+    private int lastIndex = -1;
+
+    HttpSourcePartition next() throws InterruptedException {
+        while (true) {
+            long earliestMillis = Long.MAX_VALUE;
+            for (int i = 1; i <= partitions.size(); i++) {
+                int index = (lastIndex + i) % partitions.size();
+                long remainingMillis = partitions.get(index).getRemainingMillis();
+                if (remainingMillis <= 0) {
+                    lastIndex = index;
+                    return partitions.get(index);
+                }
+                earliestMillis = Math.min(earliestMillis, remainingMillis);
+            }
+            sleeper.sleep(earliestMillis);
+        }
+    }
+}
@@ -22,44 +22,79 @@ package com.github.castorm.kafka.connect.http.ack;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static com.github.castorm.kafka.connect.common.CollectionUtils.toLinkedHashMap;
-import static java.util.function.Function.identity;
-
+/**
+ * Tracks which of a batch of offsets have been confirmed, by their position in the batch. Offsets are told apart by
+ * identity, as they're the very same instances handed back on confirmation, and the low watermark only moves forward,
+ * so both confirming and reading it are constant time amortized. An instance appearing more than once in the batch
+ * confirms its positions one at a time, earliest first.
+ */
 @Slf4j
 public class ConfirmationWindow<T> {
 
-    private final LinkedHashMap<T, Boolean> confirmedOffsets;
+    private final List<T> offsets;
+
+    private final Map<T, Integer> sequences;
+
+    private final int[] nextSequences;
+
+    private final BitSet confirmed;
+
+    private int watermark;
 
     public ConfirmationWindow(List<T> offsets) {
-        confirmedOffsets = offsets.stream()
-                .collect(toLinkedHashMap(identity(), __ -> false));
+        this.offsets = new ArrayList<>(offsets);
+        this.sequences = new IdentityHashMap<>(offsets.size());
+        this.nextSequences = new int[offsets.size()];
+        for (int sequence = offsets.size() - 1; sequence >= 0; sequence--) {
+            Integer next = sequences.put(offsets.get(sequence), sequence);
+            nextSequences[sequence] = next != null ? next : -1;
+        }
+        this.confirmed = new BitSet(offsets.size());
     }
 
     public void confirm(T offset) {
-        confirmedOffsets.replace(offset, true);
+        Integer sequence = sequences.get(offset);
+        while (sequence != null && confirmed.get(sequence)) {
+            sequence = next(offset, sequence);
+        }
+        if (sequence != null) {
+            next(offset, sequence);
+            confirm(sequence);
+        }
+    }
 
-        log.debug("Confirmed offset {}", offset);
+    private Integer next(T offset, int sequence) {
+        int next = nextSequences[sequence];
+        if (next < 0) {
+            sequences.remove(offset);
+            return null;
+        }
+        sequences.put(offset, next);
+        return next;
     }
 
-    public Optional<T> getLowWatermarkOffset() {
-        T offset = null;
-        for (Map.Entry<T, Boolean> offsetEntry : confirmedOffsets.entrySet()) {
-            Boolean offsetWasConfirmed = offsetEntry.getValue();
-            T sourceOffset = offsetEntry.getKey();
-            if (offsetWasConfirmed) {
-                offset = sourceOffset;
-            } else {
-                log.warn("Found unconfirmed offset {}. Will resume polling from previous offset. " +
-                        "This might result in a number of duplicated records.", sourceOffset);
-                break;
-            }
+    public void confirm(int sequence) {
+        if (sequence < 0 || sequence >= offsets.size()) {
+            return;
         }
+        confirmed.set(sequence);
+        watermark = confirmed.nextClearBit(watermark);
 
-        return Optional.ofNullable(offset);
+        log.debug("Confirmed offset {}", offsets.get(sequence));
+    }
+
+    public Optional<T> getLowWatermarkOffset() {
+        if (watermark < offsets.size()) {
+            log.warn("Found unconfirmed offset {}. Will resume polling from previous offset. " +
+                    "This might result in a number of duplicated records.", offsets.get(watermark));
+        }
+        return watermark > 0 ? Optional.of(offsets.get(watermark - 1)) : Optional.empty();
     }
 }
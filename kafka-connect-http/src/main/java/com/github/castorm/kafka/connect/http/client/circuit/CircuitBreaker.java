@@ -0,0 +1,161 @@
+package com.github.castorm.kafka.connect.http.client.circuit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreaker.State.CLOSED;
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreaker.State.HALF_OPEN;
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreaker.State.OPEN;
+
+/**
+ * Tracks the outcome of the latest calls to an endpoint in a rolling window, opening once the rate of failed or slow
+ * calls reaches its threshold. After a while open, it lets a few trial calls through, closing if all of them succeed
+ * and opening again otherwise.
+ */
+@Slf4j
+class CircuitBreaker {
+
+    private final String endpoint;
+
+    private final Settings settings;
+
+    private final boolean[] failed;
+
+    private final boolean[] slow;
+
+    private int next;
+
+    private int calls;
+
+    private int failedCalls;
+
+    private int slowCalls;
+
+    private State state = CLOSED;
+
+    private long openedMillis;
+
+    private int trialPermits;
+
+    private int trialSuccesses;
+
+    CircuitBreaker(String endpoint, Settings settings) {
+        this.endpoint = endpoint;
+        this.settings = settings;
+        this.failed = new boolean[settings.windowSize];
+        this.slow = new boolean[settings.windowSize];
+    }
+
+    synchronized boolean tryAcquire(long nowMillis) {
+        if (state == OPEN && nowMillis - openedMillis >= settings.openMillis) {
+            transitionTo(HALF_OPEN);
+            trialPermits = settings.halfOpenCalls;
+            trialSuccesses = 0;
+        }
+        if (state == HALF_OPEN) {
+            if (trialPermits == 0) {
+                return false;
+            }
+            trialPermits--;
+            return true;
+        }
+        return state == CLOSED;
+    }
+
+    synchronized void record(boolean failure, long latencyMillis, long nowMillis) {
+        boolean tooSlow = latencyMillis >= settings.slowCallMillis;
+        if (state == HALF_OPEN) {
+            if (failure || tooSlow) {
+                open(nowMillis);
+            } else if (++trialSuccesses >= settings.halfOpenCalls) {
+                clearWindow();
+                transitionTo(CLOSED);
+            }
+        } else if (state == CLOSED) {
+            addToWindow(failure, tooSlow);
+            if (calls >= settings.minCalls
+                    && (failedCalls >= settings.failureRateThreshold * calls || slowCalls >= settings.slowCallRateThreshold * calls)) {
+                open(nowMillis);
+            }
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void addToWindow(boolean failure, boolean tooSlow) {
+        if (calls == failed.length) {
+            failedCalls -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        failed[next] = failure;
+        slow[next] = tooSlow;
+        failedCalls += failure ? 1 : 0;
+        slowCalls += tooSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+    }
+
+    private void clearWindow() {
+        next = 0;
+        calls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+    }
+
+    private void open(long nowMillis) {
+        openedMillis = nowMillis;
+        transitionTo(OPEN);
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.info("Circuit to {} went from {} to {}", endpoint, state, newState);
+            state = newState;
+        }
+    }
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @RequiredArgsConstructor
+    static class Settings {
+
+        private final int windowSize;
+
+        private final int minCalls;
+
+        private final double failureRateThreshold;
+
+        private final long slowCallMillis;
+
+        private final double slowCallRateThreshold;
+
+        private final long openMillis;
+
+        private final int halfOpenCalls;
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.castorm.kafka.connect.http.client.circuit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Guards each endpoint of a delegate client with a {@link CircuitBreaker}, failing fast with a
+ * {@link CircuitOpenException} while it's open instead of tying up a thread until the request times out.
+ */
+public class CircuitBreakerHttpClient implements HttpClient {
+
+    private final Function<Map<String, ?>, CircuitBreakerHttpClientConfig> configFactory;
+
+    private final Supplier<Long> clock;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private HttpClient delegate;
+
+    private CircuitBreaker.Settings settings;
+
+    public CircuitBreakerHttpClient() {
+        this(CircuitBreakerHttpClientConfig::new, System::currentTimeMillis);
+    }
+
+    CircuitBreakerHttpClient(Function<Map<String, ?>, CircuitBreakerHttpClientConfig> configFactory, Supplier<Long> clock) {
+        this.configFactory = configFactory;
+        this.clock = clock;
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        CircuitBreakerHttpClientConfig config = configFactory.apply(settings);
+        delegate = config.getDelegateClient();
+        this.settings = new CircuitBreaker.Settings(
+                config.getWindowSize(),
+                config.getMinCalls(),
+                config.getFailureRateThreshold(),
+                config.getSlowCallMillis(),
+                config.getSlowCallRateThreshold(),
+                config.getOpenMillis(),
+                config.getHalfOpenCalls());
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        CircuitBreaker breaker = acquire(request);
+        long startMillis = clock.get();
+        try {
+            HttpResponse response = delegate.execute(request);
+            record(breaker, isFailure(response.getCode()), startMillis);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(breaker, true, startMillis);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        CircuitBreaker breaker;
+        try {
+            breaker = acquire(request);
+        } catch (CircuitOpenException e) {
+            CompletableFuture<HttpResponse> open = new CompletableFuture<>();
+            open.completeExceptionally(e);
+            return open;
+        }
+        long startMillis = clock.get();
+        return delegate.executeAsync(request).whenComplete((response, error) ->
+                record(breaker, error != null || isFailure(response.getCode()), startMillis));
+    }
+
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        CircuitBreaker breaker = acquire(request);
+        long startMillis = clock.get();
+        try {
+            StreamingHttpResponse response = delegate.executeStreaming(request);
+            record(breaker, isFailure(response.getCode()), startMillis);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(breaker, true, startMillis);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private CircuitBreaker acquire(HttpRequest request) throws CircuitOpenException {
+        String endpoint = endpointOf(request.getUrl());
+        CircuitBreaker breaker = breakers.computeIfAbsent(endpoint, __ -> new CircuitBreaker(endpoint, settings));
+        if (!breaker.tryAcquire(clock.get())) {
+            throw new CircuitOpenException(endpoint);
+        }
+        return breaker;
+    }
+
+    private void record(CircuitBreaker breaker, boolean failure, long startMillis) {
+        long nowMillis = clock.get();
+        breaker.record(failure, nowMillis - startMillis, nowMillis);
+    }
+
+    private static boolean isFailure(Integer code) {
+        return code != null && code >= 500;
+    }
+
+    private static String endpointOf(String url) {
+        try {
+            URI uri = new URI(url);
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (URISyntaxException e) {
+            return url;
+        }
+    }
+}
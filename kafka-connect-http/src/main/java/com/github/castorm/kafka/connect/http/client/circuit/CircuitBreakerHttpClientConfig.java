@@ -0,0 +1,92 @@
+package com.github.castorm.kafka.connect.http.client.circuit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Range.between;
+import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.DOUBLE;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
+
+@Getter
+public class CircuitBreakerHttpClientConfig extends AbstractConfig {
+
+    private static final String CLIENT_DELEGATE = "http.client.circuit.client";
+    private static final String WINDOW_SIZE = "http.client.circuit.window.size";
+    private static final String MIN_CALLS = "http.client.circuit.min.calls";
+    private static final String FAILURE_RATE_THRESHOLD = "http.client.circuit.failure.rate.threshold";
+    private static final String SLOW_CALL_MILLIS = "http.client.circuit.slow.call.millis";
+    private static final String SLOW_CALL_RATE_THRESHOLD = "http.client.circuit.slow.call.rate.threshold";
+    private static final String OPEN_MILLIS = "http.client.circuit.open.millis";
+    private static final String HALF_OPEN_CALLS = "http.client.circuit.half.open.calls";
+
+    private final HttpClient delegateClient;
+
+    private final Integer windowSize;
+
+    private final Integer minCalls;
+
+    private final Double failureRateThreshold;
+
+    private final Long slowCallMillis;
+
+    private final Double slowCallRateThreshold;
+
+    private final Long openMillis;
+
+    private final Integer halfOpenCalls;
+
+    public CircuitBreakerHttpClientConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        delegateClient = getConfiguredInstance(CLIENT_DELEGATE, HttpClient.class);
+        windowSize = getInt(WINDOW_SIZE);
+        minCalls = Math.min(getInt(MIN_CALLS), windowSize);
+        failureRateThreshold = getDouble(FAILURE_RATE_THRESHOLD);
+        slowCallMillis = getLong(SLOW_CALL_MILLIS);
+        slowCallRateThreshold = getDouble(SLOW_CALL_RATE_THRESHOLD);
+        openMillis = getLong(OPEN_MILLIS);
+        halfOpenCalls = getInt(HALF_OPEN_CALLS);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CLIENT_DELEGATE, CLASS, OkHttpClient.class, HIGH, "Request Client Delegate Class")
+                .define(WINDOW_SIZE, INT, 20, atLeast(1), MEDIUM, "Number of latest calls per endpoint the rates are computed over")
+                .define(MIN_CALLS, INT, 10, atLeast(1), LOW, "Calls in the window needed before the circuit can open")
+                .define(FAILURE_RATE_THRESHOLD, DOUBLE, 0.5, between(0, 1), MEDIUM, "Rate of I/O errors and 5xx responses opening the circuit")
+                .define(SLOW_CALL_MILLIS, LONG, 10000L, atLeast(0), LOW, "Latency from which a call is considered slow")
+                .define(SLOW_CALL_RATE_THRESHOLD, DOUBLE, 1.0, between(0, 1), LOW, "Rate of slow calls opening the circuit")
+                .define(OPEN_MILLIS, LONG, 30000L, atLeast(0), MEDIUM, "Time the circuit stays open before letting trial calls through")
+                .define(HALF_OPEN_CALLS, INT, 3, atLeast(1), LOW, "Trial calls that have to succeed to close the circuit again");
+    }
+}
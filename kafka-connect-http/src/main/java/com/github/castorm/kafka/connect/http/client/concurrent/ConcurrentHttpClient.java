@@ -0,0 +1,174 @@
+package com.github.castorm.kafka.connect.http.client.concurrent;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Runs the blocking requests of a delegate client on an executor, virtual threads when available, capping the
+ * requests in flight to each endpoint.
+ */
+@RequiredArgsConstructor
+public class ConcurrentHttpClient implements HttpClient {
+
+    private final Function<Map<String, ?>, ConcurrentHttpClientConfig> configFactory;
+
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+
+    private HttpClient delegate;
+
+    private ExecutorService executor;
+
+    private int maxInFlight;
+
+    public ConcurrentHttpClient() {
+        this(ConcurrentHttpClientConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        ConcurrentHttpClientConfig config = configFactory.apply(settings);
+        delegate = config.getDelegateClient();
+        executor = RequestExecutors.create(config.getVirtualThreads(), config.getPoolSize());
+        maxInFlight = config.getMaxInFlight();
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        Semaphore permits = acquire(request.getUrl());
+        try {
+            return delegate.execute(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Holds the request slot until the response is closed, as its body is still being read from the endpoint.
+     */
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        Semaphore permits = acquire(request.getUrl());
+        try {
+            StreamingHttpResponse response = delegate.executeStreaming(request);
+            return StreamingHttpResponse.builder()
+                    .code(response.getCode())
+                    .body(new PermitReleasingInputStream(response.getBody(), permits))
+                    .headers(response.getHeaders())
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return execute(request);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<HttpResponse> closed = new CompletableFuture<>();
+            closed.completeExceptionally(new IOException("Client closed", e));
+            return closed;
+        }
+    }
+
+    /**
+     * Shuts the executor down, letting the requests already submitted finish, so its threads don't outlive the task.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        delegate.close();
+    }
+
+    private Semaphore acquire(String url) throws IOException {
+        Semaphore permits = permitsFor(url);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for a request slot", e);
+        }
+        return permits;
+    }
+
+    private Semaphore permitsFor(String url) {
+        return endpointPermits.computeIfAbsent(endpointOf(url), __ -> new Semaphore(maxInFlight, true));
+    }
+
+    private static String endpointOf(String url) {
+        try {
+            URI uri = new URI(url);
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (URISyntaxException e) {
+            return url;
+        }
+    }
+
+    private static class PermitReleasingInputStream extends FilterInputStream {
+
+        private final Semaphore permits;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingInputStream(InputStream in, Semaphore permits) {
+            super(in);
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.castorm.kafka.connect.http.client.concurrent;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Type.BOOLEAN;
+import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+
+@Getter
+public class ConcurrentHttpClientConfig extends AbstractConfig {
+
+    private static final String CLIENT_DELEGATE = "http.client.concurrent.client";
+    private static final String VIRTUAL_THREADS = "http.client.concurrent.virtual.threads";
+    private static final String POOL_SIZE = "http.client.concurrent.pool.size";
+    private static final String MAX_IN_FLIGHT = "http.client.concurrent.endpoint.max.in.flight";
+
+    private final HttpClient delegateClient;
+
+    private final Boolean virtualThreads;
+
+    private final Integer poolSize;
+
+    private final Integer maxInFlight;
+
+    public ConcurrentHttpClientConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        delegateClient = getConfiguredInstance(CLIENT_DELEGATE, HttpClient.class);
+        virtualThreads = getBoolean(VIRTUAL_THREADS);
+        poolSize = getInt(POOL_SIZE);
+        maxInFlight = getInt(MAX_IN_FLIGHT);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CLIENT_DELEGATE, CLASS, OkHttpClient.class, HIGH, "Request Client Delegate Class")
+                .define(VIRTUAL_THREADS, BOOLEAN, true, LOW, "Run requests on virtual threads when the JVM supports them")
+                .define(POOL_SIZE, INT, 16, atLeast(1), LOW, "Size of the platform thread pool used when virtual threads are not available or disabled")
+                .define(MAX_IN_FLIGHT, INT, 5, atLeast(1), MEDIUM, "Maximum number of requests in flight per endpoint");
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import lombok.Value;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalRequestUtils.withValidators;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.GET;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.HEAD;
+
+/**
+ * Remembers the ETag and Last-Modified validators of the latest successful response to each request url, and makes
+ * the next request to it conditional on them, so unchanged responses come back as an empty {@code 304 Not Modified}.
+ */
+public class ConditionalHttpClient implements HttpClient {
+
+    private final Function<Map<String, ?>, ConditionalHttpClientConfig> configFactory;
+
+    private HttpClient delegate;
+
+    private Map<String, Validators> validators;
+
+    public ConditionalHttpClient() {
+        this(ConditionalHttpClientConfig::new);
+    }
+
+    ConditionalHttpClient(Function<Map<String, ?>, ConditionalHttpClientConfig> configFactory) {
+        this.configFactory = configFactory;
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        ConditionalHttpClientConfig config = configFactory.apply(settings);
+        delegate = config.getDelegateClient();
+        int cacheSize = config.getCacheSize();
+        validators = Collections.synchronizedMap(new LinkedHashMap<String, Validators>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validators> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        String key = keyOf(request);
+        HttpResponse response = delegate.execute(conditional(key, request));
+        remember(key, response);
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        String key = keyOf(request);
+        return delegate.executeAsync(conditional(key, request)).thenApply(response -> {
+            remember(key, response);
+            return response;
+        });
+    }
+
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        String key = keyOf(request);
+        StreamingHttpResponse response = delegate.executeStreaming(conditional(key, request));
+        remember(key, response.head());
+        return response;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private HttpRequest conditional(String key, HttpRequest request) {
+        if (request.getMethod() != GET && request.getMethod() != HEAD) {
+            return request;
+        }
+        Validators known = validators.get(key);
+        return known != null ? withValidators(request, known.getEtag(), known.getLastModified()) : request;
+    }
+
+    private void remember(String key, HttpResponse response) {
+        if (response.getCode() == null || response.getCode() < 200 || response.getCode() >= 300) {
+            return;
+        }
+        Optional<String> etag = response.getHeader("ETag");
+        Optional<String> lastModified = response.getHeader("Last-Modified");
+        if (etag.isPresent() || lastModified.isPresent()) {
+            validators.put(key, new Validators(etag, lastModified));
+        } else {
+            validators.remove(key);
+        }
+    }
+
+    private static String keyOf(HttpRequest request) {
+        return request.getUrl() + "?" + request.getQueryParams();
+    }
+
+    @Value
+    private static class Validators {
+
+        Optional<String> etag;
+
+        Optional<String> lastModified;
+    }
+}
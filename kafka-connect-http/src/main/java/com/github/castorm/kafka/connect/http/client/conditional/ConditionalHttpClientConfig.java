@@ -0,0 +1,58 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+
+@Getter
+public class ConditionalHttpClientConfig extends AbstractConfig {
+
+    private static final String CLIENT_DELEGATE = "http.client.conditional.client";
+    private static final String CACHE_SIZE = "http.client.conditional.cache.size";
+
+    private final HttpClient delegateClient;
+
+    private final Integer cacheSize;
+
+    public ConditionalHttpClientConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        delegateClient = getConfiguredInstance(CLIENT_DELEGATE, HttpClient.class);
+        cacheSize = getInt(CACHE_SIZE);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CLIENT_DELEGATE, CLASS, OkHttpClient.class, HIGH, "Request Client Delegate Class")
+                .define(CACHE_SIZE, INT, 1000, atLeast(1), LOW, "Number of request urls whose validators are remembered");
+    }
+}
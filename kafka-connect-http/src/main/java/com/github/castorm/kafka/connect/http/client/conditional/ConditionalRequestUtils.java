@@ -0,0 +1,58 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import lombok.experimental.UtilityClass;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.singletonList;
+
+@UtilityClass
+public class ConditionalRequestUtils {
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    /**
+     * Makes the request conditional on the response having changed since the one the validators came from, replacing
+     * any conditions it had.
+     */
+    public static HttpRequest withValidators(HttpRequest request, Optional<String> etag, Optional<String> lastModified) {
+        if (!etag.isPresent() && !lastModified.isPresent()) {
+            return request;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        request.getHeaders().forEach((name, values) -> {
+            if (!IF_NONE_MATCH.equalsIgnoreCase(name) && !IF_MODIFIED_SINCE.equalsIgnoreCase(name)) {
+                headers.put(name, values);
+            }
+        });
+        etag.ifPresent(it -> headers.put(IF_NONE_MATCH, singletonList(it)));
+        lastModified.ifPresent(it -> headers.put(IF_MODIFIED_SINCE, singletonList(it)));
+        return request.toBuilder().headers(headers).build();
+    }
+}
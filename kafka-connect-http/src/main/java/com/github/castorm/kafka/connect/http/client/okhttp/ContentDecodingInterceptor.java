@@ -0,0 +1,81 @@
+package com.github.castorm.kafka.connect.http.client.okhttp;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+import static okio.Okio.buffer;
+import static okio.Okio.source;
+
+/**
+ * Negotiates the content codings the client can decode, and decodes response bodies as they are read, so they never
+ * need to be decompressed into memory all at once. Sending Accept-Encoding also opts out of OkHttp's transparent gzip.
+ */
+class ContentDecodingInterceptor implements Interceptor {
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private final String acceptEncoding;
+
+    ContentDecodingInterceptor(List<ContentEncoding> encodings) {
+        this.acceptEncoding = encodings.isEmpty() ? ContentEncoding.IDENTITY.token() : encodings.stream()
+                .map(ContentEncoding::token)
+                .collect(joining(", "));
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.header(ACCEPT_ENCODING) == null) {
+            request = request.newBuilder().header(ACCEPT_ENCODING, acceptEncoding).build();
+        }
+        Response response = chain.proceed(request);
+        String contentEncoding = response.header(CONTENT_ENCODING);
+        ResponseBody body = response.body();
+        if (contentEncoding == null || body == null) {
+            return response;
+        }
+        try {
+            BufferedSource source = body.source();
+            ResponseBody decoded = source.exhausted()
+                    ? ResponseBody.create(new byte[0], body.contentType())
+                    : ResponseBody.create(buffer(source(ContentEncoding.decode(contentEncoding, source.inputStream()))), body.contentType(), -1L);
+            return response.newBuilder()
+                    .removeHeader(CONTENT_ENCODING)
+                    .removeHeader(CONTENT_LENGTH)
+                    .body(decoded)
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+}
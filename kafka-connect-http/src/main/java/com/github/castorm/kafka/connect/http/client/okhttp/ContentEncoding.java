@@ -0,0 +1,90 @@
+package com.github.castorm.kafka.connect.http.client.okhttp;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
+
+/**
+ * Content codings a response body can be decoded from, decompressing it as it is read rather than all at once.
+ */
+public enum ContentEncoding {
+
+    GZIP {
+        @Override
+        InputStream decode(InputStream body) throws IOException {
+            return new GZIPInputStream(body, BUFFER_SIZE);
+        }
+    },
+    DEFLATE {
+        @Override
+        InputStream decode(InputStream body) {
+            return new InflaterInputStream(body);
+        }
+    },
+    ZSTD {
+        @Override
+        InputStream decode(InputStream body) throws IOException {
+            return new ZstdInputStream(body);
+        }
+    },
+    IDENTITY {
+        @Override
+        InputStream decode(InputStream body) {
+            return body;
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    abstract InputStream decode(InputStream body) throws IOException;
+
+    String token() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Undoes the codings listed in a Content-Encoding header, in the reverse order they were applied.
+     */
+    static InputStream decode(String contentEncoding, InputStream body) throws IOException {
+        List<String> codings = breakDownList(contentEncoding);
+        InputStream decoded = body;
+        for (int i = codings.size() - 1; i >= 0; i--) {
+            decoded = of(codings.get(i)).decode(decoded);
+        }
+        return decoded;
+    }
+
+    private static ContentEncoding of(String coding) throws IOException {
+        try {
+            return valueOf(coding.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Unsupported Content-Encoding '%s'", coding));
+        }
+    }
+}
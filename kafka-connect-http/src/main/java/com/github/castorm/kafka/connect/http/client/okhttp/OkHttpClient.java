@@ -24,22 +24,27 @@ import com.github.castorm.kafka.connect.http.auth.spi.HttpAuthenticator;
 import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
 import com.github.castorm.kafka.connect.http.model.HttpRequest;
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.Authenticator;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.HttpUrl;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 
+import javax.net.SocketFactory;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -55,6 +60,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static java.net.Proxy.NO_PROXY;
 import static java.net.Proxy.Type.HTTP;
@@ -83,13 +89,21 @@ public class OkHttpClient implements HttpClient {
 
         authenticator = config.getAuthenticator();
 
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
         okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder()
                 .connectionPool(new ConnectionPool(config.getMaxIdleConnections(), config.getKeepAliveDuration(), MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(config.getProtocols())
+                .socketFactory(new BufferSizingSocketFactory(SocketFactory.getDefault(), config.getSocketSendBufferBytes(), config.getSocketReceiveBufferBytes()))
                 .connectTimeout(config.getConnectionTimeoutMillis(), MILLISECONDS)
                 .readTimeout(config.getReadTimeoutMillis(), MILLISECONDS)
                 .retryOnConnectionFailure(true)
                 .addInterceptor(createLoggingInterceptor())
                 .addInterceptor(chain -> chain.proceed(authorize(chain.request())))
+                .addInterceptor(new ContentDecodingInterceptor(config.getAcceptEncodings()))
                 .authenticator((route, response) -> authorize(response.request()))
                 .proxy(resolveProxy(config.getProxyHost(), config.getProxyPort()))
                 .proxyAuthenticator(resolveProxyAuthenticator(config.getProxyUsername(), config.getProxyPassword()));
@@ -190,6 +204,53 @@ public class OkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest httpRequest) throws IOException {
+
+        Request request = mapHttpRequest(httpRequest);
+
+        Response response = client.newCall(request).execute();
+
+        return StreamingHttpResponse.builder()
+                .code(response.code())
+                .body(response.body() != null ? response.body().byteStream() : new ByteArrayInputStream(new byte[0]))
+                .headers(response.headers().toMultimap())
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest httpRequest) {
+
+        Request request = mapHttpRequest(httpRequest);
+
+        Call call = client.newCall(request);
+
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response closeableResponse = response) {
+                    future.complete(mapHttpResponse(closeableResponse));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        return future;
+    }
+
     private static Request mapHttpRequest(HttpRequest request) {
         Request.Builder builder = new Request.Builder();
         builder.url(mapUrl(request.getUrl(), request.getQueryParams()));
@@ -23,14 +23,23 @@ package com.github.castorm.kafka.connect.http.client.okhttp;
 import com.github.castorm.kafka.connect.http.auth.ConfigurableHttpAuthenticator;
 import com.github.castorm.kafka.connect.http.auth.spi.HttpAuthenticator;
 import lombok.Getter;
+import okhttp3.Protocol;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.types.Password;
 
+import java.util.List;
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
+import static java.util.stream.Collectors.toList;
+import static okhttp3.Protocol.H2_PRIOR_KNOWLEDGE;
+import static okhttp3.Protocol.HTTP_1_1;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
 import static org.apache.kafka.common.config.ConfigDef.Type.INT;
 import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
@@ -44,6 +53,12 @@ public class OkHttpClientConfig extends AbstractConfig {
     private static final String READ_TIMEOUT_MILLIS = "http.client.read.timeout.millis";
     private static final String CONNECTION_KEEP_ALIVE_DURATION_MILLIS = "http.client.ttl.millis";
     private static final String CONNECTION_MAX_IDLE = "http.client.max-idle";
+    private static final String PROTOCOLS = "http.client.protocols";
+    private static final String MAX_REQUESTS = "http.client.max.requests";
+    private static final String MAX_REQUESTS_PER_HOST = "http.client.max.requests.per.host";
+    private static final String SOCKET_SEND_BUFFER_BYTES = "http.client.socket.send.buffer.bytes";
+    private static final String SOCKET_RECEIVE_BUFFER_BYTES = "http.client.socket.receive.buffer.bytes";
+    private static final String ACCEPT_ENCODING = "http.client.accept.encoding";
     private static final String AUTHENTICATOR = "http.auth";
     private static final String PROXY_HOST = "http.client.proxy.host";
     private static final String PROXY_PORT = "http.client.proxy.port";
@@ -56,6 +71,12 @@ public class OkHttpClientConfig extends AbstractConfig {
     private final Long readTimeoutMillis;
     private final Long keepAliveDuration;
     private final Integer maxIdleConnections;
+    private final List<Protocol> protocols;
+    private final Integer maxRequests;
+    private final Integer maxRequestsPerHost;
+    private final Integer socketSendBufferBytes;
+    private final Integer socketReceiveBufferBytes;
+    private final List<ContentEncoding> acceptEncodings;
     private final HttpAuthenticator authenticator;
     private final String proxyHost;
     private final Integer proxyPort;
@@ -70,6 +91,12 @@ public class OkHttpClientConfig extends AbstractConfig {
         readTimeoutMillis = getLong(READ_TIMEOUT_MILLIS);
         keepAliveDuration = getLong(CONNECTION_KEEP_ALIVE_DURATION_MILLIS);
         maxIdleConnections = getInt(CONNECTION_MAX_IDLE);
+        protocols = parseProtocols(getString(PROTOCOLS));
+        maxRequests = getInt(MAX_REQUESTS);
+        maxRequestsPerHost = getInt(MAX_REQUESTS_PER_HOST);
+        socketSendBufferBytes = getInt(SOCKET_SEND_BUFFER_BYTES);
+        socketReceiveBufferBytes = getInt(SOCKET_RECEIVE_BUFFER_BYTES);
+        acceptEncodings = parseEnums(ACCEPT_ENCODING, getString(ACCEPT_ENCODING), ContentEncoding.class);
         authenticator = getConfiguredInstance(AUTHENTICATOR, HttpAuthenticator.class);
         proxyHost = getString(PROXY_HOST);
         proxyPort = getInt(PROXY_PORT);
@@ -84,7 +111,13 @@ public class OkHttpClientConfig extends AbstractConfig {
                 .define(CONNECTION_TIMEOUT_MILLIS, LONG, 2000, HIGH, "Connection Timeout Millis")
                 .define(READ_TIMEOUT_MILLIS, LONG, 2000, HIGH, "Read Timeout Millis")
                 .define(CONNECTION_KEEP_ALIVE_DURATION_MILLIS, LONG, 300000, HIGH, "Keep Alive Duration Millis")
-                .define(CONNECTION_MAX_IDLE, INT, 1, HIGH, "Max Idle Connections")
+                .define(CONNECTION_MAX_IDLE, INT, 5, HIGH, "Max Idle Connections")
+                .define(PROTOCOLS, STRING, "HTTP_2,HTTP_1_1", MEDIUM, "Protocols, comma separated")
+                .define(MAX_REQUESTS, INT, 64, atLeast(1), MEDIUM, "Max Concurrent Requests")
+                .define(MAX_REQUESTS_PER_HOST, INT, 5, atLeast(1), MEDIUM, "Max Concurrent Requests per Host")
+                .define(SOCKET_SEND_BUFFER_BYTES, INT, 0, atLeast(0), LOW, "Socket Send Buffer Bytes")
+                .define(SOCKET_RECEIVE_BUFFER_BYTES, INT, 0, atLeast(0), LOW, "Socket Receive Buffer Bytes")
+                .define(ACCEPT_ENCODING, STRING, "gzip", MEDIUM, "Accepted Content Encodings, comma separated")
                 .define(AUTHENTICATOR, CLASS, ConfigurableHttpAuthenticator.class, MEDIUM, "Custom Authenticator")
                 .define(PROXY_HOST, STRING, "", MEDIUM, "Proxy host")
                 .define(PROXY_PORT, INT, 3128, MEDIUM, "Proxy port")
@@ -94,4 +127,24 @@ public class OkHttpClientConfig extends AbstractConfig {
                 .define(KEYSTORE_PASSWORD, PASSWORD, "", MEDIUM, "Keystore password")
                 ;
     }
+
+    private static List<Protocol> parseProtocols(String value) {
+        List<Protocol> protocols = parseEnums(PROTOCOLS, value, Protocol.class);
+        if (protocols.contains(H2_PRIOR_KNOWLEDGE) ? protocols.size() > 1 : !protocols.contains(HTTP_1_1)) {
+            throw new ConfigException(PROTOCOLS, value, "Either H2_PRIOR_KNOWLEDGE alone, or protocols including HTTP_1_1");
+        }
+        return protocols;
+    }
+
+    private static <T extends Enum<T>> List<T> parseEnums(String key, String value, Class<T> type) {
+        return breakDownList(value).stream()
+                .map(name -> {
+                    try {
+                        return Enum.valueOf(type, name.toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        throw new ConfigException(key, value, "Unknown " + type.getSimpleName() + ": " + name);
+                    }
+                })
+                .collect(toList());
+    }
 }
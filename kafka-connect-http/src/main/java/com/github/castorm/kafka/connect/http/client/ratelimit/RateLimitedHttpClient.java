@@ -0,0 +1,109 @@
+package com.github.castorm.kafka.connect.http.client.ratelimit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.github.castorm.kafka.connect.timer.TokenBucketThrottler;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Paces every request of a delegate client through a single {@link TokenBucketThrottler}, feeding it back the rate
+ * limit headers of each response.
+ */
+@RequiredArgsConstructor
+public class RateLimitedHttpClient implements HttpClient {
+
+    private final Function<Map<String, ?>, RateLimitedHttpClientConfig> configFactory;
+
+    private final Function<RateLimitedHttpClientConfig, TokenBucketThrottler> throttlerFactory;
+
+    private HttpClient delegate;
+
+    private TokenBucketThrottler throttler;
+
+    public RateLimitedHttpClient() {
+        this(RateLimitedHttpClientConfig::new, config -> new TokenBucketThrottler(config.getPermitsPerSecond(), config.getBurst(), config.getMaxPauseMillis()));
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        RateLimitedHttpClientConfig config = configFactory.apply(settings);
+        delegate = config.getDelegateClient();
+        throttler = throttlerFactory.apply(config);
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        throttle();
+        HttpResponse response = delegate.execute(request);
+        throttler.update(response.getCode(), response.getHeaders());
+        return response;
+    }
+
+    /**
+     * Paces the caller as it hands the request to the delegate's {@link HttpClient#executeAsync}, so requests paced
+     * apart can still overlap in flight.
+     */
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        try {
+            throttle();
+        } catch (IOException e) {
+            CompletableFuture<HttpResponse> interrupted = new CompletableFuture<>();
+            interrupted.completeExceptionally(e);
+            return interrupted;
+        }
+        return delegate.executeAsync(request).thenApply(response -> {
+            throttler.update(response.getCode(), response.getHeaders());
+            return response;
+        });
+    }
+
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        throttle();
+        StreamingHttpResponse response = delegate.executeStreaming(request);
+        throttler.update(response.getCode(), response.getHeaders());
+        return response;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private void throttle() throws IOException {
+        try {
+            throttler.throttle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for the rate limit", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.castorm.kafka.connect.http.client.ratelimit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.DOUBLE;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
+
+@Getter
+public class RateLimitedHttpClientConfig extends AbstractConfig {
+
+    private static final String CLIENT_DELEGATE = "http.client.ratelimit.client";
+    private static final String PERMITS_PER_SECOND = "http.client.ratelimit.permits.per.second";
+    private static final String BURST = "http.client.ratelimit.burst";
+    private static final String MAX_PAUSE_MILLIS = "http.client.ratelimit.max.pause.millis";
+
+    private final HttpClient delegateClient;
+
+    private final Double permitsPerSecond;
+
+    private final Integer burst;
+
+    private final Long maxPauseMillis;
+
+    public RateLimitedHttpClientConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        delegateClient = getConfiguredInstance(CLIENT_DELEGATE, HttpClient.class);
+        permitsPerSecond = getDouble(PERMITS_PER_SECOND);
+        burst = getInt(BURST);
+        maxPauseMillis = getLong(MAX_PAUSE_MILLIS);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CLIENT_DELEGATE, CLASS, OkHttpClient.class, HIGH, "Request Client Delegate Class")
+                .define(PERMITS_PER_SECOND, DOUBLE, 10.0, atLeast(0.001), HIGH, "Requests per second allowed until the server reports its own quota")
+                .define(BURST, INT, 1, atLeast(1), MEDIUM, "Requests allowed in a burst after being idle")
+                .define(MAX_PAUSE_MILLIS, LONG, 300000L, atLeast(0), MEDIUM, "Longest the server can pause requests for, or spread its quota over");
+    }
+}
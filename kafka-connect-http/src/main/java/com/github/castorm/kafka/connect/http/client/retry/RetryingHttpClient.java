@@ -0,0 +1,281 @@
+package com.github.castorm.kafka.connect.http.client.retry;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.circuit.CircuitOpenException;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.github.castorm.kafka.connect.timer.spi.Sleeper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.retryAfterMillis;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Retries the requests of a delegate client on I/O errors, server errors or {@code 429}, waiting a random backoff
+ * between zero and an exponentially growing bound (full jitter), or {@code Retry-After} when the server sends one.
+ * I/O errors are only retried for the configured methods, the idempotent ones by default, as the failed request may
+ * have been processed anyway.
+ * <p>
+ * Retries are limited by a budget shared by all requests, which every request replenishes by a ratio, so a degraded
+ * server gets only a bounded share of extra load instead of every request being multiplied by the attempts.
+ * <p>
+ * Asynchronous requests are retried through the delegate's {@link HttpClient#executeAsync}, waiting on a timer instead
+ * of a thread, so they stay concurrent.
+ */
+@Slf4j
+public class RetryingHttpClient implements HttpClient {
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-retry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<Map<String, ?>, RetryingHttpClientConfig> configFactory;
+
+    private final Sleeper sleeper;
+
+    private final Supplier<Double> random;
+
+    private final Function<Long, CompletableFuture<?>> delay;
+
+    private HttpClient delegate;
+
+    private Set<RetryOn> retryOn;
+
+    private Set<HttpMethod> ioMethods;
+
+    private int maxAttempts;
+
+    private long backoffInitialMillis;
+
+    private long backoffMaxMillis;
+
+    private double budgetRatio;
+
+    private int budgetMax;
+
+    private double budget;
+
+    public RetryingHttpClient() {
+        this(RetryingHttpClientConfig::new, Thread::sleep, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RetryingHttpClient(Function<Map<String, ?>, RetryingHttpClientConfig> configFactory, Sleeper sleeper, Supplier<Double> random) {
+        this(configFactory, sleeper, random, RetryingHttpClient::schedule);
+    }
+
+    RetryingHttpClient(Function<Map<String, ?>, RetryingHttpClientConfig> configFactory, Sleeper sleeper, Supplier<Double> random, Function<Long, CompletableFuture<?>> delay) {
+        this.configFactory = configFactory;
+        this.sleeper = sleeper;
+        this.random = random;
+        this.delay = delay;
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        RetryingHttpClientConfig config = configFactory.apply(settings);
+        delegate = config.getDelegateClient();
+        retryOn = config.getRetryOn();
+        ioMethods = config.getIoMethods();
+        maxAttempts = config.getMaxAttempts();
+        backoffInitialMillis = config.getBackoffInitialMillis();
+        backoffMaxMillis = config.getBackoffMaxMillis();
+        budgetRatio = config.getBudgetRatio();
+        budgetMax = config.getBudgetMax();
+        budget = budgetMax;
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        return executeWithRetries(request, delegate::execute, HttpResponse::getCode, HttpResponse::getHeaders, RetryingHttpClient::discard);
+    }
+
+    @Override
+    public StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        return executeWithRetries(request, delegate::executeStreaming, StreamingHttpResponse::getCode, StreamingHttpResponse::getHeaders, StreamingHttpResponse::close);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        earn();
+        return executeAsyncWithRetries(request, 1);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private CompletableFuture<HttpResponse> executeAsyncWithRetries(HttpRequest request, int attempt) {
+        return delegate.executeAsync(request)
+                .handle((response, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    Optional<Long> waitMillis = cause instanceof IOException
+                            ? retryWaitOnError(request, (IOException) cause, attempt)
+                            : cause == null ? retryWaitOnResponse(request, response.getCode(), response.getHeaders(), attempt) : Optional.empty();
+                    if (waitMillis.isPresent()) {
+                        return delay.apply(waitMillis.get()).thenCompose(__ -> executeAsyncWithRetries(request, attempt + 1));
+                    }
+                    CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+                    if (cause != null) {
+                        result.completeExceptionally(cause);
+                    } else {
+                        result.complete(response);
+                    }
+                    return result;
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private <T> T executeWithRetries(HttpRequest request, Call<T> call, Function<T, Integer> code, Function<T, Map<String, List<String>>> headers, Discard<T> discard) throws IOException {
+        earn();
+        for (int attempt = 1; ; attempt++) {
+            T response;
+            try {
+                response = call.execute(request);
+            } catch (IOException e) {
+                Optional<Long> waitMillis = retryWaitOnError(request, e, attempt);
+                if (!waitMillis.isPresent()) {
+                    throw e;
+                }
+                sleep(waitMillis.get());
+                continue;
+            }
+            Optional<Long> waitMillis = retryWaitOnResponse(request, code.apply(response), headers.apply(response), attempt);
+            if (!waitMillis.isPresent()) {
+                return response;
+            }
+            discard.discard(response);
+            sleep(waitMillis.get());
+        }
+    }
+
+    /**
+     * Time to wait before retrying a request that failed, or empty when it's not to be retried. An open circuit is
+     * meant to fail fast, so it's never retried.
+     */
+    private Optional<Long> retryWaitOnError(HttpRequest request, IOException e, int attempt) {
+        if (e instanceof CircuitOpenException || !retryOn.contains(RetryOn.IO) || !ioMethods.contains(request.getMethod()) || !canRetry(attempt)) {
+            return Optional.empty();
+        }
+        log.warn("Request to {} failed, retrying: {}", request.getUrl(), e.toString());
+        return Optional.of(backoffMillis(attempt));
+    }
+
+    /**
+     * Time to wait before retrying a request that got the response, or empty when it's not to be retried.
+     */
+    private Optional<Long> retryWaitOnResponse(HttpRequest request, Integer code, Map<String, List<String>> headers, int attempt) {
+        RetryOn failure = RetryOn.of(code);
+        if (failure == null || !retryOn.contains(failure)) {
+            return Optional.empty();
+        }
+        Optional<Long> retryAfterMillis = retryAfterMillis(headers, System.currentTimeMillis());
+        if (retryAfterMillis.map(millis -> millis > backoffMaxMillis).orElse(false) || !canRetry(attempt)) {
+            return Optional.empty();
+        }
+        log.warn("Request to {} responded {}, retrying", request.getUrl(), code);
+        return Optional.of(retryAfterMillis.orElseGet(() -> backoffMillis(attempt)));
+    }
+
+    private static void discard(HttpResponse response) {
+        // Already read, nothing to release
+    }
+
+    private synchronized void earn() {
+        budget = min(budget + budgetRatio, budgetMax);
+    }
+
+    private synchronized boolean canRetry(int attempt) {
+        if (attempt >= maxAttempts || budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private long backoffMillis(int attempt) {
+        int shift = min(attempt - 1, Long.numberOfLeadingZeros(backoffInitialMillis) - 1);
+        long boundMillis = min(backoffInitialMillis << shift, backoffMaxMillis);
+        return (long) (random.get() * boundMillis);
+    }
+
+    private void sleep(long waitMillis) throws IOException {
+        try {
+            sleeper.sleep(waitMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting to retry", e);
+        }
+    }
+
+    private static CompletableFuture<?> schedule(long waitMillis) {
+        CompletableFuture<Void> elapsed = new CompletableFuture<>();
+        TIMER.schedule(() -> elapsed.complete(null), waitMillis, MILLISECONDS);
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+
+        T execute(HttpRequest request) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Discard<T> {
+
+        void discard(T response) throws IOException;
+    }
+
+    public enum RetryOn {
+        IO, SERVER_ERROR, TOO_MANY_REQUESTS;
+
+        private static RetryOn of(Integer code) {
+            if (code == null) {
+                return null;
+            } else if (code == 429) {
+                return TOO_MANY_REQUESTS;
+            } else if (code >= 500 && code < 600) {
+                return SERVER_ERROR;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.castorm.kafka.connect.http.client.retry;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod;
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
+import static java.util.stream.Collectors.toCollection;
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.DOUBLE;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
+import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
+
+@Getter
+public class RetryingHttpClientConfig extends AbstractConfig {
+
+    private static final String CLIENT_DELEGATE = "http.client.retry.client";
+    private static final String RETRY_ON = "http.client.retry.on";
+    private static final String IO_METHODS = "http.client.retry.io.methods";
+    private static final String MAX_ATTEMPTS = "http.client.retry.max.attempts";
+    private static final String BACKOFF_INITIAL_MILLIS = "http.client.retry.backoff.initial.millis";
+    private static final String BACKOFF_MAX_MILLIS = "http.client.retry.backoff.max.millis";
+    private static final String BUDGET_RATIO = "http.client.retry.budget.ratio";
+    private static final String BUDGET_MAX = "http.client.retry.budget.max";
+
+    private final HttpClient delegateClient;
+
+    private final Set<RetryOn> retryOn;
+
+    private final Set<HttpMethod> ioMethods;
+
+    private final Integer maxAttempts;
+
+    private final Long backoffInitialMillis;
+
+    private final Long backoffMaxMillis;
+
+    private final Double budgetRatio;
+
+    private final Integer budgetMax;
+
+    public RetryingHttpClientConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        delegateClient = getConfiguredInstance(CLIENT_DELEGATE, HttpClient.class);
+        retryOn = breakDownList(getString(RETRY_ON)).stream()
+                .map(value -> RetryOn.valueOf(value.toUpperCase()))
+                .collect(toCollection(() -> EnumSet.noneOf(RetryOn.class)));
+        ioMethods = breakDownList(getString(IO_METHODS)).stream()
+                .map(value -> HttpMethod.valueOf(value.toUpperCase()))
+                .collect(toCollection(() -> EnumSet.noneOf(HttpMethod.class)));
+        maxAttempts = getInt(MAX_ATTEMPTS);
+        backoffInitialMillis = getLong(BACKOFF_INITIAL_MILLIS);
+        backoffMaxMillis = getLong(BACKOFF_MAX_MILLIS);
+        budgetRatio = getDouble(BUDGET_RATIO);
+        budgetMax = getInt(BUDGET_MAX);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CLIENT_DELEGATE, CLASS, OkHttpClient.class, HIGH, "Request Client Delegate Class")
+                .define(RETRY_ON, STRING, "IO,SERVER_ERROR,TOO_MANY_REQUESTS", MEDIUM, "Failures to retry, comma separated: IO, SERVER_ERROR or TOO_MANY_REQUESTS")
+                .define(IO_METHODS, STRING, "GET,HEAD,PUT", MEDIUM, "Methods retried on I/O errors, comma separated, idempotent ones by default as the server may have processed the request")
+                .define(MAX_ATTEMPTS, INT, 3, atLeast(1), MEDIUM, "Maximum number of attempts per request, the first one included")
+                .define(BACKOFF_INITIAL_MILLIS, LONG, 100L, atLeast(0), LOW, "Upper bound of the first random backoff, doubling on every retry")
+                .define(BACKOFF_MAX_MILLIS, LONG, 10000L, atLeast(0), LOW, "Upper bound of any backoff, Retry-After included")
+                .define(BUDGET_RATIO, DOUBLE, 0.2, atLeast(0), LOW, "Retries earned by every request")
+                .define(BUDGET_MAX, INT, 10, atLeast(0), LOW, "Maximum number of retries that can be banked, and initially available");
+    }
+}
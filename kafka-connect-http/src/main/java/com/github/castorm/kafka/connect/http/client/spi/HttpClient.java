@@ -22,17 +22,58 @@ package com.github.castorm.kafka.connect.http.client.spi;
 
 import com.github.castorm.kafka.connect.http.model.HttpRequest;
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import org.apache.kafka.common.Configurable;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @FunctionalInterface
-public interface HttpClient extends Configurable {
+public interface HttpClient extends Configurable, Closeable {
 
     HttpResponse execute(HttpRequest request) throws IOException;
 
+    /**
+     * Executes the request without blocking the caller, so several requests can be kept in flight. Failures complete
+     * the future exceptionally with the {@link IOException} {@link #execute(HttpRequest)} would have thrown.
+     * <p>
+     * By default it adapts {@link #execute(HttpRequest)}, running it on the calling thread.
+     */
+    default CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(request));
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Executes the request returning as soon as the response headers are available, so its body can be consumed as it
+     * arrives. By default it adapts {@link #execute(HttpRequest)}, exposing the already buffered body as a stream.
+     */
+    default StreamingHttpResponse executeStreaming(HttpRequest request) throws IOException {
+        HttpResponse response = execute(request);
+        return StreamingHttpResponse.builder()
+                .code(response.getCode())
+                .body(new ByteArrayInputStream(response.getBody() != null ? response.getBody() : new byte[0]))
+                .headers(response.getHeaders())
+                .build();
+    }
+
     default void configure(Map<String, ?> map) {
         // Do nothing
     }
+
+    /**
+     * Releases what the client holds on to, such as threads, once the task stops. Decorators close their delegate.
+     */
+    @Override
+    default void close() {
+        // Do nothing
+    }
 }
@@ -31,7 +31,7 @@ import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod
 import static java.util.Collections.emptyMap;
 
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class HttpRequest {
 
     @Default
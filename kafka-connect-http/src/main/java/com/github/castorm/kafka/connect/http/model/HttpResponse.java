@@ -27,7 +27,9 @@ import lombok.With;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.header;
 import static java.util.Collections.emptyMap;
 
 @With
@@ -41,4 +43,11 @@ public class HttpResponse {
 
     @Default
     Map<String, List<String>> headers = emptyMap();
+
+    /**
+     * First value of the header, matching its name case-insensitively.
+     */
+    public Optional<String> getHeader(String name) {
+        return header(headers, name);
+    }
 }
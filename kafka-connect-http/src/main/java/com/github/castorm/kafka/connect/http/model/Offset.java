@@ -20,30 +20,51 @@ package com.github.castorm.kafka.connect.http.model;
  * #L%
  */
 
-import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 
+import static com.github.castorm.kafka.connect.common.HashUtils.mix64;
 import static java.util.Optional.ofNullable;
 
-@ToString
-@EqualsAndHashCode
+/**
+ * Offset properties, with the parsed timestamp and a 64-bit fingerprint of the properties cached on first use, as
+ * they're checked for every record. Equality compares fingerprints before comparing the properties themselves, leaving
+ * out the validators of the response the offset came from, which change along with the resource and not the record.
+ */
+@ToString(of = "properties")
 public class Offset {
 
     private static final String KEY_KEY = "key";
 
     private static final String TIMESTAMP_KEY = "timestamp";
 
+    private static final String ETAG_KEY = "etag";
+
+    private static final String LAST_MODIFIED_KEY = "last_modified";
+
     private final Map<String, ?> properties;
 
+    private Optional<Instant> timestamp;
+
+    private OptionalLong timestampMillis;
+
+    private long fingerprint;
+
     private Offset(Map<String, ?> properties) {
         this.properties = properties;
     }
 
+    private Offset(Map<String, ?> properties, Instant timestamp) {
+        this.properties = properties;
+        this.timestamp = Optional.of(timestamp);
+    }
+
     public static Offset of(Map<String, ?> properties) {
         return new Offset(properties);
     }
@@ -58,7 +79,7 @@ public class Offset {
         Map<String, Object> props = new HashMap<>(properties);
         props.put(KEY_KEY, key);
         props.put(TIMESTAMP_KEY, timestamp.toString());
-        return new Offset(props);
+        return new Offset(props, timestamp);
     }
 
     public Map<String, ?> toMap() {
@@ -69,7 +90,124 @@ public class Offset {
         return ofNullable((String) properties.get(KEY_KEY));
     }
 
+    public Optional<String> getETag() {
+        return ofNullable((String) properties.get(ETAG_KEY));
+    }
+
+    public Optional<String> getLastModified() {
+        return ofNullable((String) properties.get(LAST_MODIFIED_KEY));
+    }
+
+    /**
+     * Copy of this offset remembering the validators of the response it came from, for conditional requests.
+     */
+    public Offset withValidators(Optional<String> etag, Optional<String> lastModified) {
+        Map<String, Object> props = new HashMap<>(properties);
+        etag.ifPresent(it -> props.put(ETAG_KEY, it));
+        lastModified.ifPresent(it -> props.put(LAST_MODIFIED_KEY, it));
+        return new Offset(props);
+    }
+
+    public Offset withoutValidators() {
+        return new Offset(identityOf(properties));
+    }
+
     public Optional<Instant> getTimestamp() {
-        return ofNullable((String) properties.get(TIMESTAMP_KEY)).map(Instant::parse);
+        Optional<Instant> timestamp = this.timestamp;
+        if (timestamp == null) {
+            timestamp = ofNullable((String) properties.get(TIMESTAMP_KEY)).map(Instant::parse);
+            this.timestamp = timestamp;
+        }
+        return timestamp;
+    }
+
+    public OptionalLong getTimestampMillis() {
+        OptionalLong timestampMillis = this.timestampMillis;
+        if (timestampMillis == null) {
+            timestampMillis = getTimestamp()
+                    .map(it -> OptionalLong.of(it.toEpochMilli()))
+                    .orElseGet(OptionalLong::empty);
+            this.timestampMillis = timestampMillis;
+        }
+        return timestampMillis;
+    }
+
+    private long fingerprint() {
+        long fingerprint = this.fingerprint;
+        if (fingerprint == 0) {
+            for (Map.Entry<String, ?> entry : properties.entrySet()) {
+                if (isValidator(entry.getKey())) {
+                    continue;
+                }
+                fingerprint += mix64(((long) Objects.hashCode(entry.getKey()) << 32)
+                        ^ (Objects.hashCode(entry.getValue()) & 0xFFFFFFFFL));
+            }
+            this.fingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Offset)) {
+            return false;
+        }
+        Offset other = (Offset) o;
+        return fingerprint() == other.fingerprint() && identityOf(properties).equals(identityOf(other.properties));
+    }
+
+    /**
+     * Whether the given offset properties are equal to this offset's, as in {@link #equals(Object)}, but reading them
+     * in place: key and timestamp are compared first, and no fingerprint or timestamp is computed for them.
+     */
+    public boolean matches(Map<String, ?> other) {
+        if (!Objects.equals(properties.get(KEY_KEY), other.get(KEY_KEY))
+                || !Objects.equals(properties.get(TIMESTAMP_KEY), other.get(TIMESTAMP_KEY))
+                || identitySizeOf(properties) != identitySizeOf(other)) {
+            return false;
+        }
+        for (Map.Entry<String, ?> entry : properties.entrySet()) {
+            if (isValidator(entry.getKey())) {
+                continue;
+            }
+            Object value = other.get(entry.getKey());
+            if (!Objects.equals(entry.getValue(), value) || value == null && !other.containsKey(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int identitySizeOf(Map<String, ?> properties) {
+        int size = properties.size();
+        if (properties.containsKey(ETAG_KEY)) {
+            size--;
+        }
+        if (properties.containsKey(LAST_MODIFIED_KEY)) {
+            size--;
+        }
+        return size;
+    }
+
+    private static Map<String, ?> identityOf(Map<String, ?> properties) {
+        if (!properties.containsKey(ETAG_KEY) && !properties.containsKey(LAST_MODIFIED_KEY)) {
+            return properties;
+        }
+        Map<String, Object> identity = new HashMap<>(properties);
+        identity.remove(ETAG_KEY);
+        identity.remove(LAST_MODIFIED_KEY);
+        return identity;
+    }
+
+    private static boolean isValidator(String key) {
+        return ETAG_KEY.equals(key) || LAST_MODIFIED_KEY.equals(key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
     }
 }
@@ -0,0 +1,78 @@
+package com.github.castorm.kafka.connect.http.model;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Response whose body is read as it arrives. It has to be closed to release the underlying connection.
+ */
+@Value
+@Builder
+public class StreamingHttpResponse implements Closeable {
+
+    Integer code;
+
+    InputStream body;
+
+    @Default
+    Map<String, List<String>> headers = emptyMap();
+
+    /**
+     * Status code and headers as a {@link HttpResponse} without a body, leaving the body unread.
+     */
+    public HttpResponse head() {
+        return HttpResponse.builder().code(code).headers(headers).build();
+    }
+
+    /**
+     * Reads the remaining body into a fully-buffered {@link HttpResponse}.
+     */
+    public HttpResponse buffer() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            bytes.write(chunk, 0, read);
+        }
+        return HttpResponse.builder()
+                .code(code)
+                .body(bytes.toByteArray())
+                .headers(headers)
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
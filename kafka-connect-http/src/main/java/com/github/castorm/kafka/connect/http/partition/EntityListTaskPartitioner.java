@@ -0,0 +1,57 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+
+@RequiredArgsConstructor
+public class EntityListTaskPartitioner implements TaskPartitioner {
+
+    private static final String ENTITY_KEY = "entity";
+
+    private final Function<Map<String, ?>, EntityListTaskPartitionerConfig> configFactory;
+
+    private List<String> entities;
+
+    public EntityListTaskPartitioner() {
+        this(EntityListTaskPartitionerConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        entities = configFactory.apply(settings).getEntities();
+    }
+
+    @Override
+    public List<Map<String, String>> partition(int maxTasks) {
+        return entities.stream()
+                .map(entity -> singletonMap(ENTITY_KEY, entity))
+                .collect(toList());
+    }
+}
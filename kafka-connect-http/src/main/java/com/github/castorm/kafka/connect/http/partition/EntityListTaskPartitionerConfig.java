@@ -0,0 +1,50 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
+
+@Getter
+public class EntityListTaskPartitionerConfig extends AbstractConfig {
+
+    private static final String ENTITIES = "http.task.partitioner.entities";
+
+    private final List<String> entities;
+
+    EntityListTaskPartitionerConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        entities = breakDownList(getString(ENTITIES));
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(ENTITIES, STRING, HIGH, "Comma separated list of entity ids, one source partition each");
+    }
+}
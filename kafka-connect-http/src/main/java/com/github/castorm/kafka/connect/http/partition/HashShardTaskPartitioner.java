@@ -0,0 +1,50 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+public class HashShardTaskPartitioner implements TaskPartitioner {
+
+    private static final String SHARD_KEY = "shard";
+    private static final String SHARDS_KEY = "shards";
+
+    @Override
+    public List<Map<String, String>> partition(int maxTasks) {
+        return range(0, maxTasks)
+                .mapToObj(shard -> shardPartition(shard, maxTasks))
+                .collect(toList());
+    }
+
+    private static Map<String, String> shardPartition(int shard, int shards) {
+        Map<String, String> partition = new HashMap<>();
+        partition.put(SHARD_KEY, String.valueOf(shard));
+        partition.put(SHARDS_KEY, String.valueOf(shards));
+        return partition;
+    }
+}
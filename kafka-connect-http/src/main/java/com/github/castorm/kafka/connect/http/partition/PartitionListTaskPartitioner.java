@@ -0,0 +1,53 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Source partitions listed explicitly, so that a single templated endpoint can be polled for each of them.
+ */
+@RequiredArgsConstructor
+public class PartitionListTaskPartitioner implements TaskPartitioner {
+
+    private final Function<Map<String, ?>, PartitionListTaskPartitionerConfig> configFactory;
+
+    private List<Map<String, String>> partitions;
+
+    public PartitionListTaskPartitioner() {
+        this(PartitionListTaskPartitionerConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        partitions = configFactory.apply(settings).getPartitions();
+    }
+
+    @Override
+    public List<Map<String, String>> partition(int maxTasks) {
+        return partitions;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+@RequiredArgsConstructor
+public class TimeWindowTaskPartitioner implements TaskPartitioner {
+
+    private static final String FROM_KEY = "from";
+    private static final String TO_KEY = "to";
+
+    private final Function<Map<String, ?>, TimeWindowTaskPartitionerConfig> configFactory;
+
+    private Instant from;
+
+    private Instant to;
+
+    public TimeWindowTaskPartitioner() {
+        this(TimeWindowTaskPartitionerConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        TimeWindowTaskPartitionerConfig config = configFactory.apply(settings);
+        from = config.getFrom();
+        to = config.getTo();
+    }
+
+    @Override
+    public List<Map<String, String>> partition(int maxTasks) {
+        long fromMillis = from.toEpochMilli();
+        long spanMillis = to.toEpochMilli() - fromMillis;
+        int windows = (int) min(maxTasks, spanMillis);
+        return range(0, windows)
+                .mapToObj(window -> windowPartition(
+                        Instant.ofEpochMilli(fromMillis + spanMillis * window / windows),
+                        Instant.ofEpochMilli(fromMillis + spanMillis * (window + 1) / windows)))
+                .collect(toList());
+    }
+
+    private static Map<String, String> windowPartition(Instant from, Instant to) {
+        Map<String, String> partition = new HashMap<>();
+        partition.put(FROM_KEY, from.toString());
+        partition.put(TO_KEY, to.toString());
+        return partition;
+    }
+}
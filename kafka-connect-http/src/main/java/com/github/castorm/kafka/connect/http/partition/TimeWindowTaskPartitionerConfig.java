@@ -0,0 +1,58 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
+
+@Getter
+public class TimeWindowTaskPartitionerConfig extends AbstractConfig {
+
+    private static final String WINDOW_FROM = "http.task.partitioner.window.from";
+    private static final String WINDOW_TO = "http.task.partitioner.window.to";
+
+    private final Instant from;
+
+    private final Instant to;
+
+    TimeWindowTaskPartitionerConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        from = Instant.parse(getString(WINDOW_FROM));
+        to = Instant.parse(getString(WINDOW_TO));
+        if (!from.isBefore(to)) {
+            throw new ConfigException(WINDOW_TO, to.toString(), "Window end must be after window start " + from);
+        }
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(WINDOW_FROM, STRING, HIGH, "Start of the time range to split in between tasks, ISO8601 instant, inclusive")
+                .define(WINDOW_TO, STRING, HIGH, "End of the time range to split in between tasks, ISO8601 instant, exclusive");
+    }
+}
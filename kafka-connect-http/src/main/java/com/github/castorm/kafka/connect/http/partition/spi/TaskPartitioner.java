@@ -0,0 +1,39 @@
+package com.github.castorm.kafka.connect.http.partition.spi;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.kafka.common.Configurable;
+
+import java.util.List;
+import java.util.Map;
+
+@FunctionalInterface
+public interface TaskPartitioner extends Configurable {
+
+    /**
+     * @return one source partition per task, at most {@code maxTasks} of them
+     */
+    List<Map<String, String>> partition(int maxTasks);
+
+    default void configure(Map<String, ?> map) {
+        // Do nothing
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.castorm.kafka.connect.http.pipeline;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.request.spi.PaginatedHttpRequestFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Fetches all the pages for an offset: the first one is parsed and then tells how many there are, the rest are requested
+ * concurrently through {@link HttpClient#executeAsync} keeping at most a window of them in flight, and parsed in page
+ * order as they complete, so only the window of pages is held at once. A first page yielding nothing, because it was
+ * skipped, not modified or empty, isn't counted and ends the fetch.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrentPageFetcher {
+
+    private final PaginatedHttpRequestFactory requestFactory;
+
+    public <T> List<T> fetch(HttpClient client, Offset offset, Function<HttpResponse, List<T>> parser) throws IOException {
+
+        HttpResponse firstPage = client.execute(requestFactory.createRequest(offset, 1));
+
+        List<T> records = new ArrayList<>(parser.apply(firstPage));
+        if (records.isEmpty()) {
+            return records;
+        }
+
+        int pageCount = requestFactory.getPageCount(firstPage);
+        int window = requestFactory.getPageWindow();
+
+        log.debug("Offset {} spans {} pages, fetching up to {} at once", offset.toMap(), pageCount, window);
+
+        Deque<CompletableFuture<HttpResponse>> inFlight = new ArrayDeque<>(window);
+        int nextPage = 2;
+        try {
+            while (nextPage <= pageCount || !inFlight.isEmpty()) {
+                while (nextPage <= pageCount && inFlight.size() < window) {
+                    inFlight.add(client.executeAsync(requestFactory.createRequest(offset, nextPage++)));
+                }
+                records.addAll(parser.apply(await(inFlight.remove())));
+            }
+        } finally {
+            inFlight.forEach(page -> page.cancel(true));
+        }
+        return records;
+    }
+
+    private static HttpResponse await(CompletableFuture<HttpResponse> page) throws IOException {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.castorm.kafka.connect.http.pipeline;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs a fetching stage on a background thread, buffering up to {@code depth} batches of records ahead of the
+ * consumer, so that fetching the next batch overlaps with the delivery of the previous ones.
+ */
+@Slf4j
+public class RecordPipeline {
+
+    private final Stage stage;
+
+    private final BlockingQueue<Batch> batches;
+
+    private final ExecutorService executor;
+
+    public RecordPipeline(Stage stage, int depth) {
+        this.stage = stage;
+        this.batches = new ArrayBlockingQueue<>(depth);
+        this.executor = newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-source-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        executor.execute(this::run);
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batches.put(fetch());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Pipeline stopped");
+    }
+
+    private Batch fetch() throws InterruptedException {
+        try {
+            return new Batch(stage.fetch(), null);
+        } catch (RuntimeException e) {
+            log.warn("Pipeline stage failed", e);
+            return new Batch(emptyList(), e);
+        }
+    }
+
+    /**
+     * Waits up to {@code timeoutMillis} for a batch to be ready and returns it along with any other successful batches
+     * ready at that point. A failed batch is rethrown when it's the first one to be drained.
+     */
+    public List<SourceRecord> drain(long timeoutMillis) throws InterruptedException {
+        Batch first = batches.poll(timeoutMillis, MILLISECONDS);
+        if (first == null) {
+            return emptyList();
+        }
+        List<SourceRecord> records = new ArrayList<>(first.get());
+        Batch next;
+        while ((next = batches.peek()) != null && next.failure == null) {
+            records.addAll(batches.remove().records);
+        }
+        return records;
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface Stage {
+
+        List<SourceRecord> fetch() throws InterruptedException;
+    }
+
+    private static class Batch {
+
+        private final List<SourceRecord> records;
+
+        private final RuntimeException failure;
+
+        private Batch(List<SourceRecord> records, RuntimeException failure) {
+            this.records = records;
+            this.failure = failure;
+        }
+
+        private List<SourceRecord> get() {
+            if (failure != null) {
+                throw failure;
+            }
+            return records;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.kafka.connect.data.Schema.BYTES_SCHEMA;
+import static org.apache.kafka.connect.data.Schema.OPTIONAL_STRING_SCHEMA;
+
+/**
+ * Maps the value to bytes, the ones it had in the response when parsed by
+ * {@link com.github.castorm.kafka.connect.http.response.jackson.JacksonRawKvRecordHttpResponseParser}, so it can be
+ * written as is with ByteArrayConverter.
+ */
+@RequiredArgsConstructor
+public class BytesKvSourceRecordMapper implements KvSourceRecordMapper {
+
+    private static final Schema keySchema = OPTIONAL_STRING_SCHEMA;
+
+    private static final Schema valueSchema = BYTES_SCHEMA;
+
+    private final Function<Map<String, ?>, SourceRecordMapperConfig> configFactory;
+
+    private SourceRecordMapperConfig config;
+
+    public BytesKvSourceRecordMapper() {
+        this(SourceRecordMapperConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        config = configFactory.apply(settings);
+    }
+
+    @Override
+    public SourceRecord map(KvRecord record) {
+
+        Offset offset = record.getOffset();
+        byte[] value = record.getValueBytes() != null ? record.getValueBytes() : record.getValue().getBytes(UTF_8);
+
+        return new SourceRecord(
+                config.getSourcePartition(),
+                offset.toMap(),
+                config.getTopic(),
+                null,
+                keySchema,
+                record.getKey(),
+                valueSchema,
+                value,
+                offset.getTimestampMillis().orElseGet(System::currentTimeMillis));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.github.castorm.kafka.connect.common.HashUtils.mix64;
+import static com.github.castorm.kafka.connect.common.HashUtils.xxHash64;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Filters out records whose key and timestamp were already emitted recently, remembering them across polls so that
+ * overlapping windows don't yield duplicates, while later versions of a record still go through. Optionally the key
+ * alone tells records apart. They're remembered as 64-bit hashes, within a bounded and time-expiring index.
+ */
+public class DedupRecordFilterFactory implements SourceRecordFilterFactory {
+
+    private final Function<Map<String, ?>, DedupRecordFilterFactoryConfig> configFactory;
+
+    private final SourceRecordFilterFactory delegate;
+
+    private final Supplier<Long> clock;
+
+    private RecentKeyIndex index;
+
+    private boolean keyOnly;
+
+    public DedupRecordFilterFactory() {
+        this(DedupRecordFilterFactoryConfig::new, new PassthroughRecordFilterFactory(), System::currentTimeMillis);
+    }
+
+    DedupRecordFilterFactory(Function<Map<String, ?>, DedupRecordFilterFactoryConfig> configFactory, SourceRecordFilterFactory delegate, Supplier<Long> clock) {
+        this.configFactory = configFactory;
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        DedupRecordFilterFactoryConfig config = configFactory.apply(settings);
+        index = new RecentKeyIndex(config.getCapacity(), config.getTtlMillis(), config.getBloomFilter());
+        keyOnly = config.getKeyOnly();
+        delegate.configure(settings);
+    }
+
+    @Override
+    public Predicate<SourceRecord> create(Offset offset) {
+        Predicate<SourceRecord> filter = delegate.create(offset);
+        return record -> filter.test(record) && isFirstSeen(record);
+    }
+
+    private boolean isFirstSeen(SourceRecord record) {
+        Object key = record.sourceOffset().get("key");
+        if (key == null) {
+            return true;
+        }
+        long hash = xxHash64(key.toString().getBytes(UTF_8)) ^ mix64(Objects.hashCode(record.sourcePartition()));
+        if (!keyOnly) {
+            hash = mix64(hash ^ Objects.hashCode(record.sourceOffset().get("timestamp")));
+        }
+        return index.add(hash, clock.get());
+    }
+}
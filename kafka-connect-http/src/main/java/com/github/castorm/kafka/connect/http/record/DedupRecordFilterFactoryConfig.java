@@ -0,0 +1,65 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Range.between;
+import static org.apache.kafka.common.config.ConfigDef.Type.BOOLEAN;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
+
+@Getter
+public class DedupRecordFilterFactoryConfig extends AbstractConfig {
+
+    private static final String CAPACITY = "http.record.filter.dedup.capacity";
+    private static final int MAX_CAPACITY = 1 << 24;
+    private static final String TTL_MILLIS = "http.record.filter.dedup.ttl.millis";
+    private static final String BLOOM_FILTER = "http.record.filter.dedup.bloom";
+    private static final String KEY_ONLY = "http.record.filter.dedup.key.only";
+
+    private final Integer capacity;
+    private final Long ttlMillis;
+    private final Boolean bloomFilter;
+    private final Boolean keyOnly;
+
+    DedupRecordFilterFactoryConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        capacity = getInt(CAPACITY);
+        ttlMillis = getLong(TTL_MILLIS);
+        bloomFilter = getBoolean(BLOOM_FILTER);
+        keyOnly = getBoolean(KEY_ONLY);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(CAPACITY, INT, 100000, between(1, MAX_CAPACITY), LOW, "Maximum number of recently emitted record keys remembered")
+                .define(TTL_MILLIS, LONG, 86400000L, atLeast(1), LOW, "Time after which an emitted record key is forgotten")
+                .define(BLOOM_FILTER, BOOLEAN, true, LOW, "Whether to check a Bloom filter before looking keys up")
+                .define(KEY_ONLY, BOOLEAN, false, LOW, "Whether records are told apart by their key alone, instead of by their key and timestamp");
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.github.castorm.kafka.connect.common.HashUtils.mix64;
+import static java.util.Collections.singletonMap;
+import static org.apache.kafka.connect.data.Schema.OPTIONAL_BOOLEAN_SCHEMA;
+import static org.apache.kafka.connect.data.Schema.OPTIONAL_FLOAT64_SCHEMA;
+import static org.apache.kafka.connect.data.Schema.OPTIONAL_INT64_SCHEMA;
+import static org.apache.kafka.connect.data.Schema.OPTIONAL_STRING_SCHEMA;
+import static org.apache.kafka.connect.data.SchemaBuilder.string;
+
+/**
+ * Maps the value into a Struct whose schema is inferred from the shape of its JSON, with native numeric and boolean
+ * types and nested Structs. Schemas are cached by a fingerprint of that shape, so they're only built for the first
+ * record of each shape. Values that aren't JSON objects are wrapped into a single {@code value} property.
+ */
+@RequiredArgsConstructor
+public class InferredSchemaKvSourceRecordMapper implements KvSourceRecordMapper {
+
+    private static final String KEY_FIELD_NAME = "key";
+    private static final String VALUE_FIELD_NAME = "value";
+
+    private static final long NULL_SHAPE = 1;
+    private static final long STRING_SHAPE = 2;
+    private static final long INTEGER_SHAPE = 3;
+    private static final long FLOAT_SHAPE = 4;
+    private static final long BOOLEAN_SHAPE = 5;
+    private static final long STRUCT_SHAPE = 6;
+    private static final long ARRAY_SHAPE = 7;
+    private static final long MIXED_SHAPE = 8;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Function<Map<String, ?>, SourceRecordMapperConfig> configFactory;
+
+    private SourceRecordMapperConfig config;
+
+    private Schema keySchema;
+
+    private Map<Long, Schema> valueSchemas;
+
+    public InferredSchemaKvSourceRecordMapper() {
+        this(SourceRecordMapperConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        config = configFactory.apply(settings);
+        keySchema = SchemaBuilder.struct()
+                .name("com.github.castorm.kafka.connect.http.Key").doc("Message Key")
+                .field(KEY_FIELD_NAME, string().optional().doc("HTTP Record Key").build())
+                .build();
+        int schemaCacheSize = config.getSchemaCacheSize();
+        valueSchemas = new LinkedHashMap<Long, Schema>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Schema> eldest) {
+                return size() > schemaCacheSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean readsValueMap() {
+        return true;
+    }
+
+    @Override
+    public SourceRecord map(KvRecord record) {
+
+        Offset offset = record.getOffset();
+        long timestamp = offset.getTimestampMillis().orElseGet(System::currentTimeMillis);
+
+        Struct key = new Struct(keySchema).put(KEY_FIELD_NAME, record.getKey());
+
+        Map<String, Object> fields = getFields(record);
+        Schema valueSchema = valueSchemas.computeIfAbsent(shape(fields), __ -> structSchema(fields)
+                .name("com.github.castorm.kafka.connect.http.Value").doc("Message Value")
+                .build());
+        Struct value = toStruct(fields, valueSchema);
+
+        return new SourceRecord(
+                config.getSourcePartition(),
+                offset.toMap(),
+                config.getTopic(),
+                null,
+                key.schema(),
+                key,
+                value.schema(),
+                value,
+                timestamp);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getFields(KvRecord record) {
+        if (record.getValueMap() != null) {
+            return record.getValueMap().get();
+        }
+        try {
+            Object value = objectMapper.readValue(record.getValue(), Object.class);
+            if (value instanceof Map) {
+                return (Map<String, Object>) value;
+            }
+        } catch (JsonProcessingException e) {
+            // Not JSON, kept as a string
+        }
+        return singletonMap(VALUE_FIELD_NAME, record.getValue());
+    }
+
+    private static long shape(Object value) {
+        if (value == null) {
+            return NULL_SHAPE;
+        } else if (value instanceof Map) {
+            long shape = STRUCT_SHAPE;
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+                shape = mix64(shape * 31 + field.getKey().hashCode());
+                shape = mix64(shape * 31 + shape(field.getValue()));
+            }
+            return shape;
+        } else if (value instanceof List) {
+            return mix64(ARRAY_SHAPE * 31 + itemShape((List<?>) value));
+        }
+        return scalarShape(value);
+    }
+
+    private static long scalarShape(Object value) {
+        if (isInteger(value)) {
+            return INTEGER_SHAPE;
+        } else if (value instanceof Number) {
+            return FLOAT_SHAPE;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN_SHAPE;
+        }
+        return STRING_SHAPE;
+    }
+
+    /**
+     * Shape shared by all non-null items, or mixed when they don't share one.
+     */
+    private static long itemShape(List<?> items) {
+        long itemShape = NULL_SHAPE;
+        for (Object item : items) {
+            if (item != null) {
+                long shape = shape(item);
+                if (itemShape == NULL_SHAPE) {
+                    itemShape = shape;
+                } else if (itemShape != shape) {
+                    return MIXED_SHAPE;
+                }
+            }
+        }
+        return itemShape;
+    }
+
+    private static SchemaBuilder structSchema(Map<String, Object> fields) {
+        SchemaBuilder builder = SchemaBuilder.struct();
+        fields.forEach((name, value) -> builder.field(name, schema(value)));
+        return builder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Schema schema(Object value) {
+        if (value instanceof Map) {
+            return structSchema((Map<String, Object>) value).optional().build();
+        } else if (value instanceof List) {
+            List<?> items = (List<?>) value;
+            long itemShape = itemShape(items);
+            Schema itemSchema = itemShape == NULL_SHAPE || itemShape == MIXED_SHAPE
+                    ? OPTIONAL_STRING_SCHEMA
+                    : schema(items.stream().filter(Objects::nonNull).findFirst().orElse(null));
+            return SchemaBuilder.array(itemSchema).optional().build();
+        } else if (value == null) {
+            return OPTIONAL_STRING_SCHEMA;
+        }
+        long shape = scalarShape(value);
+        if (shape == INTEGER_SHAPE) {
+            return OPTIONAL_INT64_SCHEMA;
+        } else if (shape == FLOAT_SHAPE) {
+            return OPTIONAL_FLOAT64_SCHEMA;
+        } else if (shape == BOOLEAN_SHAPE) {
+            return OPTIONAL_BOOLEAN_SCHEMA;
+        }
+        return OPTIONAL_STRING_SCHEMA;
+    }
+
+    private static Struct toStruct(Map<String, Object> fields, Schema schema) {
+        Struct struct = new Struct(schema);
+        for (Field field : schema.fields()) {
+            struct.put(field, convert(fields.get(field.name()), field.schema()));
+        }
+        return struct;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(Object value, Schema schema) {
+        if (value == null) {
+            return null;
+        }
+        switch (schema.type()) {
+            case STRUCT:
+                return toStruct((Map<String, Object>) value, schema);
+            case ARRAY:
+                List<?> items = (List<?>) value;
+                List<Object> converted = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    converted.add(convert(item, schema.valueSchema()));
+                }
+                return converted;
+            case INT64:
+                return ((Number) value).longValue();
+            case FLOAT64:
+                return ((Number) value).doubleValue();
+            case BOOLEAN:
+                return value;
+            default:
+                return value instanceof String ? value : toJson(value);
+        }
+    }
+
+    private static boolean isInteger(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    @SneakyThrows(JsonProcessingException.class)
+    private static String toJson(Object value) {
+        return objectMapper.writeValueAsString(value);
+    }
+}
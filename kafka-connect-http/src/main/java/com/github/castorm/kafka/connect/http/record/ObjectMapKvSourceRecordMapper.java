@@ -28,21 +28,16 @@ import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.connect.source.SourceRecord;
 
-import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
-import static java.util.Collections.emptyMap;
-
 @RequiredArgsConstructor
 public class ObjectMapKvSourceRecordMapper implements KvSourceRecordMapper {
 
     private static final String KEY_FIELD_NAME = "key";
     private static final String TIMESTAMP_FIELD_NAME = "timestamp";
 
-    private static Map<String, ?> sourcePartition = emptyMap();
-
     private final Function<Map<String, ?>, SourceRecordMapperConfig> configFactory;
 
     private SourceRecordMapperConfig config;
@@ -59,26 +54,28 @@ public class ObjectMapKvSourceRecordMapper implements KvSourceRecordMapper {
         config = configFactory.apply(settings);
     }
 
+    @Override
+    public boolean readsValueMap() {
+        return true;
+    }
+
     @Override
     public SourceRecord map(KvRecord record) {
 
         Offset offset = record.getOffset();
-        Long timestamp = offset.getTimestamp().map(Instant::toEpochMilli).orElseGet(System::currentTimeMillis);
+        long timestamp = offset.getTimestampMillis().orElseGet(System::currentTimeMillis);
 
         String key = record.getKey();
 
-        Map<String, Object> deserializedValue;
-        try {
-            deserializedValue = objectMapper.readValue(record.getValue().toString(), new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to deserialize record value", e);
-        }
+        Map<String, Object> deserializedValue = record.getValueMap() != null
+                ? record.getValueMap().get()
+                : deserialize(record.getValue());
 
         deserializedValue.put(KEY_FIELD_NAME, key);
         deserializedValue.put(TIMESTAMP_FIELD_NAME, timestamp);
 
         return new SourceRecord(
-                sourcePartition,
+                config.getSourcePartition(),
                 offset.toMap(),
                 config.getTopic(),
                 null,
@@ -88,4 +85,12 @@ public class ObjectMapKvSourceRecordMapper implements KvSourceRecordMapper {
                 deserializedValue,
                 timestamp);
     }
+
+    private static Map<String, Object> deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to deserialize record value", e);
+        }
+    }
 }
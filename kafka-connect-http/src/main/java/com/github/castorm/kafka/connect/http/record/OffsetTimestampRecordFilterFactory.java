@@ -25,7 +25,6 @@ import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactor
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.connect.source.SourceRecord;
 
-import java.time.Instant;
 import java.util.function.Predicate;
 
 @RequiredArgsConstructor
@@ -33,7 +32,7 @@ public class OffsetTimestampRecordFilterFactory implements SourceRecordFilterFac
 
     @Override
     public Predicate<SourceRecord> create(Offset offset) {
-        Long offsetTimestampMillis = offset.getTimestamp().map(Instant::toEpochMilli).orElse(0L);
+        long offsetTimestampMillis = offset.getTimestampMillis().orElse(0L);
         return record -> record.timestamp() > offsetTimestampMillis;
     }
 }
@@ -24,13 +24,17 @@ import com.github.castorm.kafka.connect.http.record.spi.SourceRecordSorter;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorter.OrderDirection.ASC;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorter.OrderDirection.DESC;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.reverse;
 
 @RequiredArgsConstructor
@@ -40,23 +44,33 @@ public class OrderDirectionSourceRecordSorter implements SourceRecordSorter {
 
     private OrderDirection orderDirection;
 
+    private List<String> orderFields = emptyList();
+
     public OrderDirectionSourceRecordSorter() {
         this(OrderDirectionSourceRecordSorterConfig::new);
     }
 
     @Override
     public void configure(Map<String, ?> settings) {
-        orderDirection = configFactory.apply(settings).getOrderDirection();
+        OrderDirectionSourceRecordSorterConfig config = configFactory.apply(settings);
+        orderDirection = config.getOrderDirection();
+        orderFields = config.getOrderFields();
     }
 
     @Override
     public List<SourceRecord> sort(List<SourceRecord> records) {
+        if (!orderFields.isEmpty()) {
+            return sortByFields(records, orderFields);
+        }
         return sortWithDirection(records, orderDirection);
     }
 
     private static List<SourceRecord> sortWithDirection(List<SourceRecord> records, OrderDirection direction) {
         switch (direction) {
             case DESC:
+                if (records instanceof RandomAccess) {
+                    return new ReversedList<>(records);
+                }
                 List<SourceRecord> reversed = new ArrayList<>(records);
                 reverse(reversed);
                 return reversed;
@@ -77,6 +91,98 @@ public class OrderDirectionSourceRecordSorter implements SourceRecordSorter {
         return ASC;
     }
 
+    /**
+     * Sorts ascending by the given offset properties, extracting them once per record into primitive arrays and merge
+     * sorting the record positions, so the order of records with the same values is kept. Numbers, numeric strings and
+     * ISO-8601 instants compare as longs, the latter as epoch millis, and a property having any other value in the batch
+     * compares as strings for all of it. Records missing a property sort after the ones having it.
+     */
+    private static List<SourceRecord> sortByFields(List<SourceRecord> records, List<String> fields) {
+        int size = records.size();
+        long[][] keys = new long[fields.size()][size];
+        String[][] texts = new String[fields.size()][];
+        boolean[][] missing = new boolean[fields.size()][size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            Map<String, ?> offset = records.get(i).sourceOffset();
+            for (int field = 0; field < keys.length; field++) {
+                Object value = offset.get(fields.get(field));
+                if (value == null) {
+                    missing[field][i] = true;
+                } else if (texts[field] == null) {
+                    try {
+                        keys[field][i] = toLong(value);
+                    } catch (NumberFormatException | DateTimeParseException e) {
+                        texts[field] = toTexts(records, fields.get(field));
+                    }
+                }
+            }
+            positions[i] = i;
+        }
+        mergeSort(positions, new int[size], 0, size, keys, texts, missing);
+        List<SourceRecord> sorted = new ArrayList<>(size);
+        for (int position : positions) {
+            sorted.add(records.get(position));
+        }
+        return sorted;
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        String text = String.valueOf(value).trim();
+        if (!text.isEmpty() && Character.isDigit(text.charAt(text.length() - 1))) {
+            return Long.parseLong(text);
+        }
+        return Instant.parse(text).toEpochMilli();
+    }
+
+    private static String[] toTexts(List<SourceRecord> records, String field) {
+        String[] texts = new String[records.size()];
+        for (int i = 0; i < texts.length; i++) {
+            Object value = records.get(i).sourceOffset().get(field);
+            texts[i] = value != null ? String.valueOf(value) : null;
+        }
+        return texts;
+    }
+
+    private static void mergeSort(int[] positions, int[] buffer, int from, int to, long[][] keys, String[][] texts, boolean[][] missing) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(positions, buffer, from, middle, keys, texts, missing);
+        mergeSort(positions, buffer, middle, to, keys, texts, missing);
+        if (compare(positions[middle - 1], positions[middle], keys, texts, missing) <= 0) {
+            return;
+        }
+        System.arraycopy(positions, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compare(buffer[left], buffer[right], keys, texts, missing) <= 0)) {
+                positions[i] = buffer[left++];
+            } else {
+                positions[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static int compare(int a, int b, long[][] keys, String[][] texts, boolean[][] missing) {
+        for (int field = 0; field < keys.length; field++) {
+            int result = missing[field][a] || missing[field][b]
+                    ? Boolean.compare(missing[field][a], missing[field][b])
+                    : texts[field] != null
+                    ? texts[field][a].compareTo(texts[field][b])
+                    : Long.compare(keys[field][a], keys[field][b]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
     public enum OrderDirection {
         ASC, DESC, IMPLICIT
     }
@@ -25,8 +25,10 @@ import lombok.Getter;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
 
+import java.util.List;
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
@@ -34,16 +36,20 @@ import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 public class OrderDirectionSourceRecordSorterConfig extends AbstractConfig {
 
     private static final String ORDER_DIRECTION = "http.response.list.order.direction";
+    private static final String ORDER_FIELDS = "http.response.list.order.fields";
 
     private final OrderDirection orderDirection;
+    private final List<String> orderFields;
 
     OrderDirectionSourceRecordSorterConfig(Map<String, ?> originals) {
         super(config(), originals);
         orderDirection = OrderDirection.valueOf(getString(ORDER_DIRECTION).toUpperCase());
+        orderFields = breakDownList(getString(ORDER_FIELDS));
     }
 
     public static ConfigDef config() {
         return new ConfigDef()
-                .define(ORDER_DIRECTION, STRING, "IMPLICIT", LOW, "Order direction of the results in the list, either ASC, DESC or IMPLICIT");
+                .define(ORDER_DIRECTION, STRING, "IMPLICIT", LOW, "Order direction of the results in the list, either ASC, DESC or IMPLICIT")
+                .define(ORDER_FIELDS, STRING, "", LOW, "Offset properties to sort the results by, comma separated, the first ones taking precedence");
     }
 }
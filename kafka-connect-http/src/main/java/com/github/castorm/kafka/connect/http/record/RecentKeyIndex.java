@@ -0,0 +1,195 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import static com.github.castorm.kafka.connect.common.HashUtils.mix64;
+
+/**
+ * Set of recently added 64-bit key hashes, bounded both in size and in age, so its memory footprint is fixed upon
+ * creation: an open-addressing table at most half full, a ring with the insertion order and time of each entry to
+ * evict them first in first out, and an optional Bloom filter answering most lookups of new keys without probing.
+ */
+class RecentKeyIndex {
+
+    private static final long EMPTY = 0L;
+
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+
+    private static final int BLOOM_HASHES = 7;
+
+    private final int capacity;
+
+    private final long ttlMillis;
+
+    private final long[] table;
+
+    private final int mask;
+
+    private final long[] ringHashes;
+
+    private final long[] ringMillis;
+
+    private int head;
+
+    private int size;
+
+    private final long[] bloom;
+
+    private final long bloomBits;
+
+    private int evictionsSinceBloomRebuild;
+
+    RecentKeyIndex(int capacity, long ttlMillis, boolean bloomFilter) {
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+        this.table = new long[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        this.mask = table.length - 1;
+        this.ringHashes = new long[capacity];
+        this.ringMillis = new long[capacity];
+        this.bloom = bloomFilter ? new long[(int) ((capacity * (long) BLOOM_BITS_PER_ENTRY + 63) / 64)] : null;
+        this.bloomBits = bloomFilter ? bloom.length * 64L : 0;
+    }
+
+    /**
+     * Adds the hash unless already present, evicting expired entries first, and the oldest one when full.
+     *
+     * @return whether the hash was not present
+     */
+    synchronized boolean add(long hash, long nowMillis) {
+        hash = hash == EMPTY ? 1L : hash;
+        expire(nowMillis);
+        if (mightContain(hash) && contains(hash)) {
+            return false;
+        }
+        if (size == capacity) {
+            evictOldest();
+        }
+        insert(hash);
+        int tail = (head + size) % capacity;
+        ringHashes[tail] = hash;
+        ringMillis[tail] = nowMillis;
+        size++;
+        bloomPut(hash);
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void expire(long nowMillis) {
+        while (size > 0 && nowMillis - ringMillis[head] >= ttlMillis) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        remove(ringHashes[head]);
+        head = (head + 1) % capacity;
+        size--;
+        if (bloom != null && ++evictionsSinceBloomRebuild >= capacity) {
+            rebuildBloom();
+        }
+    }
+
+    private boolean contains(long hash) {
+        for (int slot = slot(hash); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void insert(long hash) {
+        int slot = slot(hash);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = hash;
+    }
+
+    /**
+     * Removes the hash shifting back the entries probed after it, so that lookups never need tombstones.
+     */
+    private void remove(long hash) {
+        int gap = slot(hash);
+        while (table[gap] != hash) {
+            gap = (gap + 1) & mask;
+        }
+        table[gap] = EMPTY;
+        for (int slot = (gap + 1) & mask; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int home = slot(table[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                table[gap] = table[slot];
+                table[slot] = EMPTY;
+                gap = slot;
+            }
+        }
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private boolean mightContain(long hash) {
+        if (bloom == null) {
+            return true;
+        }
+        long spread = mix64(hash);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = bloomBit(spread, i);
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void bloomPut(long hash) {
+        if (bloom == null) {
+            return;
+        }
+        long spread = mix64(hash);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = bloomBit(spread, i);
+            bloom[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private long bloomBit(long spread, int i) {
+        long combined = (spread & 0xFFFFFFFFL) + i * (spread >>> 32);
+        return (combined & Long.MAX_VALUE) % bloomBits;
+    }
+
+    /**
+     * Bloom filters can't forget, so once as many entries as fit have been evicted it's rebuilt from the live ones.
+     */
+    private void rebuildBloom() {
+        Arrays.fill(bloom, 0L);
+        for (int i = 0; i < size; i++) {
+            bloomPut(ringHashes[(head + i) % capacity]);
+        }
+        evictionsSinceBloomRebuild = 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of a random access list in reverse order.
+ */
+@RequiredArgsConstructor
+class ReversedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> list;
+
+    @Override
+    public T get(int index) {
+        return list.get(list.size() - 1 - index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+}
@@ -29,11 +29,9 @@ import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
-import java.time.Instant;
 import java.util.Map;
 import java.util.function.Function;
 
-import static java.util.Collections.emptyMap;
 import static org.apache.kafka.connect.data.SchemaBuilder.int64;
 import static org.apache.kafka.connect.data.SchemaBuilder.string;
 
@@ -44,8 +42,6 @@ public class SchemedKvSourceRecordMapper implements KvSourceRecordMapper {
     private static final String VALUE_FIELD_NAME = "value";
     private static final String TIMESTAMP_FIELD_NAME = "timestamp";
 
-    private static Map<String, ?> sourcePartition = emptyMap();
-
     private final Function<Map<String, ?>, SourceRecordMapperConfig> configFactory;
 
     private SourceRecordMapperConfig config;
@@ -77,13 +73,13 @@ public class SchemedKvSourceRecordMapper implements KvSourceRecordMapper {
     public SourceRecord map(KvRecord record) {
 
         Offset offset = record.getOffset();
-        Long timestamp = offset.getTimestamp().map(Instant::toEpochMilli).orElseGet(System::currentTimeMillis);
+        long timestamp = offset.getTimestampMillis().orElseGet(System::currentTimeMillis);
 
         Struct key = keyStruct(record.getKey());
         Struct value = valueStruct(record.getKey(), record.getValue(), timestamp);
 
         return new SourceRecord(
-                sourcePartition,
+                config.getSourcePartition(),
                 offset.toMap(),
                 config.getTopic(),
                 null,
@@ -26,23 +26,37 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartition;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
 import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
 @Getter
 public class SourceRecordMapperConfig extends AbstractConfig {
 
     private static final String TOPIC = "kafka.topic";
+    private static final String SOURCE_PARTITION = "http.source.partition";
+    private static final String SCHEMA_CACHE_SIZE = "http.record.schema.cache.size";
 
     private final String topic;
 
+    private final Map<String, String> sourcePartition;
+
+    private final Integer schemaCacheSize;
+
     SourceRecordMapperConfig(Map<String, ?> originals) {
         super(config(), originals);
         topic = getString(TOPIC);
+        sourcePartition = breakDownPartition(getString(SOURCE_PARTITION));
+        schemaCacheSize = getInt(SCHEMA_CACHE_SIZE);
     }
 
     public static ConfigDef config() {
         return new ConfigDef()
-                .define(TOPIC, STRING, HIGH, "Kafka Topic");
+                .define(TOPIC, STRING, HIGH, "Kafka Topic")
+                .define(SOURCE_PARTITION, STRING, "", LOW, "Source partition assigned to the task by the connector")
+                .define(SCHEMA_CACHE_SIZE, INT, 100, atLeast(1), LOW, "Maximum number of inferred value schemas kept per task");
     }
 }
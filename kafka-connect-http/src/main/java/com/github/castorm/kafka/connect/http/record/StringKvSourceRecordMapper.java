@@ -27,11 +27,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.source.SourceRecord;
 
-import java.time.Instant;
 import java.util.Map;
 import java.util.function.Function;
 
-import static java.util.Collections.emptyMap;
 import static org.apache.kafka.connect.data.SchemaBuilder.string;
 
 /**
@@ -47,8 +45,6 @@ import static org.apache.kafka.connect.data.SchemaBuilder.string;
 @RequiredArgsConstructor
 public class StringKvSourceRecordMapper implements KvSourceRecordMapper {
 
-    private static Map<String, ?> sourcePartition = emptyMap();
-
     private static final Schema keySchema = string().build();
 
     private static final Schema valueSchema = string().build();
@@ -72,7 +68,7 @@ public class StringKvSourceRecordMapper implements KvSourceRecordMapper {
         Offset offset = record.getOffset();
 
         return new SourceRecord(
-                sourcePartition,
+                config.getSourcePartition(),
                 offset.toMap(),
                 config.getTopic(),
                 null,
@@ -80,6 +76,6 @@ public class StringKvSourceRecordMapper implements KvSourceRecordMapper {
                 record.getKey(),
                 valueSchema,
                 record.getValue(),
-                offset.getTimestamp().map(Instant::toEpochMilli).orElseGet(System::currentTimeMillis));
+                offset.getTimestampMillis().orElseGet(System::currentTimeMillis));
     }
 }
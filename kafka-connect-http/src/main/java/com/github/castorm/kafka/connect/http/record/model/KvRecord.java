@@ -22,9 +22,14 @@ package com.github.castorm.kafka.connect.http.record.model;
 
 import com.github.castorm.kafka.connect.http.model.Offset;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import lombok.With;
 
+import java.util.Map;
+import java.util.function.Supplier;
+
 @With
 @Value
 @Builder
@@ -35,4 +40,17 @@ public class KvRecord {
     String value;
 
     Offset offset;
+
+    /**
+     * The value as it was in the response, when parsed as raw bytes instead of as a string
+     */
+    @ToString.Exclude
+    byte[] valueBytes;
+
+    /**
+     * The value as a map, when the parser already has it parsed, so it doesn't need to be parsed again from the string
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Supplier<Map<String, Object>> valueMap;
 }
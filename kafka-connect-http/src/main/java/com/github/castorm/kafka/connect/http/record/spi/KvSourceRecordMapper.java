@@ -31,6 +31,13 @@ public interface KvSourceRecordMapper extends Configurable {
 
     SourceRecord map(KvRecord record);
 
+    /**
+     * Whether it reads {@link KvRecord#getValueMap()}, so parsers keep each record's parsed value around for it.
+     */
+    default boolean readsValueMap() {
+        return false;
+    }
+
     default void configure(Map<String, ?> map) {
         // Do nothing
     }
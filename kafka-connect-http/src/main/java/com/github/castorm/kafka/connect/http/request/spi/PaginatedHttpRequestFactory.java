@@ -0,0 +1,50 @@
+package com.github.castorm.kafka.connect.http.request.spi;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+
+import java.io.IOException;
+
+/**
+ * Request factory for endpoints whose results for an offset are split in numbered pages, starting at 1.
+ */
+public interface PaginatedHttpRequestFactory extends HttpRequestFactory {
+
+    HttpRequest createRequest(Offset offset, int page);
+
+    /**
+     * Number of pages available, as advertised by the response to the first page, failing when it doesn't.
+     */
+    int getPageCount(HttpResponse firstPage) throws IOException;
+
+    /**
+     * Maximum number of pages requested concurrently.
+     */
+    int getPageWindow();
+
+    @Override
+    default HttpRequest createRequest(Offset offset) {
+        return createRequest(offset, 1);
+    }
+}
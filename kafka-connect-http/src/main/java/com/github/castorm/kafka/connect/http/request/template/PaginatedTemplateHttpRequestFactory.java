@@ -20,22 +20,36 @@ package com.github.castorm.kafka.connect.http.request.template;
  * #L%
  */
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
 import com.github.castorm.kafka.connect.http.model.Offset;
-import com.github.castorm.kafka.connect.http.request.spi.HttpRequestFactory;
+import com.github.castorm.kafka.connect.http.request.spi.PaginatedHttpRequestFactory;
 import com.github.castorm.kafka.connect.http.request.template.spi.Template;
 import com.github.castorm.kafka.connect.http.request.template.spi.TemplateFactory;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
-import java.net.MalformedURLException;
-import java.net.URI;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownHeaders;
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownQueryParams;
+import static com.fasterxml.jackson.core.filter.TokenFilter.Inclusion.ONLY_INCLUDE_ALL;
+import static java.util.Collections.singletonList;
 
+@Slf4j
 @Getter
-public class PaginatedTemplateHttpRequestFactory implements HttpRequestFactory {
+public class PaginatedTemplateHttpRequestFactory implements PaginatedHttpRequestFactory {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
 
     private String method;
     private Template urlTpl;
@@ -44,62 +58,86 @@ public class PaginatedTemplateHttpRequestFactory implements HttpRequestFactory {
     private Template bodyTpl;
 
     private int pageNumber = 1;
-    private final int limit;
-    private final String pageNumberParam;
-    private final String limitParam;
+    private int limit;
+    private String pageNumberParam;
+    private String limitParam;
+    private int pageWindow;
+    private int maxPages;
+    private JsonPointer countPointer;
 
-    public PaginatedTemplateHttpRequestFactory(Map<String, ?> configs) {
-        PaginatedTemplateHttpRequestFactoryConfig config = new PaginatedTemplateHttpRequestFactoryConfig(configs);
+    public PaginatedTemplateHttpRequestFactory() {
+    }
 
-        TemplateFactory templateFactory = config.getTemplateFactory();
-        this.method = config.getMethod();
-        this.urlTpl = templateFactory.create(config.getUrl());
-        this.headersTpl = templateFactory.create(config.getHeaders());
-        this.queryParamsTpl = templateFactory.create(config.getQueryParams());
-        this.bodyTpl = templateFactory.create(config.getBody());
-
-        this.pageNumberParam = config.getPageNumber();
-        this.limitParam = config.getLimitParam();
-        this.limit = config.getLimit();
+    public PaginatedTemplateHttpRequestFactory(Map<String, ?> configs) {
+        configure(configs);
     }
-    
+
+    @Override
     public void configure(Map<String, ?> configs) {
         PaginatedTemplateHttpRequestFactoryConfig config = new PaginatedTemplateHttpRequestFactoryConfig(configs);
         TemplateFactory templateFactory = config.getTemplateFactory();
-        
+
         method = config.getMethod();
         urlTpl = templateFactory.create(config.getUrl());
         headersTpl = templateFactory.create(config.getHeaders());
         queryParamsTpl = templateFactory.create(config.getQueryParams());
         bodyTpl = templateFactory.create(config.getBody());
+
+        pageNumberParam = config.getPageNumber();
+        limitParam = config.getLimitParam();
+        limit = config.getLimit();
+        pageWindow = config.getWindow();
+        maxPages = config.getMaxPages();
+        countPointer = config.getCountPointer() != null ? JsonPointer.compile(config.getCountPointer()) : null;
     }
 
+    @Override
     public HttpRequest createRequest(Offset offset) {
-        // Apply the offset to the templates
-        String url = urlTpl.apply(offset);
-        String headers = headersTpl.apply(offset);
-        String queryParams = queryParamsTpl.apply(offset);
-        String body = bodyTpl.apply(offset);
-
-        // Add pagination parameters to the URL
-        String updatedQueryParams = String.format("%s&%s=%d&%s=%d",
-                queryParams, pageNumberParam, pageNumber, limitParam, limit);
-
-        String uriWithPagination = null;
-        try {
-            uriWithPagination = URI.create(url + "?" + updatedQueryParams).toURL().toString();
-        } catch (MalformedURLException e) {
-            e.printStackTrace();
-        }
+        return createRequest(offset, pageNumber);
+    }
+
+    @Override
+    public HttpRequest createRequest(Offset offset, int page) {
+        Map<String, List<String>> queryParams = new HashMap<>(breakDownQueryParams(queryParamsTpl.apply(offset)));
+        queryParams.put(pageNumberParam, singletonList(String.valueOf(page)));
+        queryParams.put(limitParam, singletonList(String.valueOf(limit)));
 
         return HttpRequest.builder()
                 .method(HttpRequest.HttpMethod.valueOf(method))
-                .url(uriWithPagination)
-                .headers(breakDownHeaders(headers))
-                .body(body.getBytes())
+                .url(urlTpl.apply(offset))
+                .headers(breakDownHeaders(headersTpl.apply(offset)))
+                .queryParams(queryParams)
+                .body(bodyTpl.apply(offset).getBytes())
                 .build();
     }
-    
+
+    @Override
+    public int getPageCount(HttpResponse firstPage) throws IOException {
+        if (countPointer == null) {
+            return 1;
+        }
+        long pageCount = Math.max(1, (readCount(firstPage.getBody()) + limit - 1) / limit);
+        if (pageCount > maxPages) {
+            log.warn("First page reports {} pages, fetching only the first {}", pageCount, maxPages);
+        }
+        return (int) Math.min(pageCount, maxPages);
+    }
+
+    /**
+     * Reads just the count, stopping at it, instead of building a tree the response parser builds again.
+     */
+    private long readCount(byte[] body) throws IOException {
+        if (body != null) {
+            try (JsonParser parser = new FilteringParserDelegate(jsonFactory.createParser(body), new JsonPointerBasedFilter(countPointer), ONLY_INCLUDE_ALL, false)) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    return parser.getValueAsLong();
+                }
+            }
+        }
+        throw new IOException(String.format("No record count found at %s", countPointer));
+    }
+
     public void incrementPage() {
         pageNumber++;
     }
@@ -13,6 +13,7 @@ import org.apache.kafka.common.config.AbstractConfig;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
 
 /*-
@@ -39,6 +40,9 @@ public class PaginatedTemplateHttpRequestFactoryConfig extends AbstractConfig  {
     public static final String PAGE_NUMBER_PARAM_CONFIG = "pagination.pageNumberParam";
     public static final String LIMIT_PARAM_CONFIG = "pagination.limitParam";
     public static final String LIMIT_CONFIG = "pagination.limit";
+    public static final String WINDOW_CONFIG = "pagination.window";
+    public static final String MAX_PAGES_CONFIG = "pagination.max.pages";
+    private static final String COUNT_POINTER = "http.response.count.pointer";
 
     private static final String URL = "http.request.url";
     private static final String METHOD = "http.request.method";
@@ -53,6 +57,12 @@ public class PaginatedTemplateHttpRequestFactoryConfig extends AbstractConfig  {
 
     private final String limitParam;
 
+    private final Integer window;
+
+    private final Integer maxPages;
+
+    private final String countPointer;
+
     private final String url;
 
     private final String method;
@@ -74,7 +84,10 @@ public class PaginatedTemplateHttpRequestFactoryConfig extends AbstractConfig  {
                 .define(BODY,  ConfigDef.Type.STRING, "", LOW, "HTTP Body Template")
                 .define(TEMPLATE_FACTORY, CLASS, BackwardsCompatibleFreeMarkerTemplateFactory.class, LOW, "Template Factory Class")  .define(PAGE_NUMBER_PARAM_CONFIG, ConfigDef.Type.STRING, "pageNumber", ConfigDef.Importance.MEDIUM, "Query parameter for page number.")
                 .define(LIMIT_PARAM_CONFIG, ConfigDef.Type.STRING, "limit", ConfigDef.Importance.MEDIUM, "Query parameter for page size.")
-                .define(LIMIT_CONFIG, ConfigDef.Type.INT, 10, ConfigDef.Importance.MEDIUM, "Number of records per page.");
+                .define(LIMIT_CONFIG, ConfigDef.Type.INT, 10, atLeast(1), ConfigDef.Importance.MEDIUM, "Number of records per page.")
+                .define(WINDOW_CONFIG, ConfigDef.Type.INT, 1, atLeast(1), ConfigDef.Importance.MEDIUM, "Maximum number of pages requested concurrently.")
+                .define(MAX_PAGES_CONFIG, ConfigDef.Type.INT, 1000, atLeast(1), ConfigDef.Importance.MEDIUM, "Maximum number of pages requested for an offset.")
+                .define(COUNT_POINTER, ConfigDef.Type.STRING, null, ConfigDef.Importance.MEDIUM, "JsonPointer to the total number of records in the first page, only the first page is requested when missing.");
     }
 
 
@@ -83,6 +96,9 @@ public class PaginatedTemplateHttpRequestFactoryConfig extends AbstractConfig  {
         pageNumber = getString(PAGE_NUMBER_PARAM_CONFIG);
         limit = getInt(LIMIT_CONFIG);
         limitParam = getString(LIMIT_PARAM_CONFIG);
+        window = getInt(WINDOW_CONFIG);
+        maxPages = getInt(MAX_PAGES_CONFIG);
+        countPointer = getString(COUNT_POINTER);
         url = getString(URL);
         method = getString(METHOD);
         headers = getString(HEADERS);
@@ -47,12 +47,13 @@ public class TemplateHttpRequestFactory implements HttpRequestFactory {
     public void configure(Map<String, ?> configs) {
         TemplateHttpRequestFactoryConfig config = new TemplateHttpRequestFactoryConfig(configs);
         TemplateFactory templateFactory = config.getTemplateFactory();
+        Map<String, String> partition = config.getSourcePartition();
 
         method = config.getMethod();
-        urlTpl = templateFactory.create(config.getUrl());
-        headersTpl = templateFactory.create(config.getHeaders());
-        queryParamsTpl = templateFactory.create(config.getQueryParams());
-        bodyTpl = templateFactory.create(config.getBody());
+        urlTpl = templateFactory.create(config.getUrl(), partition);
+        headersTpl = templateFactory.create(config.getHeaders(), partition);
+        queryParamsTpl = templateFactory.create(config.getQueryParams(), partition);
+        bodyTpl = templateFactory.create(config.getBody(), partition);
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartition;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
@@ -43,6 +44,7 @@ public class TemplateHttpRequestFactoryConfig extends AbstractConfig {
     private static final String QUERY_PARAMS = "http.request.params";
     private static final String BODY = "http.request.body";
     private static final String TEMPLATE_FACTORY = "http.request.template.factory";
+    private static final String SOURCE_PARTITION = "http.source.partition";
 
     private final String url;
 
@@ -56,6 +58,8 @@ public class TemplateHttpRequestFactoryConfig extends AbstractConfig {
 
     private final TemplateFactory templateFactory;
 
+    private final Map<String, String> sourcePartition;
+
     TemplateHttpRequestFactoryConfig(Map<String, ?> originals) {
         super(config(), originals);
         url = getString(URL);
@@ -64,6 +68,7 @@ public class TemplateHttpRequestFactoryConfig extends AbstractConfig {
         queryParams = getString(QUERY_PARAMS);
         body = getString(BODY);
         templateFactory = getConfiguredInstance(TEMPLATE_FACTORY, TemplateFactory.class);
+        sourcePartition = breakDownPartition(getString(SOURCE_PARTITION));
     }
 
     public static ConfigDef config() {
@@ -73,6 +78,7 @@ public class TemplateHttpRequestFactoryConfig extends AbstractConfig {
                 .define(HEADERS, STRING, "", MEDIUM, "HTTP Headers Template")
                 .define(QUERY_PARAMS, STRING, "", MEDIUM, "HTTP Query Params Template")
                 .define(BODY, STRING, "", LOW, "HTTP Body Template")
-                .define(TEMPLATE_FACTORY, CLASS, BackwardsCompatibleFreeMarkerTemplateFactory.class, LOW, "Template Factory Class");
+                .define(TEMPLATE_FACTORY, CLASS, BackwardsCompatibleFreeMarkerTemplateFactory.class, LOW, "Template Factory Class")
+                .define(SOURCE_PARTITION, STRING, "", LOW, "Source partition assigned to the task by the connector");
     }
 }
@@ -23,40 +23,35 @@ package com.github.castorm.kafka.connect.http.request.template.freemarker;
 import com.github.castorm.kafka.connect.http.model.Offset;
 import com.github.castorm.kafka.connect.http.request.template.spi.Template;
 import com.github.castorm.kafka.connect.http.request.template.spi.TemplateFactory;
-import freemarker.template.Configuration;
 import freemarker.template.TemplateException;
-import freemarker.template.Version;
 import lombok.SneakyThrows;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
-import static java.util.UUID.randomUUID;
+import static java.util.Collections.emptyMap;
 
 @Deprecated
 public class BackwardsCompatibleFreeMarkerTemplateFactory implements TemplateFactory {
 
-    private final Configuration configuration = new Configuration(new Version(2, 3, 30)) {{
-        setNumberFormat("computer");
-    }};
-
     @Override
     public Template create(String template) {
-        return offset -> apply(createTemplate(template), createModel(offset));
+        return create(template, emptyMap());
     }
 
-    @SneakyThrows(IOException.class)
-    private freemarker.template.Template createTemplate(String template) {
-        return new freemarker.template.Template(randomUUID().toString(), new StringReader(template), configuration);
+    @Override
+    public Template create(String template, Map<String, String> partition) {
+        freemarker.template.Template compiled = FreeMarkerTemplateCache.get(template);
+        return offset -> apply(compiled, createModel(offset, partition));
     }
 
-    private static Map<String, Object> createModel(Offset offset) {
+    private static Map<String, Object> createModel(Offset offset, Map<String, String> partition) {
         Map<String, Object> model = new HashMap<>(offset.toMap());
         model.put("offset", offset.toMap());
+        model.put("partition", partition);
         return model;
     }
 
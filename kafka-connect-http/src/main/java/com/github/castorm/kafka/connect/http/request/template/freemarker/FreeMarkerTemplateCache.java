@@ -0,0 +1,66 @@
+package com.github.castorm.kafka.connect.http.request.template.freemarker;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.Version;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.UUID.randomUUID;
+
+/**
+ * Compiled templates keyed by their source, shared by every task in the worker. Compiled templates are thread-safe and
+ * the same few of them are applied on every request, so they're only compiled once. The least recently used ones are
+ * evicted past a maximum, so connectors being reconfigured over the life of the worker don't pile them up.
+ */
+@UtilityClass
+class FreeMarkerTemplateCache {
+
+    private static final Configuration configuration = new Configuration(new Version(2, 3, 30)) {{
+        setNumberFormat("computer");
+    }};
+
+    static final int MAX_TEMPLATES = 256;
+
+    private static final Map<String, Template> templates = Collections.synchronizedMap(new LinkedHashMap<String, Template>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+            return size() > MAX_TEMPLATES;
+        }
+    });
+
+    static Template get(String source) {
+        return templates.computeIfAbsent(source, FreeMarkerTemplateCache::compile);
+    }
+
+    @SneakyThrows(IOException.class)
+    private static Template compile(String source) {
+        return new Template(randomUUID().toString(), new StringReader(source), configuration);
+    }
+}
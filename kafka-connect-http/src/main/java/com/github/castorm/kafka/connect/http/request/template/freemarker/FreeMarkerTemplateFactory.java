@@ -22,34 +22,28 @@ package com.github.castorm.kafka.connect.http.request.template.freemarker;
 
 import com.github.castorm.kafka.connect.http.request.template.spi.Template;
 import com.github.castorm.kafka.connect.http.request.template.spi.TemplateFactory;
-import freemarker.template.Configuration;
 import freemarker.template.TemplateException;
-import freemarker.template.Version;
 import lombok.SneakyThrows;
 import lombok.Value;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Map;
 
-import static java.util.UUID.randomUUID;
+import static java.util.Collections.emptyMap;
 
 public class FreeMarkerTemplateFactory implements TemplateFactory {
 
-    private final Configuration configuration = new Configuration(new Version(2, 3, 30)) {{
-        setNumberFormat("computer");
-    }};
-
     @Override
     public Template create(String template) {
-        return offset -> apply(createTemplate(template), new TemplateModel(offset.toMap()));
+        return create(template, emptyMap());
     }
 
-    @SneakyThrows(IOException.class)
-    private freemarker.template.Template createTemplate(String template) {
-        return new freemarker.template.Template(randomUUID().toString(), new StringReader(template), configuration);
+    @Override
+    public Template create(String template, Map<String, String> partition) {
+        freemarker.template.Template compiled = FreeMarkerTemplateCache.get(template);
+        return offset -> apply(compiled, new TemplateModel(offset.toMap(), partition));
     }
 
     @SneakyThrows({TemplateException.class, IOException.class})
@@ -63,5 +57,7 @@ public class FreeMarkerTemplateFactory implements TemplateFactory {
     public static class TemplateModel {
 
         Map<String, ?> offset;
+
+        Map<String, String> partition;
     }
 }
@@ -20,8 +20,14 @@ package com.github.castorm.kafka.connect.http.request.template.spi;
  * #L%
  */
 
+import java.util.Map;
+
 @FunctionalInterface
 public interface TemplateFactory {
 
     Template create(String template);
+
+    default Template create(String template, Map<String, String> partition) {
+        return create(template);
+    }
 }
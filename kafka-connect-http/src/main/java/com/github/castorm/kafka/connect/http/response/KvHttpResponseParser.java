@@ -21,12 +21,14 @@ package com.github.castorm.kafka.connect.http.response;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.http.response.spi.KvRecordHttpResponseParser;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -59,4 +61,11 @@ public class KvHttpResponseParser implements HttpResponseParser {
                 .map(recordMapper::map)
                 .collect(toList());
     }
+
+    @Override
+    public List<SourceRecord> parseStream(StreamingHttpResponse response) throws IOException {
+        return recordParser.parseStream(response).stream()
+                .map(recordMapper::map)
+                .collect(toList());
+    }
 }
@@ -30,6 +30,9 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserConfig.VALUE_MAP;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
 
@@ -44,8 +47,9 @@ public class KvHttpResponseParserConfig extends AbstractConfig {
 
     KvHttpResponseParserConfig(Map<String, ?> originals) {
         super(config(), originals);
-        recordParser = getConfiguredInstance(RECORD_PARSER_CLASS, KvRecordHttpResponseParser.class);
         recordMapper = getConfiguredInstance(RECORD_MAPPER_CLASS, KvSourceRecordMapper.class);
+        recordParser = getConfiguredInstance(RECORD_PARSER_CLASS, KvRecordHttpResponseParser.class,
+                recordMapper.readsValueMap() ? singletonMap(VALUE_MAP, true) : emptyMap());
     }
 
     public static ConfigDef config() {
@@ -21,27 +21,38 @@ package com.github.castorm.kafka.connect.http.response;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponsePolicy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 
+@Slf4j
 @RequiredArgsConstructor
 public class PolicyHttpResponseParser implements HttpResponseParser {
 
+    private static final int NOT_MODIFIED = 304;
+
     private final Function<Map<String, ?>, PolicyHttpResponseParserConfig> configFactory;
 
     private HttpResponseParser delegate;
 
     private HttpResponsePolicy policy;
 
+    private boolean offsetValidators;
+
     public PolicyHttpResponseParser() {
         this(PolicyHttpResponseParserConfig::new);
     }
@@ -51,13 +62,34 @@ public class PolicyHttpResponseParser implements HttpResponseParser {
         PolicyHttpResponseParserConfig config = configFactory.apply(settings);
         delegate = config.getDelegateParser();
         policy = config.getPolicy();
+        offsetValidators = config.getOffsetValidators();
+    }
+
+    @Override
+    public List<SourceRecord> parseStream(StreamingHttpResponse response) throws IOException {
+        HttpResponse head = response.head();
+        if (isNotModified(head)) {
+            return emptyList();
+        }
+        switch (policy.resolve(head)) {
+            case PROCESS:
+                return withValidators(delegate.parseStream(response), head);
+            case SKIP:
+                return emptyList();
+            case FAIL:
+            default:
+                return parse(response.buffer());
+        }
     }
 
     @Override
     public List<SourceRecord> parse(HttpResponse response) {
+        if (isNotModified(response)) {
+            return emptyList();
+        }
         switch (policy.resolve(response)) {
             case PROCESS:
-                return delegate.parse(response);
+                return withValidators(delegate.parse(response), response);
             case SKIP:
                 return emptyList();
             case FAIL:
@@ -65,4 +97,46 @@ public class PolicyHttpResponseParser implements HttpResponseParser {
                 throw new IllegalStateException(String.format("Policy failed for response code: %s, body: %s", response.getCode(), ofNullable(response.getBody()).map(String::new).orElse("")));
         }
     }
+
+    /**
+     * A conditional request found nothing changed since the response the validators came from, so there is nothing to
+     * parse.
+     */
+    private static boolean isNotModified(HttpResponse response) {
+        if (response.getCode() != null && response.getCode() == NOT_MODIFIED) {
+            log.debug("Response not modified, continuing with no records");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Validators only hold for the response as a whole, so they go in the offset of its last record alone: an offset
+     * committed mid-response has to lead to an unconditional request, or a 304 would skip the records after it.
+     */
+    private List<SourceRecord> withValidators(List<SourceRecord> records, HttpResponse response) {
+        Optional<String> etag = response.getHeader("ETag");
+        Optional<String> lastModified = response.getHeader("Last-Modified");
+        if (!offsetValidators || records.isEmpty() || !etag.isPresent() && !lastModified.isPresent()) {
+            return records;
+        }
+        int last = records.size() - 1;
+        List<SourceRecord> validated = new ArrayList<>(records);
+        validated.set(last, withOffset(records.get(last), Offset.of(records.get(last).sourceOffset()).withValidators(etag, lastModified)));
+        return validated;
+    }
+
+    public static SourceRecord withOffset(SourceRecord record, Offset offset) {
+        return new SourceRecord(
+                record.sourcePartition(),
+                offset.toMap(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                record.value(),
+                record.timestamp(),
+                record.headers());
+    }
 }
@@ -29,6 +29,8 @@ import org.apache.kafka.common.config.ConfigDef;
 import java.util.Map;
 
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Type.BOOLEAN;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
 
 @Getter
@@ -36,20 +38,25 @@ public class PolicyHttpResponseParserConfig extends AbstractConfig {
 
     private static final String PARSER_DELEGATE = "http.response.policy.parser";
     private static final String POLICY = "http.response.policy";
+    public static final String OFFSET_VALIDATORS = "http.response.offset.validators";
 
     private final HttpResponseParser delegateParser;
 
     private final HttpResponsePolicy policy;
 
+    private final Boolean offsetValidators;
+
     public PolicyHttpResponseParserConfig(Map<String, ?> originals) {
         super(config(), originals);
         delegateParser = getConfiguredInstance(PARSER_DELEGATE, HttpResponseParser.class);
         policy = getConfiguredInstance(POLICY, HttpResponsePolicy.class);
+        offsetValidators = getBoolean(OFFSET_VALIDATORS);
     }
 
     public static ConfigDef config() {
         return new ConfigDef()
                 .define(PARSER_DELEGATE, CLASS, KvHttpResponseParser.class, HIGH, "Response Parser Delegate Class")
-                .define(POLICY, CLASS, StatusCodeHttpResponsePolicy.class, HIGH, "Response Policy Class");
+                .define(POLICY, CLASS, StatusCodeHttpResponsePolicy.class, HIGH, "Response Policy Class")
+                .define(OFFSET_VALIDATORS, BOOLEAN, false, LOW, "Store ETag and Last-Modified in the offsets of the records");
     }
 }
@@ -0,0 +1,82 @@
+package com.github.castorm.kafka.connect.http.response.jackson;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.response.jackson.model.JacksonRecord;
+import com.github.castorm.kafka.connect.http.response.timestamp.spi.TimestampParser;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.castorm.kafka.connect.http.response.jackson.RecordKeyHash.UUID;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
+
+@RequiredArgsConstructor
+class JacksonKvRecordFactory {
+
+    private final TimestampParser timestampParser;
+
+    private final RecordKeyHash keyHash;
+
+    JacksonKvRecordFactory(TimestampParser timestampParser) {
+        this(timestampParser, UUID);
+    }
+
+    KvRecord create(JacksonRecord record) {
+
+        Map<String, Object> offsets = record.getOffset();
+
+        String key = ofNullable(record.getKey())
+                .map(Optional::of)
+                .orElseGet(() -> ofNullable(offsets.get("key")).map(String.class::cast))
+                .orElseGet(() -> generateConsistentKey(record));
+
+        Optional<Instant> timestamp = ofNullable(record.getTimestamp())
+                .map(Optional::of)
+                .orElseGet(() -> ofNullable(offsets.get("timestamp")).map(String.class::cast))
+                .map(timestampParser::parse);
+
+        Offset offset = timestamp
+                .map(ts -> Offset.of(offsets, key, ts))
+                .orElseGet(() -> Offset.of(offsets, key));
+
+        return KvRecord.builder()
+                .key(key)
+                .value(record.getBody())
+                .valueMap(record.getBodyMap())
+                .valueBytes(record.getBodyBytes())
+                .offset(offset)
+                .build();
+    }
+
+    private String generateConsistentKey(JacksonRecord record) {
+        if (record.getBody() == null) {
+            return keyHash.hash(record.getBodyBytes());
+        }
+        // UUID keeps hashing with the platform charset so that keys generated so far don't change
+        return keyHash.hash(keyHash == UUID ? record.getBody().getBytes() : record.getBody().getBytes(UTF_8));
+    }
+}
@@ -21,21 +21,16 @@ package com.github.castorm.kafka.connect.http.response.jackson;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
-import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.record.model.KvRecord;
-import com.github.castorm.kafka.connect.http.response.jackson.model.JacksonRecord;
 import com.github.castorm.kafka.connect.http.response.spi.KvRecordHttpResponseParser;
-import com.github.castorm.kafka.connect.http.response.timestamp.spi.TimestampParser;
 import lombok.RequiredArgsConstructor;
 
-import java.time.Instant;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 
-import static java.util.Optional.ofNullable;
-import static java.util.UUID.nameUUIDFromBytes;
 import static java.util.stream.Collectors.toList;
 
 @RequiredArgsConstructor
@@ -45,7 +40,7 @@ public class JacksonKvRecordHttpResponseParser implements KvRecordHttpResponsePa
 
     private JacksonResponseRecordParser responseParser;
 
-    private TimestampParser timestampParser;
+    private JacksonKvRecordFactory recordFactory;
 
     public JacksonKvRecordHttpResponseParser() {
         this(JacksonKvRecordHttpResponseParserConfig::new);
@@ -55,42 +50,20 @@ public class JacksonKvRecordHttpResponseParser implements KvRecordHttpResponsePa
     public void configure(Map<String, ?> configs) {
         JacksonKvRecordHttpResponseParserConfig config = configFactory.apply(configs);
         responseParser = config.getResponseParser();
-        timestampParser = config.getTimestampParser();
+        recordFactory = new JacksonKvRecordFactory(config.getTimestampParser(), config.getKeyHash());
     }
 
     @Override
     public List<KvRecord> parse(HttpResponse response) {
         return responseParser.getRecords(response.getBody())
-                .map(this::map)
+                .map(recordFactory::create)
                 .collect(toList());
     }
 
-    private KvRecord map(JacksonRecord record) {
-
-        Map<String, Object> offsets = record.getOffset();
-
-        String key = ofNullable(record.getKey())
-                .map(Optional::of)
-                .orElseGet(() -> ofNullable(offsets.get("key")).map(String.class::cast))
-                .orElseGet(() -> generateConsistentKey(record.getBody()));
-
-        Optional<Instant> timestamp = ofNullable(record.getTimestamp())
-                .map(Optional::of)
-                .orElseGet(() -> ofNullable(offsets.get("timestamp")).map(String.class::cast))
-                .map(timestampParser::parse);
-
-        Offset offset = timestamp
-                .map(ts -> Offset.of(offsets, key, ts))
-                .orElseGet(() -> Offset.of(offsets, key));
-
-        return KvRecord.builder()
-                .key(key)
-                .value(record.getBody())
-                .offset(offset)
-                .build();
-    }
-
-    private static String generateConsistentKey(String body) {
-        return nameUUIDFromBytes(body.getBytes()).toString();
+    @Override
+    public List<KvRecord> parseStream(StreamingHttpResponse response) throws IOException {
+        return responseParser.getRecords(response.getBody())
+                .map(recordFactory::create)
+                .collect(toList());
     }
 }
@@ -30,14 +30,17 @@ import java.util.Map;
 
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Type.CLASS;
+import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
 @Getter
 public class JacksonKvRecordHttpResponseParserConfig extends AbstractConfig {
 
     private static final String RECORD_TIMESTAMP_PARSER_CLASS = "http.response.record.timestamp.parser";
+    private static final String RECORD_KEY_HASH = "http.response.record.key.hash";
 
     private final JacksonResponseRecordParser responseParser;
     private final TimestampParser timestampParser;
+    private final RecordKeyHash keyHash;
 
     JacksonKvRecordHttpResponseParserConfig(Map<String, ?> originals) {
         super(config(), originals);
@@ -47,10 +50,12 @@ public class JacksonKvRecordHttpResponseParserConfig extends AbstractConfig {
         responseParser = new JacksonResponseRecordParser(recordParser, serializer);
         responseParser.configure(originals);
         timestampParser = getConfiguredInstance(RECORD_TIMESTAMP_PARSER_CLASS, TimestampParser.class);
+        keyHash = RecordKeyHash.valueOf(getString(RECORD_KEY_HASH).toUpperCase());
     }
 
     public static ConfigDef config() {
         return new ConfigDef()
-                .define(RECORD_TIMESTAMP_PARSER_CLASS, CLASS, EpochMillisOrDelegateTimestampParser.class, LOW, "Record Timestamp parser class");
+                .define(RECORD_TIMESTAMP_PARSER_CLASS, CLASS, EpochMillisOrDelegateTimestampParser.class, LOW, "Record Timestamp parser class")
+                .define(RECORD_KEY_HASH, STRING, RecordKeyHash.UUID.name(), LOW, "Hash used to generate the key of records without one: UUID, XXHASH64 or MURMUR3_128");
     }
 }
@@ -0,0 +1,65 @@
+package com.github.castorm.kafka.connect.http.response.jackson;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.response.spi.KvRecordHttpResponseParser;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Parses records like {@link JacksonKvRecordHttpResponseParser}, keeping their values as the bytes they had in the
+ * response instead of as strings, to be mapped by
+ * {@link com.github.castorm.kafka.connect.http.record.BytesKvSourceRecordMapper}.
+ */
+@RequiredArgsConstructor
+public class JacksonRawKvRecordHttpResponseParser implements KvRecordHttpResponseParser {
+
+    private final Function<Map<String, ?>, JacksonKvRecordHttpResponseParserConfig> configFactory;
+
+    private JacksonResponseRecordParser responseParser;
+
+    private JacksonKvRecordFactory recordFactory;
+
+    public JacksonRawKvRecordHttpResponseParser() {
+        this(JacksonKvRecordHttpResponseParserConfig::new);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        JacksonKvRecordHttpResponseParserConfig config = configFactory.apply(configs);
+        responseParser = config.getResponseParser();
+        recordFactory = new JacksonKvRecordFactory(config.getTimestampParser(), config.getKeyHash());
+    }
+
+    @Override
+    public List<KvRecord> parse(HttpResponse response) {
+        return responseParser.getRawRecords(response.getBody())
+                .map(recordFactory::create)
+                .collect(toList());
+    }
+}
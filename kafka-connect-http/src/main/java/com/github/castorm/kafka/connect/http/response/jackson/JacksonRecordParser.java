@@ -23,6 +23,7 @@ package com.github.castorm.kafka.connect.http.response.jackson;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.Configurable;
 
@@ -31,13 +32,18 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static com.fasterxml.jackson.core.JsonPointer.compile;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
 @RequiredArgsConstructor
 public class JacksonRecordParser implements Configurable {
 
+    private static final JsonPointer JSON_ROOT = compile("/");
+
     private final Function<Map<String, ?>, JacksonRecordParserConfig> configFactory;
 
     private final JacksonSerializer serializer;
@@ -46,6 +52,7 @@ public class JacksonRecordParser implements Configurable {
     private Optional<JsonPointer> timestampPointer;
     private Map<String, JsonPointer> offsetPointers;
     private JsonPointer valuePointer;
+    private boolean valueMap;
 
     public JacksonRecordParser() {
         this(new JacksonSerializer(new ObjectMapper()));
@@ -62,6 +69,7 @@ public class JacksonRecordParser implements Configurable {
         valuePointer = config.getValuePointer();
         offsetPointers = config.getOffsetPointers();
         timestampPointer = config.getTimestampPointer();
+        valueMap = config.getValueMap();
     }
 
     /**
@@ -95,4 +103,40 @@ public class JacksonRecordParser implements Configurable {
 
         return value.isObject() ? serializer.serialize(value) : value.asText();
     }
+
+    /**
+     * The value as a map, converted on demand from the already parsed node, or null when it's not an object or no
+     * mapper reads it, so the node isn't held on to needlessly.
+     */
+    Supplier<Map<String, Object>> getValueMap(JsonNode node) {
+
+        if (!valueMap) {
+            return null;
+        }
+
+        JsonNode value = serializer.getObjectAt(node, valuePointer);
+
+        return value.isObject() ? () -> serializer.toMap(value) : null;
+    }
+
+    /**
+     * When the whole item is the value, its buffered tokens are written out directly rather than through its tree.
+     */
+    String getValue(TokenBuffer item, JsonNode node) {
+        return JSON_ROOT.equals(valuePointer) && node.isObject() ? serializer.serialize(item) : getValue(node);
+    }
+
+    /**
+     * When the whole item is the value, the bytes it had in the response are used as they were.
+     */
+    byte[] getValueBytes(JsonNode node, byte[] itemBytes) {
+
+        if (JSON_ROOT.equals(valuePointer) && node.isObject()) {
+            return itemBytes;
+        }
+
+        JsonNode value = serializer.getObjectAt(node, valuePointer);
+
+        return value.isObject() ? serializer.serializeAsBytes(value) : value.asText().getBytes(UTF_8);
+    }
 }
@@ -38,43 +38,53 @@ import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownMap;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Importance.MEDIUM;
+import static org.apache.kafka.common.config.ConfigDef.Type.BOOLEAN;
 import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
 @Getter
 public class JacksonRecordParserConfig extends AbstractConfig {
 
     private static final String LIST_POINTER = "http.response.list.pointer";
+    private static final String LIST_STREAMING = "http.response.list.streaming";
     private static final String COUNT_POINTER = "http.response.count.pointer";
     private static final String ITEM_POINTER = "http.response.record.pointer";
     private static final String ITEM_KEY_POINTER = "http.response.record.key.pointer";
     private static final String ITEM_TIMESTAMP_POINTER = "http.response.record.timestamp.pointer";
     private static final String ITEM_OFFSET_VALUE_POINTER = "http.response.record.offset.pointer";
+    public static final String VALUE_MAP = "http.response.record.value.map";
 
     private final JsonPointer recordsPointer;
+    private final Boolean streaming;
     private final List<JsonPointer> keyPointer;
     private final JsonPointer valuePointer;
     private final Optional<JsonPointer> timestampPointer;
     private final Map<String, JsonPointer> offsetPointers;
+    private final Boolean valueMap;
 
     JacksonRecordParserConfig(Map<String, ?> originals) {
         super(config(), originals);
         recordsPointer = compile(getString(LIST_POINTER));
+        streaming = getBoolean(LIST_STREAMING);
         keyPointer = breakDownList(ofNullable(getString(ITEM_KEY_POINTER)).orElse("")).stream().map(JsonPointer::compile).collect(Collectors.toList());
         valuePointer = compile(getString(ITEM_POINTER));
         timestampPointer = ofNullable(getString(ITEM_TIMESTAMP_POINTER)).map(JsonPointer::compile);
         offsetPointers = breakDownMap(getString(ITEM_OFFSET_VALUE_POINTER)).entrySet().stream()
                 .map(entry -> new SimpleEntry<>(entry.getKey(), compile(entry.getValue())))
                 .collect(toMap(Entry::getKey, Entry::getValue));
+        valueMap = getBoolean(VALUE_MAP);
     }
 
     public static ConfigDef config() {
         return new ConfigDef()
                 .define(LIST_POINTER, STRING, "/", HIGH, "Item List JsonPointer")
+                .define(LIST_STREAMING, BOOLEAN, false, MEDIUM, "Read the item list token by token instead of building a tree for the whole response")
                 .define(COUNT_POINTER, STRING, "/", HIGH, "List Count JsonPointer")
                 .define(ITEM_POINTER, STRING, "/", HIGH, "Item JsonPointer")
                 .define(ITEM_KEY_POINTER, STRING, null, HIGH, "Item Key JsonPointers")
                 .define(ITEM_TIMESTAMP_POINTER, STRING, null, MEDIUM, "Item Timestamp JsonPointer")
-                .define(ITEM_OFFSET_VALUE_POINTER, STRING, "", MEDIUM, "Item Offset JsonPointers");
+                .define(ITEM_OFFSET_VALUE_POINTER, STRING, "", MEDIUM, "Item Offset JsonPointers")
+                .define(VALUE_MAP, BOOLEAN, false, LOW, "Keep each item's parsed value to convert it to a map, set when the record mapper reads maps");
     }
 }
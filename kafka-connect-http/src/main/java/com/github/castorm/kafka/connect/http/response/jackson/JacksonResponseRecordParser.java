@@ -23,11 +23,14 @@ package com.github.castorm.kafka.connect.http.response.jackson;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.github.castorm.kafka.connect.http.response.jackson.model.JacksonRecord;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.Configurable;
 
+import java.io.InputStream;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -45,6 +48,8 @@ public class JacksonResponseRecordParser implements Configurable {
 
     private JsonPointer recordsPointer;
 
+    private boolean streaming;
+
     public JacksonResponseRecordParser() {
         this(new JacksonRecordParser(), new JacksonSerializer(new ObjectMapper()));
     }
@@ -57,11 +62,25 @@ public class JacksonResponseRecordParser implements Configurable {
     public void configure(Map<String, ?> settings) {
         JacksonRecordParserConfig config = configFactory.apply(settings);
         recordsPointer = config.getRecordsPointer();
+        streaming = config.getStreaming();
     }
 
     Stream<JacksonRecord> getRecords(byte[] body) {
+        return getRecords(body, serializer::streamArrayAt, serializer::deserialize);
+    }
+
+    Stream<JacksonRecord> getRecords(InputStream body) {
+        return getRecords(body, serializer::streamArrayAt, serializer::deserialize);
+    }
 
-        JsonNode jsonBody = serializer.deserialize(body);
+    private <T> Stream<JacksonRecord> getRecords(T body, BiFunction<T, JsonPointer, Stream<TokenBuffer>> streamArrayAt, Function<T, JsonNode> deserialize) {
+
+        if (streaming) {
+            return streamArrayAt.apply(body, recordsPointer)
+                    .map(this::toJacksonRecord);
+        }
+
+        JsonNode jsonBody = deserialize.apply(body);
 
         Map<String, Object> responseOffset = getResponseOffset(jsonBody);
 
@@ -69,16 +88,41 @@ public class JacksonResponseRecordParser implements Configurable {
                 .map(jsonRecord -> toJacksonRecord(jsonRecord, responseOffset));
     }
 
+    /**
+     * Records keeping their value as the bytes it had in the body, instead of as a string
+     */
+    Stream<JacksonRecord> getRawRecords(byte[] body) {
+        return serializer.sliceArrayAt(body, recordsPointer)
+                .map(item -> JacksonRecord.builder()
+                        .key(recordParser.getKey(item.getNode()).orElse(null))
+                        .timestamp(recordParser.getTimestamp(item.getNode()).orElse(null))
+                        .offset(recordParser.getOffset(item.getNode()))
+                        .bodyBytes(recordParser.getValueBytes(item.getNode(), item.getBytes()))
+                        .build());
+    }
+
     private Map<String, Object> getResponseOffset(JsonNode node) {
         return emptyMap();
     }
 
+    private JacksonRecord toJacksonRecord(TokenBuffer item) {
+        JsonNode jsonRecord = serializer.deserialize(item);
+        return JacksonRecord.builder()
+                .key(recordParser.getKey(jsonRecord).orElse(null))
+                .timestamp(recordParser.getTimestamp(jsonRecord).orElse(null))
+                .offset(recordParser.getOffset(jsonRecord))
+                .body(recordParser.getValue(item, jsonRecord))
+                .bodyMap(recordParser.getValueMap(jsonRecord))
+                .build();
+    }
+
     private JacksonRecord toJacksonRecord(JsonNode jsonRecord, Map<String, Object> responseOffset) {
         return JacksonRecord.builder()
                 .key(recordParser.getKey(jsonRecord).orElse(null))
                 .timestamp(recordParser.getTimestamp(jsonRecord).orElse(null))
                 .offset(merge(responseOffset, recordParser.getOffset(jsonRecord)))
                 .body(recordParser.getValue(jsonRecord))
+                .bodyMap(recordParser.getValueMap(jsonRecord))
                 .build();
     }
 }
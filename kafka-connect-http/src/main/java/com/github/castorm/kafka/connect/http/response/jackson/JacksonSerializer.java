@@ -20,16 +20,37 @@ package com.github.castorm.kafka.connect.http.response.jackson;
  * #L%
  */
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.Value;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 import static com.fasterxml.jackson.core.JsonPointer.compile;
+import static com.fasterxml.jackson.core.filter.TokenFilter.Inclusion.ONLY_INCLUDE_ALL;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 
 @RequiredArgsConstructor
@@ -48,11 +69,189 @@ class JacksonSerializer {
         return objectMapper.readTree(body);
     }
 
+    @SneakyThrows(IOException.class)
+    JsonNode deserialize(InputStream body) {
+        return objectMapper.readTree(body);
+    }
+
     @SneakyThrows(IOException.class)
     String serialize(JsonNode node) {
         return objectMapper.writeValueAsString(node);
     }
 
+    @SneakyThrows(IOException.class)
+    byte[] serializeAsBytes(JsonNode node) {
+        return objectMapper.writeValueAsBytes(node);
+    }
+
+    @SneakyThrows(IOException.class)
+    JsonNode deserialize(TokenBuffer buffer) {
+        return objectMapper.readTree(buffer.asParser(objectMapper));
+    }
+
+    @SneakyThrows(IOException.class)
+    String serialize(TokenBuffer buffer) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            buffer.serialize(generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Streams the items of the array found at the pointer, reading the body token by token, and buffering the tokens
+     * of one item at a time instead of building a tree for the whole body.
+     */
+    @SneakyThrows(IOException.class)
+    Stream<TokenBuffer> streamArrayAt(byte[] body, JsonPointer pointer) {
+        return streamArrayAt(objectMapper.getFactory().createParser(body), pointer);
+    }
+
+    @SneakyThrows(IOException.class)
+    Stream<TokenBuffer> streamArrayAt(InputStream body, JsonPointer pointer) {
+        return streamArrayAt(objectMapper.getFactory().createParser(body), pointer);
+    }
+
+    Stream<TokenBuffer> streamArrayAt(JsonParser parser, JsonPointer pointer) {
+        return streamArrayAt(parser, pointer, this::copyCurrentStructure);
+    }
+
+    /**
+     * Streams the items of the array found at the pointer along with their bytes, sliced from the body by their token
+     * offsets as they were, without serializing them again.
+     */
+    @SneakyThrows(IOException.class)
+    Stream<RawItem> sliceArrayAt(byte[] body, JsonPointer pointer) {
+        return streamArrayAt(objectMapper.getFactory().createParser(body), pointer, items -> {
+            int start = (int) items.getTokenLocation().getByteOffset();
+            JsonNode node = objectMapper.readTree(items);
+            int end = (int) items.getCurrentLocation().getByteOffset();
+            return new RawItem(node, Arrays.copyOfRange(body, start, end));
+        });
+    }
+
+    @SneakyThrows(IOException.class)
+    private <T> Stream<T> streamArrayAt(JsonParser parser, JsonPointer pointer, ItemReader<T> reader) {
+        JsonParser items = JSON_ROOT.equals(pointer) ? parser : new FilteringParserDelegate(parser, new JsonPointerBasedFilter(pointer), ONLY_INCLUDE_ALL, false);
+        JsonToken token = items.nextToken();
+        if (token == null) {
+            parser.close();
+            throw new IllegalArgumentException(String.format("No node at '%s'", pointer));
+        } else if (token == JsonToken.VALUE_NULL) {
+            parser.close();
+            return Stream.empty();
+        } else if (token != JsonToken.START_ARRAY) {
+            T item = reader.read(items);
+            parser.close();
+            return Stream.of(item);
+        }
+        return stream(spliteratorUnknownSize(new ArrayItemIterator<>(items, reader), ORDERED | NONNULL), false)
+                .onClose(() -> closeQuietly(parser));
+    }
+
+    private TokenBuffer copyCurrentStructure(JsonParser parser) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    private static void closeQuietly(JsonParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+
+    @Value
+    static class RawItem {
+
+        JsonNode node;
+
+        byte[] bytes;
+    }
+
+    @FunctionalInterface
+    private interface ItemReader<T> {
+
+        T read(JsonParser parser) throws IOException;
+    }
+
+    @RequiredArgsConstructor
+    private static class ArrayItemIterator<T> implements Iterator<T> {
+
+        private final JsonParser parser;
+
+        private final ItemReader<T> reader;
+
+        private T next;
+
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = next;
+            next = null;
+            return item;
+        }
+
+        private T readNext() {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    done = true;
+                    parser.close();
+                    return null;
+                }
+                return reader.read(parser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Converts an object node into the same maps, lists and values reading its JSON as a map would result in.
+     */
+    Map<String, Object> toMap(JsonNode node) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> map.put(field.getKey(), toObject(field.getValue())));
+        return map;
+    }
+
+    private Object toObject(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                return toMap(node);
+            case ARRAY:
+                List<Object> list = new ArrayList<>(node.size());
+                node.forEach(item -> list.add(toObject(item)));
+                return list;
+            case STRING:
+                return node.textValue();
+            case NUMBER:
+                return node.numberValue();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NULL:
+            case MISSING:
+                return null;
+            default:
+                return objectMapper.convertValue(node, Object.class);
+        }
+    }
+
     JsonNode getObjectAt(JsonNode node, JsonPointer pointer) {
         return getRequiredAt(node, pointer);
     }
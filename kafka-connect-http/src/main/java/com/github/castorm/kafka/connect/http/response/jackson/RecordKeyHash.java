@@ -0,0 +1,50 @@
+package com.github.castorm.kafka.connect.http.response.jackson;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.function.Function;
+
+import static com.github.castorm.kafka.connect.common.HashUtils.murmur3_128;
+import static com.github.castorm.kafka.connect.common.HashUtils.xxHash64;
+import static java.util.UUID.nameUUIDFromBytes;
+
+/**
+ * Hash used to generate a consistent key for records whose key can't be found in their body.
+ */
+public enum RecordKeyHash {
+
+    UUID(bytes -> nameUUIDFromBytes(bytes).toString()),
+    XXHASH64(bytes -> String.format("%016x", xxHash64(bytes))),
+    MURMUR3_128(bytes -> {
+        long[] hash = murmur3_128(bytes);
+        return String.format("%016x%016x", hash[0], hash[1]);
+    });
+
+    private final Function<byte[], String> function;
+
+    RecordKeyHash(Function<byte[], String> function) {
+        this.function = function;
+    }
+
+    String hash(byte[] bytes) {
+        return function.apply(bytes);
+    }
+}
@@ -22,10 +22,13 @@ package com.github.castorm.kafka.connect.http.response.jackson.model;
 
 import lombok.Builder;
 import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import lombok.With;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyMap;
 
@@ -50,4 +53,17 @@ public class JacksonRecord {
     Map<String, Object> offset = emptyMap();
 
     String body;
+
+    /**
+     * The body as it was in the response, for raw records, which don't have it as a string
+     */
+    @ToString.Exclude
+    byte[] bodyBytes;
+
+    /**
+     * The body as a map, when it's a JSON object, converted from the already parsed tree
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Supplier<Map<String, Object>> bodyMap;
 }
@@ -21,9 +21,11 @@ package com.github.castorm.kafka.connect.http.response.spi;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import org.apache.kafka.common.Configurable;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +34,14 @@ public interface HttpResponseParser extends Configurable {
 
     List<SourceRecord> parse(HttpResponse response);
 
+    /**
+     * Parses a response while its body is being read. By default the body is buffered and {@link #parse(HttpResponse)}
+     * used, implementations able to consume it incrementally should override it.
+     */
+    default List<SourceRecord> parseStream(StreamingHttpResponse response) throws IOException {
+        return parse(response.buffer());
+    }
+
     default void configure(Map<String, ?> map) {
         // Do nothing
     }
@@ -21,9 +21,11 @@ package com.github.castorm.kafka.connect.http.response.spi;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.record.model.KvRecord;
 import org.apache.kafka.common.Configurable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +34,10 @@ public interface KvRecordHttpResponseParser extends Configurable {
 
     List<KvRecord> parse(HttpResponse response);
 
+    default List<KvRecord> parseStream(StreamingHttpResponse response) throws IOException {
+        return parse(response.buffer());
+    }
+
     default void configure(Map<String, ?> map) {
         // Do nothing
     }
@@ -0,0 +1,110 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.timer.spi.Timer;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Adjusts the interval after every poll based on an exponentially weighted moving average of the new records per poll:
+ * shrinking it towards the floor while new records keep arriving, the faster the fuller responses are, and backing off
+ * exponentially towards the ceiling while there are none, by at least a milli per poll.
+ */
+public class ThroughputIntervalTimer implements Timer {
+
+    private final Function<Map<String, ?>, ThroughputIntervalTimerConfig> configFactory;
+
+    private final Supplier<Long> clock;
+
+    private long minIntervalMillis;
+
+    private long maxIntervalMillis;
+
+    private double backoffMultiplier;
+
+    private double smoothing;
+
+    private int pageSize;
+
+    @Getter
+    private long intervalMillis;
+
+    @Getter
+    private double newRecordsAverage = -1;
+
+    private long lastPollMillis;
+
+    public ThroughputIntervalTimer() {
+        this(ThroughputIntervalTimerConfig::new, System::currentTimeMillis);
+    }
+
+    ThroughputIntervalTimer(Function<Map<String, ?>, ThroughputIntervalTimerConfig> configFactory, Supplier<Long> clock) {
+        this.configFactory = configFactory;
+        this.clock = clock;
+        this.lastPollMillis = clock.get();
+    }
+
+    @Override
+    public void configure(Map<String, ?> settings) {
+        ThroughputIntervalTimerConfig config = configFactory.apply(settings);
+        minIntervalMillis = config.getMinIntervalMillis();
+        maxIntervalMillis = config.getMaxIntervalMillis();
+        backoffMultiplier = config.getBackoffMultiplier();
+        smoothing = config.getSmoothing();
+        pageSize = config.getPageSize();
+        intervalMillis = config.getInitialIntervalMillis();
+    }
+
+    @Override
+    public Long getRemainingMillis() {
+        return max(intervalMillis - (clock.get() - lastPollMillis), 0);
+    }
+
+    @Override
+    public void reset(Instant lastZero) {
+        lastPollMillis = clock.get();
+    }
+
+    @Override
+    public void update(int recordCount, int newRecordCount) {
+        newRecordsAverage = newRecordsAverage < 0
+                ? newRecordCount
+                : smoothing * newRecordCount + (1 - smoothing) * newRecordsAverage;
+
+        if (newRecordCount == 0) {
+            intervalMillis = min(max(intervalMillis + 1, (long) ceil(intervalMillis * backoffMultiplier)), maxIntervalMillis);
+        } else if (pageSize > 0 && recordCount >= pageSize) {
+            intervalMillis = minIntervalMillis;
+        } else {
+            double fullness = pageSize > 0 ? min(newRecordsAverage / pageSize, 1) : 1;
+            intervalMillis = max((long) (intervalMillis / (1 + (backoffMultiplier - 1) * fullness)), minIntervalMillis);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.timer.FixedIntervalTimerConfig.TIMER_INTERVAL_MILLIS;
+import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
+import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
+import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Range.between;
+import static org.apache.kafka.common.config.ConfigDef.Type.DOUBLE;
+import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
+
+@Getter
+public class ThroughputIntervalTimerConfig extends AbstractConfig {
+
+    private static final String MIN_INTERVAL_MILLIS = "http.timer.throughput.min.interval.millis";
+    private static final String MAX_INTERVAL_MILLIS = "http.timer.throughput.max.interval.millis";
+    private static final String BACKOFF_MULTIPLIER = "http.timer.throughput.backoff.multiplier";
+    private static final String SMOOTHING = "http.timer.throughput.smoothing";
+    private static final String PAGE_SIZE = "http.timer.throughput.page.size";
+
+    private final Long initialIntervalMillis;
+    private final Long minIntervalMillis;
+    private final Long maxIntervalMillis;
+    private final Double backoffMultiplier;
+    private final Double smoothing;
+    private final Integer pageSize;
+
+    ThroughputIntervalTimerConfig(Map<String, ?> originals) {
+        super(config(), originals);
+        minIntervalMillis = getLong(MIN_INTERVAL_MILLIS);
+        maxIntervalMillis = Math.max(getLong(MAX_INTERVAL_MILLIS), minIntervalMillis);
+        initialIntervalMillis = Math.min(Math.max(getLong(TIMER_INTERVAL_MILLIS), minIntervalMillis), maxIntervalMillis);
+        backoffMultiplier = getDouble(BACKOFF_MULTIPLIER);
+        smoothing = getDouble(SMOOTHING);
+        pageSize = getInt(PAGE_SIZE);
+    }
+
+    public static ConfigDef config() {
+        return new ConfigDef()
+                .define(TIMER_INTERVAL_MILLIS, LONG, 60000L, HIGH, "Timer Interval Millis to start with")
+                .define(MIN_INTERVAL_MILLIS, LONG, 1000L, atLeast(1), HIGH, "Timer Interval Millis floor while new records keep arriving")
+                .define(MAX_INTERVAL_MILLIS, LONG, 300000L, atLeast(0), HIGH, "Timer Interval Millis ceiling while there are no new records")
+                .define(BACKOFF_MULTIPLIER, DOUBLE, 2.0, atLeast(1), LOW, "Factor the interval is multiplied by after a poll without new records")
+                .define(SMOOTHING, DOUBLE, 0.3, between(0, 1), LOW, "Weight of the latest poll in the moving average of new records per poll")
+                .define(PAGE_SIZE, INT, 0, atLeast(0), LOW, "Records in a full response, so a full one is polled again at the floor interval, 0 if unknown");
+    }
+}
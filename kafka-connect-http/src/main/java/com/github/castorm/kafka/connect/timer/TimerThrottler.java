@@ -51,4 +51,8 @@ public class TimerThrottler implements Throttler {
         timer.reset(lastZero);
         throttle();
     }
+
+    public void update(int recordCount, int newRecordCount) {
+        timer.update(recordCount, newRecordCount);
+    }
 }
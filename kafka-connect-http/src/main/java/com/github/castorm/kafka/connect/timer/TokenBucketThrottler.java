@@ -0,0 +1,160 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.common.HttpHeaderUtils;
+import com.github.castorm.kafka.connect.timer.spi.Sleeper;
+import com.github.castorm.kafka.connect.timer.spi.Throttler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.header;
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.parseLong;
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.retryAfterMillis;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Token bucket letting through a number of permits per second, with bursts of up to its capacity, and adjusting to the
+ * quota the server reports through the {@code Retry-After}, {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} headers of its responses.
+ * <p>
+ * Permits are reserved under a lock but waited for outside of it, so it can be shared by concurrent requests.
+ */
+@Slf4j
+public class TokenBucketThrottler implements Throttler {
+
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private static final long EPOCH_MILLIS_THRESHOLD = 1_000_000_000_000L;
+
+    private final double configuredPermitsPerMilli;
+
+    private final int capacity;
+
+    private final long maxPauseMillis;
+
+    private final Sleeper sleeper;
+
+    private final Supplier<Long> clock;
+
+    private double permitsPerMilli;
+
+    private long quotaResetMillis;
+
+    private double tokens;
+
+    private long lastRefillMillis;
+
+    public TokenBucketThrottler(double permitsPerSecond, int capacity, long maxPauseMillis) {
+        this(permitsPerSecond, capacity, maxPauseMillis, Thread::sleep, System::currentTimeMillis);
+    }
+
+    TokenBucketThrottler(double permitsPerSecond, int capacity, long maxPauseMillis, Sleeper sleeper, Supplier<Long> clock) {
+        this.configuredPermitsPerMilli = permitsPerSecond / 1000;
+        this.capacity = capacity;
+        this.maxPauseMillis = maxPauseMillis;
+        this.sleeper = sleeper;
+        this.clock = clock;
+        this.permitsPerMilli = configuredPermitsPerMilli;
+        this.tokens = capacity;
+        this.lastRefillMillis = clock.get();
+    }
+
+    @Override
+    public void throttle() throws InterruptedException {
+        long waitMillis = reserve();
+        if (waitMillis > 0) {
+            sleeper.sleep(waitMillis);
+        }
+    }
+
+    synchronized long reserve() {
+        long now = clock.get();
+        refill(now);
+        tokens -= 1;
+        long untilRefill = max(lastRefillMillis - now, 0);
+        return tokens >= 0 ? untilRefill : untilRefill + (long) ceil(-tokens / permitsPerMilli);
+    }
+
+    /**
+     * Adjusts to the rate limit headers of a response: pausing until {@code Retry-After}, or until
+     * {@code X-RateLimit-Reset} when no requests remain, otherwise spreading the remaining ones until the reset. A
+     * {@code 429} without any of them just empties the bucket. Neither is followed further than the max pause, so a
+     * misreported reset can't stall requests indefinitely.
+     */
+    public synchronized void update(Integer code, Map<String, List<String>> headers) {
+        long now = clock.get();
+        refill(now);
+
+        Optional<Long> retryAfterMillis = retryAfterMillis(headers, now).map(delay -> now + min(delay, maxPauseMillis));
+        Optional<Long> remaining = header(headers, "X-RateLimit-Remaining").flatMap(HttpHeaderUtils::parseLong);
+        Optional<Long> resetMillis = header(headers, "X-RateLimit-Reset").flatMap(value -> parseReset(value, now))
+                .map(reset -> min(reset, now + maxPauseMillis));
+
+        retryAfterMillis.ifPresent(this::pauseUntil);
+        if (remaining.isPresent() && resetMillis.isPresent() && resetMillis.get() > now) {
+            if (remaining.get() <= 0) {
+                pauseUntil(resetMillis.get());
+            } else {
+                permitsPerMilli = (double) remaining.get() / (resetMillis.get() - now);
+                quotaResetMillis = resetMillis.get();
+                tokens = min(tokens, remaining.get());
+            }
+        } else if (!retryAfterMillis.isPresent() && Integer.valueOf(429).equals(code)) {
+            tokens = min(tokens, 0);
+        }
+    }
+
+    private void refill(long now) {
+        if (quotaResetMillis > 0 && now >= quotaResetMillis) {
+            permitsPerMilli = configuredPermitsPerMilli;
+            quotaResetMillis = 0;
+        }
+        if (now > lastRefillMillis) {
+            tokens = min(tokens + (now - lastRefillMillis) * permitsPerMilli, capacity);
+            lastRefillMillis = now;
+        }
+    }
+
+    private void pauseUntil(long millis) {
+        if (millis > lastRefillMillis) {
+            log.info("Rate limited by the server, pausing requests for {} ms", millis - clock.get());
+            lastRefillMillis = millis;
+            tokens = min(tokens, 0);
+        }
+    }
+
+    /**
+     * Some servers report the reset as epoch millis, others as epoch seconds, others as seconds from now, told apart by
+     * their magnitude.
+     */
+    private static Optional<Long> parseReset(String value, long now) {
+        return parseLong(value).map(reset -> reset >= EPOCH_MILLIS_THRESHOLD ? reset
+                : reset >= EPOCH_SECONDS_THRESHOLD ? reset * 1000
+                : now + reset * 1000);
+    }
+}
@@ -34,6 +34,13 @@ public interface Timer extends Configurable {
         // Do nothing
     }
 
+    /**
+     * Informs about the outcome of the latest poll: the records in the response, and how many of them were new.
+     */
+    default void update(int recordCount, int newRecordCount) {
+        // Do nothing
+    }
+
     @Override
     default void configure(Map<String, ?> configs) {
         // Do nothing
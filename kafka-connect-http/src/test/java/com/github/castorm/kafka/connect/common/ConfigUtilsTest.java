@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownHeaders;
@@ -32,6 +34,10 @@ import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownList;
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownMap;
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownMapList;
 import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownQueryParams;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartition;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.breakDownPartitionList;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.joinPartition;
+import static com.github.castorm.kafka.connect.common.ConfigUtils.joinPartitionList;
 import static com.github.castorm.kafka.connect.common.ConfigUtils.parseIntegerRangedList;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -190,6 +196,47 @@ class ConfigUtilsTest {
                 .contains(ImmutableMap.of("name1", "value1"), ImmutableMap.of("name2", "value2"));
     }
 
+    @Test
+    void whenBreakDownMapWithBackslashes_thenKept() {
+        assertThat(breakDownMap("name=\\d+\\=")).containsExactly(new SimpleEntry<>("name", "\\d+\\="));
+    }
+
+    @Test
+    void whenJoinEmptyPartition_thenEmptyString() {
+        assertThat(joinPartition(ImmutableMap.of())).isEmpty();
+    }
+
+    @Test
+    void whenJoinPartition_thenBrokenDownBack() {
+        assertThat(breakDownPartition(joinPartition(ImmutableMap.of("name1", "value1", "name2", "value2"))))
+                .isEqualTo(ImmutableMap.of("name1", "value1", "name2", "value2"));
+    }
+
+    @Test
+    void whenJoinPartitionList_thenBrokenDownBack() {
+        assertThat(breakDownPartitionList(joinPartitionList(asList(ImmutableMap.of("name1", "value1"), ImmutableMap.of("name2", "value2")))))
+                .containsExactly(ImmutableMap.of("name1", "value1"), ImmutableMap.of("name2", "value2"));
+    }
+
+    @Test
+    void whenJoinPartitionWithSeparatorsInKeysAndValues_thenBrokenDownBack() {
+        Map<String, String> map = ImmutableMap.of("na,me=1", "va;lue=1,x", "name\\2", "value\\,2");
+
+        assertThat(breakDownPartition(joinPartition(map))).isEqualTo(map);
+    }
+
+    @Test
+    void whenJoinPartitionListWithSeparatorsInKeysAndValues_thenBrokenDownBack() {
+        List<Map<String, String>> mapList = asList(ImmutableMap.of("id", "a;b,c=d"), ImmutableMap.of("id", "e\\;"));
+
+        assertThat(breakDownPartitionList(joinPartitionList(mapList))).isEqualTo(mapList);
+    }
+
+    @Test
+    void whenBreakDownPartitionWithEscapedSeparators_thenUnescaped() {
+        assertThat(breakDownPartition("name\\=1=value\\,1")).containsExactly(new SimpleEntry<>("name=1", "value,1"));
+    }
+
     @Test
     void givenEmpty_whenParsed_thenEmpty() {
         assertThat(parseIntegerRangedList("")).isEmpty();
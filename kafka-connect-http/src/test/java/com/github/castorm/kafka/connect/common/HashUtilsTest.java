@@ -0,0 +1,63 @@
+package com.github.castorm.kafka.connect.common;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+
+import static com.github.castorm.kafka.connect.common.HashUtils.murmur3_128;
+import static com.github.castorm.kafka.connect.common.HashUtils.xxHash64;
+import static com.github.castorm.kafka.connect.common.HashUtilsTest.Fixture.bytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashUtilsTest {
+
+    @Test
+    void whenXxHash64Empty_thenReferenceValue() {
+        assertThat(xxHash64(bytes(""))).isEqualTo(0xEF46DB3751D8E999L);
+    }
+
+    @Test
+    void whenXxHash64Short_thenReferenceValue() {
+        assertThat(xxHash64(bytes("abc"))).isEqualTo(0x44BC2CF5AD770999L);
+    }
+
+    @Test
+    void whenXxHash64Long_thenReferenceValue() {
+        assertThat(xxHash64(bytes("Nobody inspects the spammish repetition"))).isEqualTo(0xFBCEA83C8A378BF1L);
+    }
+
+    @Test
+    void whenMurmur3_128AnyLength_thenSameAsReference() {
+        String text = "Nobody inspects the spammish repetition";
+        for (int length = 0; length <= text.length(); length++) {
+            byte[] input = bytes(text.substring(0, length));
+            assertThat(murmur3_128(input)[0]).isEqualTo(Hashing.murmur3_128().hashBytes(input).asLong());
+        }
+    }
+
+    interface Fixture {
+        static byte[] bytes(String text) {
+            return text.getBytes(UTF_8);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.castorm.kafka.connect.common;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.header;
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtils.retryAfterMillis;
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtilsTest.Fixture.headers;
+import static com.github.castorm.kafka.connect.common.HttpHeaderUtilsTest.Fixture.now;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpHeaderUtilsTest {
+
+    @Test
+    void whenHeaderDifferentCase_thenFirstValue() {
+        assertThat(header(headers("retry-after", "2"), "Retry-After")).contains("2");
+    }
+
+    @Test
+    void whenHeaderMissing_thenEmpty() {
+        assertThat(header(emptyMap(), "Retry-After")).isEmpty();
+    }
+
+    @Test
+    void whenRetryAfterSeconds_thenMillis() {
+        assertThat(retryAfterMillis(headers("Retry-After", " 2 "), now)).contains(2000L);
+    }
+
+    @Test
+    void whenRetryAfterHttpDate_thenMillisUntilThen() {
+        String date = RFC_1123_DATE_TIME.format(ZonedDateTime.parse("2020-01-01T00:00:30Z"));
+        assertThat(retryAfterMillis(headers("Retry-After", date), now)).contains(30000L);
+    }
+
+    @Test
+    void whenRetryAfterHttpDateInThePast_thenZero() {
+        assertThat(retryAfterMillis(headers("Retry-After", "Wed, 21 Oct 2015 07:28:00 GMT"), now)).contains(0L);
+    }
+
+    @Test
+    void whenRetryAfterInvalid_thenEmpty() {
+        assertThat(retryAfterMillis(headers("Retry-After", "soon"), now)).isEmpty();
+    }
+
+    interface Fixture {
+        long now = ZonedDateTime.parse("2020-01-01T00:00:00Z").toInstant().toEpochMilli();
+
+        static Map<String, List<String>> headers(String name, String value) {
+            return singletonMap(name, singletonList(value));
+        }
+    }
+}
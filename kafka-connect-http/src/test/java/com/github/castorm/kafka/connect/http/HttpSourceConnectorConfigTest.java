@@ -36,6 +36,7 @@ import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.timer.AdaptableIntervalTimer;
 import com.github.castorm.kafka.connect.timer.FixedIntervalTimer;
 import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -120,6 +121,47 @@ class HttpSourceConnectorConfigTest {
         Assertions.assertThat(config("http.offset.initial", "k=v").getInitialOffset()).isEqualTo(ImmutableMap.of("k", "v"));
     }
 
+    @Test
+    void whenNoPipelineDepth_thenDefault() {
+        Assertions.assertThat(configWithout("http.poll.pipeline.depth").getPipelineDepth()).isEqualTo(0);
+    }
+
+    @Test
+    void whenPipelineDepth_thenInitialized() {
+        Assertions.assertThat(config("http.poll.pipeline.depth", "3").getPipelineDepth()).isEqualTo(3);
+    }
+
+    @Test
+    void whenNoResponseStreaming_thenDefault() {
+        Assertions.assertThat(configWithout("http.response.body.streaming").getResponseStreaming()).isFalse();
+    }
+
+    @Test
+    void whenResponseStreaming_thenInitialized() {
+        Assertions.assertThat(config("http.response.body.streaming", "true").getResponseStreaming()).isTrue();
+    }
+
+    @Test
+    void whenNoSourcePartition_thenDefault() {
+        Assertions.assertThat(configWithout("http.source.partition").getSourcePartition()).isEqualTo(emptyMap());
+    }
+
+    @Test
+    void whenSourcePartition_thenInitialized() {
+        Assertions.assertThat(config("http.source.partition", "shard=1").getSourcePartition()).isEqualTo(ImmutableMap.of("shard", "1"));
+    }
+
+    @Test
+    void whenNoSourcePartitions_thenDefault() {
+        Assertions.assertThat(configWithout("http.source.partitions").getSourcePartitions()).isEmpty();
+    }
+
+    @Test
+    void whenSourcePartitions_thenInitialized() {
+        Assertions.assertThat(config("http.source.partitions", "shard=1;shard=2").getSourcePartitions())
+                .containsExactly(ImmutableMap.of("shard", "1"), ImmutableMap.of("shard", "2"));
+    }
+
     public static class TestHttpClient implements HttpClient {
         public HttpResponse execute(HttpRequest request) {
             return null;
@@ -144,6 +186,20 @@ class HttpSourceConnectorConfigTest {
         }
     }
 
+    @Test
+    void whenPaginatedWithOffsetValidators_thenConfigException() {
+        Map<String, String> settings = Fixture.defaultMap();
+        settings.put("http.request.factory", "com.github.castorm.kafka.connect.http.request.template.PaginatedTemplateHttpRequestFactory");
+        settings.put("http.response.offset.validators", "true");
+
+        Assertions.assertThat(Assertions.catchThrowable(() -> new HttpSourceConnectorConfig(settings))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenOffsetValidatorsWithoutPagination_thenAccepted() {
+        Assertions.assertThat(config("http.response.offset.validators", "true").getRequestFactory()).isInstanceOf(TemplateHttpRequestFactory.class);
+    }
+
     interface Fixture {
         static Map<String, String> defaultMap() {
             return new HashMap<String, String>() {{
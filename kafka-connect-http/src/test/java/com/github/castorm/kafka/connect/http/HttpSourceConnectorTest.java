@@ -20,15 +20,41 @@ package com.github.castorm.kafka.connect.http;
  * #L%
  */
 
+import com.github.castorm.kafka.connect.http.partition.TaskPartitionerConfig;
+import com.github.castorm.kafka.connect.http.partition.spi.TaskPartitioner;
 import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 
+@ExtendWith(MockitoExtension.class)
 class HttpSourceConnectorTest {
 
-    HttpSourceConnector connector = new HttpSourceConnector();
+    HttpSourceConnector connector;
+
+    @Mock
+    TaskPartitionerConfig config;
+
+    @Mock
+    TaskPartitioner partitioner;
+
+    Map<String, String> settings = ImmutableMap.of("key", "value");
+
+    @BeforeEach
+    void setUp() {
+        connector = new HttpSourceConnector(__ -> config);
+    }
 
     @Test
     void whenTaskClass_thenHttpSourceTask() {
@@ -41,26 +67,37 @@ class HttpSourceConnectorTest {
     }
 
     @Test
-    void whenSeveralTaskConfigs_thenAsManyReturned() {
-        assertThat(connector.taskConfigs(3)).hasSize(3);
+    void givenSinglePartition_whenSeveralTaskConfigs_thenConnectorConfig() {
+
+        given(config.getPartitioner()).willReturn(partitioner);
+        given(partitioner.partition(3)).willReturn(singletonList(emptyMap()));
+        connector.start(settings);
+
+        assertThat(connector.taskConfigs(3)).containsExactly(settings);
     }
 
     @Test
-    void whenSeveralTaskConfigs_thenAllWithConnectorConfig() {
-
-        ImmutableMap<String, String> myMap = ImmutableMap.of("key", "value");
+    void givenSeveralPartitions_whenSeveralTaskConfigs_thenOnePerPartition() {
 
-        connector.start(myMap);
+        given(config.getPartitioner()).willReturn(partitioner);
+        given(partitioner.partition(3)).willReturn(asList(singletonMap("shard", "0"), singletonMap("shard", "1")));
+        connector.start(settings);
 
-        assertThat(connector.taskConfigs(3)).containsExactly(myMap, myMap, myMap);
+        assertThat(connector.taskConfigs(3)).containsExactly(
+                ImmutableMap.of("key", "value", "http.source.partitions", "shard=0"),
+                ImmutableMap.of("key", "value", "http.source.partitions", "shard=1"));
     }
 
     @Test
-    void whenStop_thenSettingsNull() {
+    void givenMorePartitionsThanTasks_whenTaskConfigs_thenPartitionsGrouped() {
 
-        connector.stop();
+        given(config.getPartitioner()).willReturn(partitioner);
+        given(partitioner.partition(2)).willReturn(asList(singletonMap("shard", "0"), singletonMap("shard", "1"), singletonMap("shard", "2")));
+        connector.start(settings);
 
-        assertThat(connector.taskConfigs(1)).isEqualTo(singletonList(null));
+        assertThat(connector.taskConfigs(2)).containsExactly(
+                ImmutableMap.of("key", "value", "http.source.partitions", "shard=0;shard=1"),
+                ImmutableMap.of("key", "value", "http.source.partitions", "shard=2"));
     }
 
     @Test
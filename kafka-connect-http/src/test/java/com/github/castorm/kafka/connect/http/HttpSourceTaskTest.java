@@ -20,15 +20,18 @@ package com.github.castorm.kafka.connect.http;
  * #L%
  */
 
+import com.github.castorm.kafka.connect.http.client.circuit.CircuitOpenException;
 import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
 import com.github.castorm.kafka.connect.http.model.HttpRequest;
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
 import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
 import com.github.castorm.kafka.connect.http.record.spi.SourceRecordSorter;
 import com.github.castorm.kafka.connect.http.request.spi.HttpRequestFactory;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.timer.TimerThrottler;
+import com.github.castorm.kafka.connect.timer.spi.Timer;
 import com.google.common.collect.ImmutableMap;
 import org.apache.kafka.connect.errors.RetriableException;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -40,8 +43,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.offset;
@@ -50,14 +55,19 @@ import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.o
 import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.record;
 import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.request;
 import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.response;
+import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.sourcePartition;
+import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.sourcePartition2;
+import static com.github.castorm.kafka.connect.http.HttpSourceTaskTest.Fixture.streamingResponse;
 import static java.time.Instant.now;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -70,12 +80,21 @@ class HttpSourceTaskTest {
     @Mock
     HttpSourceConnectorConfig config;
 
+    @Mock
+    HttpSourceConnectorConfig partitionConfig;
+
     @Mock
     TimerThrottler throttler;
 
+    @Mock
+    Timer timer;
+
     @Mock
     HttpRequestFactory requestFactory;
 
+    @Mock
+    HttpRequestFactory partitionRequestFactory;
+
     @Mock
     HttpClient client;
 
@@ -102,6 +121,19 @@ class HttpSourceTaskTest {
         given(config.getRecordFilterFactory()).willReturn(recordFilterFactory);
     }
 
+    private void givenTaskWithSeveralSourcePartitions() {
+        task = new HttpSourceTask(settings -> "shard=2".equals(settings.get("http.source.partition")) ? partitionConfig : config);
+        givenTaskConfiguration();
+        given(config.getSourcePartitions()).willReturn(asList(sourcePartition, sourcePartition2));
+        given(config.getSourcePartition()).willReturn(sourcePartition);
+        given(partitionConfig.getSourcePartition()).willReturn(sourcePartition2);
+        given(partitionConfig.getThrottler()).willReturn(throttler);
+        given(partitionConfig.getRequestFactory()).willReturn(partitionRequestFactory);
+        given(partitionConfig.getResponseParser()).willReturn(responseParser);
+        given(partitionConfig.getRecordSorter()).willReturn(recordSorter);
+        given(partitionConfig.getRecordFilterFactory()).willReturn(recordFilterFactory);
+    }
+
     private static SourceTaskContext getContext(Map<String, Object> offset) {
         SourceTaskContext context = mock(SourceTaskContext.class);
         OffsetStorageReader offsetStorageReader = mock(OffsetStorageReader.class);
@@ -143,6 +175,73 @@ class HttpSourceTaskTest {
         assertThat(task.getOffset()).isEqualTo(Offset.of(offsetInitialMap));
     }
 
+    @Test
+    void givenTaskWithSourcePartition_whenStart_thenOffsetRestoredForSourcePartition() {
+
+        givenTaskConfiguration();
+        given(config.getSourcePartition()).willReturn(sourcePartition);
+        SourceTaskContext context = getContext(offsetMap);
+        task.initialize(context);
+
+        task.start(emptyMap());
+
+        then(context.offsetStorageReader()).should().offset(sourcePartition);
+    }
+
+    @Test
+    void givenTaskWithSeveralSourcePartitions_whenStart_thenOffsetRestoredForEachSourcePartition() {
+
+        givenTaskWithSeveralSourcePartitions();
+        SourceTaskContext context = getContext(offsetMap);
+        task.initialize(context);
+
+        task.start(emptyMap());
+
+        then(context.offsetStorageReader()).should().offset(sourcePartition);
+        then(context.offsetStorageReader()).should().offset(sourcePartition2);
+    }
+
+    @Test
+    void givenTaskWithSeveralSourcePartitions_whenPollTwice_thenEachSourcePartitionPolledInTurn() throws InterruptedException, IOException {
+
+        givenTaskWithSeveralSourcePartitions();
+        given(throttler.getTimer()).willReturn(timer);
+        given(timer.getRemainingMillis()).willReturn(0L);
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(offset)).willReturn(request);
+        given(partitionRequestFactory.createRequest(offset)).willReturn(request);
+        given(client.execute(request)).willReturn(response);
+        given(recordFilterFactory.create(offset)).willReturn(__ -> true);
+
+        task.poll();
+        task.poll();
+
+        then(requestFactory).should().createRequest(offset);
+        then(partitionRequestFactory).should().createRequest(offset);
+    }
+
+    @Test
+    void givenTaskWithSeveralSourcePartitions_whenCommitRecords_thenOffsetUpdatedForTheirSourcePartition() throws InterruptedException, IOException {
+
+        givenTaskWithSeveralSourcePartitions();
+        given(throttler.getTimer()).willReturn(timer);
+        given(timer.getRemainingMillis()).willReturn(0L);
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(offset)).willReturn(request);
+        given(client.execute(request)).willReturn(response);
+        given(recordSorter.sort(any())).willReturn(asList(record(sourcePartition, offsetMap(1)), record(sourcePartition, offsetMap(2))));
+        given(recordFilterFactory.create(offset)).willReturn(__ -> true);
+        List<SourceRecord> records = task.poll();
+
+        task.commitRecord(records.get(0), null);
+        task.commitRecord(records.get(1), null);
+        task.commit();
+
+        assertThat(task.getOffset()).isEqualTo(Offset.of(offsetMap(2)));
+    }
+
     @Test
     void givenTaskInitialized_whenStart_thenGetPollIntervalMillis() {
 
@@ -233,6 +332,25 @@ class HttpSourceTaskTest {
         assertThat(task.poll()).containsExactly(record(offsetMap(1)), record(offsetMap(2)));
     }
 
+    @Test
+    void givenValidatorsOnRecordSortedFirst_whenPoll_thenValidatorsMovedToLastRecord() throws InterruptedException, IOException {
+
+        Map<String, Object> validatedOffsetMap = ImmutableMap.<String, Object>builder().putAll(offsetMap(2)).put("etag", "\"v1\"").build();
+        givenTaskConfiguration();
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(offset)).willReturn(request);
+        given(client.execute(request)).willReturn(response);
+        given(recordSorter.sort(any())).willReturn(asList(record(validatedOffsetMap), record(offsetMap(1))));
+        given(recordFilterFactory.create(offset)).willReturn(__ -> true);
+
+        List<SourceRecord> records = task.poll();
+
+        assertThat(Offset.of(records.get(0).sourceOffset()).getETag()).isEmpty();
+        assertThat(Offset.of(records.get(1).sourceOffset()).getETag()).contains("\"v1\"");
+        assertThat(Offset.of(records.get(1).sourceOffset())).isEqualTo(Offset.of(offsetMap(1)));
+    }
+
     @Test
     void givenTaskStarted_whenPoll_thenFilterFilters() throws InterruptedException, IOException {
 
@@ -259,11 +377,11 @@ class HttpSourceTaskTest {
         given(recordSorter.sort(asList(record(offsetMap))))
                 .willReturn(asList(record(offsetMap(1)), record(offsetMap(2)), record(offsetMap(3))));
         given(recordFilterFactory.create(offset)).willReturn(__ -> true);
-        task.poll();
+        List<SourceRecord> records = task.poll();
 
-        task.commitRecord(record(offsetMap(1)), null);
-        task.commitRecord(record(offsetMap(3)), null);
-        task.commitRecord(record(offsetMap(2)), null);
+        task.commitRecord(records.get(0), null);
+        task.commitRecord(records.get(2), null);
+        task.commitRecord(records.get(1), null);
         task.commit();
 
         assertThat(task.getOffset()).isEqualTo(Offset.of(offsetMap(3)));
@@ -281,12 +399,129 @@ class HttpSourceTaskTest {
         assertThat(catchThrowable(() -> task.poll())).isInstanceOf(RetriableException.class);
     }
 
+    @Test
+    void givenOffsetWithValidators_whenPoll_thenRequestConditional() throws InterruptedException, IOException {
+
+        Map<String, Object> validatedOffsetMap = ImmutableMap.<String, Object>builder().putAll(offsetMap).put("etag", "\"v1\"").build();
+        givenTaskConfiguration();
+        task.initialize(getContext(validatedOffsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(Offset.of(validatedOffsetMap))).willReturn(request);
+        given(client.execute(any())).willReturn(response);
+        given(recordFilterFactory.create(Offset.of(validatedOffsetMap))).willReturn(__ -> true);
+
+        task.poll();
+
+        then(client).should().execute(HttpRequest.builder().headers(ImmutableMap.of("If-None-Match", singletonList("\"v1\""))).build());
+    }
+
+    @Test
+    void givenTaskStartedAndCircuitOpen_whenPoll_thenEmpty() throws InterruptedException, IOException {
+
+        givenTaskConfiguration();
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(offset)).willReturn(request);
+        given(client.execute(request)).willThrow(new CircuitOpenException("http://localhost"));
+        given(recordFilterFactory.create(offset)).willReturn(__ -> true);
+
+        assertThat(task.poll()).isEmpty();
+    }
+
+    @Test
+    void givenTaskStartedWithResponseStreaming_whenPoll_thenResponseParsedAsStreamed() throws InterruptedException, IOException {
+
+        givenTaskConfiguration();
+        given(config.getResponseStreaming()).willReturn(true);
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+        given(requestFactory.createRequest(offset)).willReturn(request);
+        given(client.executeStreaming(request)).willReturn(streamingResponse);
+        given(responseParser.parseStream(streamingResponse)).willReturn(asList(record(offsetMap)));
+        given(recordSorter.sort(asList(record(offsetMap)))).willReturn(asList(record(offsetMap)));
+        given(recordFilterFactory.create(offset)).willReturn(__ -> true);
+
+        assertThat(task.poll()).containsExactly(record(offsetMap));
+    }
+
+    @Test
+    void givenTaskStartedWithPipeline_whenPoll_thenResultsReturned() throws InterruptedException, IOException {
+
+        givenTaskConfiguration();
+        given(config.getPipelineDepth()).willReturn(1);
+        given(requestFactory.createRequest(any())).willReturn(request);
+        given(client.execute(request)).willReturn(response);
+        given(responseParser.parse(response)).willReturn(asList(record(offsetMap)));
+        given(recordSorter.sort(asList(record(offsetMap)))).willReturn(asList(record(offsetMap)));
+        given(recordFilterFactory.create(any())).willReturn(__ -> true);
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+
+        try {
+            assertThat(task.poll()).contains(record(offsetMap));
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void givenTaskStartedWithPipeline_whenPoll_thenNextRequestForLastRecordOffset() throws InterruptedException, IOException {
+
+        givenTaskConfiguration();
+        given(config.getPipelineDepth()).willReturn(1);
+        given(requestFactory.createRequest(any())).willReturn(request);
+        given(client.execute(request)).willReturn(response);
+        given(responseParser.parse(response)).willReturn(asList(record(offsetMap)));
+        given(recordSorter.sort(asList(record(offsetMap)))).willReturn(asList(record(offsetMap(1)), record(offsetMap(2))));
+        given(recordFilterFactory.create(any())).willReturn(__ -> true);
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+
+        try {
+            task.poll();
+            task.poll();
+        } finally {
+            task.stop();
+        }
+
+        then(requestFactory).should(atLeastOnce()).createRequest(Offset.of(offsetMap(2)));
+    }
+
+    @Test
+    void givenTaskStartedWithPipelineAndExecuteFails_whenPoll_thenRetriableException() throws IOException {
+
+        givenTaskConfiguration();
+        given(config.getPipelineDepth()).willReturn(1);
+        given(requestFactory.createRequest(any())).willReturn(request);
+        given(client.execute(request)).willThrow(new IOException());
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+
+        try {
+            assertThat(catchThrowable(() -> task.poll())).isInstanceOf(RetriableException.class);
+        } finally {
+            task.stop();
+        }
+    }
+
     @Test
     void whenGetVersion_thenNotEmpty() {
 
         assertThat(task.version()).isNotEmpty();
     }
 
+    @Test
+    void givenTaskStarted_whenStop_thenClientClosed() {
+
+        givenTaskConfiguration();
+        task.initialize(getContext(offsetMap));
+        task.start(emptyMap());
+
+        task.stop();
+
+        then(client).should().close();
+    }
+
     @Test
     void whenStop_thenNothingHappens() {
 
@@ -300,16 +535,23 @@ class HttpSourceTaskTest {
         String key = "customKey";
         Map<String, Object> offsetMap = ImmutableMap.of("custom", "value", "key", key, "timestamp", now.toString());
         Map<String, String> offsetInitialMap = ImmutableMap.of("k2", "v2");
+        Map<String, String> sourcePartition = ImmutableMap.of("shard", "1");
+        Map<String, String> sourcePartition2 = ImmutableMap.of("shard", "2");
         Offset offset = Offset.of(offsetMap);
         HttpRequest request = HttpRequest.builder().build();
         HttpResponse response = HttpResponse.builder().build();
+        StreamingHttpResponse streamingResponse = StreamingHttpResponse.builder().body(new ByteArrayInputStream(new byte[0])).build();
 
         static Map<String, Object> offsetMap(Object value) {
             return ImmutableMap.of("custom", value, "key", key, "timestamp", now.toString());
         }
 
         static SourceRecord record(Map<String, Object> offset) {
-            return new SourceRecord(emptyMap(), offset, null, null, null, null, null, null, now.toEpochMilli());
+            return record(emptyMap(), offset);
+        }
+
+        static SourceRecord record(Map<String, String> sourcePartition, Map<String, Object> offset) {
+            return new SourceRecord(sourcePartition, offset, null, null, null, null, null, null, now.toEpochMilli());
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.github.castorm.kafka.connect.http;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.timer.spi.Sleeper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class SourcePartitionSchedulerTest {
+
+    @Mock
+    HttpSourcePartition partition1;
+
+    @Mock
+    HttpSourcePartition partition2;
+
+    @Mock
+    Sleeper sleeper;
+
+    @Test
+    void givenAllDue_whenNext_thenRoundRobin() throws InterruptedException {
+
+        given(partition1.getRemainingMillis()).willReturn(0L);
+        given(partition2.getRemainingMillis()).willReturn(0L);
+        SourcePartitionScheduler scheduler = new SourcePartitionScheduler(asList(partition1, partition2), sleeper);
+
+        assertThat(asList(scheduler.next(), scheduler.next(), scheduler.next())).containsExactly(partition1, partition2, partition1);
+    }
+
+    @Test
+    void givenOnlySecondDue_whenNext_thenSecond() throws InterruptedException {
+
+        given(partition1.getRemainingMillis()).willReturn(100L);
+        given(partition2.getRemainingMillis()).willReturn(0L);
+        SourcePartitionScheduler scheduler = new SourcePartitionScheduler(asList(partition1, partition2), sleeper);
+
+        assertThat(scheduler.next()).isEqualTo(partition2);
+    }
+
+    @Test
+    void givenNoneDue_whenNext_thenSleepUntilEarliestDue() throws InterruptedException {
+
+        given(partition1.getRemainingMillis()).willReturn(300L, 0L);
+        given(partition2.getRemainingMillis()).willReturn(200L);
+        SourcePartitionScheduler scheduler = new SourcePartitionScheduler(asList(partition1, partition2), sleeper);
+
+        scheduler.next();
+
+        then(sleeper).should().sleep(200L);
+    }
+}
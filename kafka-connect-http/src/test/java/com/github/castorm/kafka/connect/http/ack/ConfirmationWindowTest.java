@@ -26,6 +26,9 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.util.Map;
 
+import static com.github.castorm.kafka.connect.http.ack.ConfirmationWindowTest.Fixture.offset1;
+import static com.github.castorm.kafka.connect.http.ack.ConfirmationWindowTest.Fixture.offset2;
+import static com.github.castorm.kafka.connect.http.ack.ConfirmationWindowTest.Fixture.offset3;
 import static com.github.castorm.kafka.connect.http.ack.ConfirmationWindowTest.Fixture.offsetMap;
 import static java.time.Instant.now;
 import static java.util.Arrays.asList;
@@ -43,61 +46,115 @@ class ConfirmationWindowTest {
 
     @Test
     void givenConfirmationWindowInitializedWithOffsets_whenNoOffsetConfirmed_thenNullIsReturned() {
-        ConfirmationWindow<Map<String, Object>> confirmationWindow =
-                new ConfirmationWindow<>(asList(offsetMap(1), offsetMap(2), offsetMap(3)));
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
 
         assertThat(confirmationWindow.getLowWatermarkOffset()).isEmpty();
     }
 
     @Test
     void givenConfirmationWindowInitializedWithOffsets_whenAllOffsetsConfirmed_thenLastOffsetIsReturned() {
-        ConfirmationWindow<Map<String, Object>> confirmationWindow =
-                new ConfirmationWindow<>(asList(offsetMap(1), offsetMap(2), offsetMap(3)));
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
 
-        confirmationWindow.confirm(offsetMap(1));
-        confirmationWindow.confirm(offsetMap(2));
-        confirmationWindow.confirm(offsetMap(3));
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset2);
+        confirmationWindow.confirm(offset3);
 
-        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offsetMap(3));
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset3);
     }
 
     @Test
     void givenConfirmationWindowInitializedWithOffsets_whenAllOffsetsConfirmedOutOfOrder_thenLastOffsetIsReturned() {
-        ConfirmationWindow<Map<String, Object>> confirmationWindow =
-                new ConfirmationWindow<>(asList(offsetMap(1), offsetMap(2), offsetMap(3)));
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
 
-        confirmationWindow.confirm(offsetMap(2));
-        confirmationWindow.confirm(offsetMap(3));
-        confirmationWindow.confirm(offsetMap(1));
+        confirmationWindow.confirm(offset2);
+        confirmationWindow.confirm(offset3);
+        confirmationWindow.confirm(offset1);
 
-        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offsetMap(3));
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset3);
     }
 
     @Test
     void givenConfirmationWindowInitializedWithOffsets_whenFirstOffsetsNotConfirmed_thenNullIsReturned() {
-        ConfirmationWindow<Map<String, Object>> confirmationWindow =
-                new ConfirmationWindow<>(asList(offsetMap(1), offsetMap(2), offsetMap(3)));
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
 
-        confirmationWindow.confirm(offsetMap(2));
-        confirmationWindow.confirm(offsetMap(3));
+        confirmationWindow.confirm(offset2);
+        confirmationWindow.confirm(offset3);
 
         assertThat(confirmationWindow.getLowWatermarkOffset()).isEmpty();
     }
 
     @Test
     void givenConfirmationWindowInitializedWithOffsets_whenSecondOffsetsNotConfirmed_thenFirstOffsetIsReturned() {
-        ConfirmationWindow<Map<String, Object>> confirmationWindow =
-                new ConfirmationWindow<>(asList(offsetMap(1), offsetMap(2), offsetMap(3)));
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
+
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset3);
+
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset1);
+    }
+
+    @Test
+    void givenConfirmationWindowInitializedWithOffsets_whenConfirmedBySequence_thenLastContiguousOffsetIsReturned() {
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
+
+        confirmationWindow.confirm(1);
+        confirmationWindow.confirm(0);
+
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset2);
+    }
+
+    @Test
+    void givenConfirmationWindowInitializedWithOffsets_whenEqualButUntrackedOffsetConfirmed_thenIgnored() {
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset3));
 
         confirmationWindow.confirm(offsetMap(1));
-        confirmationWindow.confirm(offsetMap(3));
+        confirmationWindow.confirm(3);
+
+        assertThat(confirmationWindow.getLowWatermarkOffset()).isEmpty();
+    }
+
+    @Test
+    void givenConfirmationWindowInitializedWithRepeatedOffset_whenConfirmedOnce_thenFirstPositionConfirmed() {
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset1, offset3));
+
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset2);
+        confirmationWindow.confirm(offset3);
+
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset2);
+    }
+
+    @Test
+    void givenConfirmationWindowInitializedWithRepeatedOffset_whenConfirmedForEveryPosition_thenLastOffsetIsReturned() {
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset1, offset3));
+
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset2);
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset3);
+
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset3);
+    }
+
+    @Test
+    void givenConfirmationWindowInitializedWithRepeatedOffset_whenFirstPositionConfirmedBySequence_thenNextPositionConfirmed() {
+        ConfirmationWindow<Map<String, Object>> confirmationWindow = new ConfirmationWindow<>(asList(offset1, offset2, offset1));
+
+        confirmationWindow.confirm(0);
+        confirmationWindow.confirm(offset1);
+        confirmationWindow.confirm(offset1);
 
-        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offsetMap(1));
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset1);
+        confirmationWindow.confirm(offset2);
+        assertThat(confirmationWindow.getLowWatermarkOffset()).contains(offset1);
     }
 
     interface Fixture {
         Instant now = now();
         String key = "customKey";
+        Map<String, Object> offset1 = offsetMap(1);
+        Map<String, Object> offset2 = offsetMap(2);
+        Map<String, Object> offset3 = offsetMap(3);
 
         static Map<String, Object> offsetMap(Object value) {
             return ImmutableMap.of("custom", value, "key", key, "timestamp", now.toString());
@@ -0,0 +1,75 @@
+package com.github.castorm.kafka.connect.http.client.circuit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerHttpClientConfigTest {
+
+    @Test
+    void whenNoDelegate_thenDefault() {
+        assertThat(config(emptyMap()).getDelegateClient()).isInstanceOf(OkHttpClient.class);
+    }
+
+    @Test
+    void whenNoWindow_thenDefault() {
+        CircuitBreakerHttpClientConfig config = config(emptyMap());
+
+        assertThat(config.getWindowSize()).isEqualTo(20);
+        assertThat(config.getMinCalls()).isEqualTo(10);
+    }
+
+    @Test
+    void whenMinCallsAboveWindowSize_thenWindowSize() {
+        assertThat(config(ImmutableMap.of("http.client.circuit.window.size", "5")).getMinCalls()).isEqualTo(5);
+    }
+
+    @Test
+    void whenThresholds_thenInitialized() {
+        CircuitBreakerHttpClientConfig config = config(ImmutableMap.of(
+                "http.client.circuit.failure.rate.threshold", "0.25",
+                "http.client.circuit.slow.call.millis", "200",
+                "http.client.circuit.slow.call.rate.threshold", "0.75"));
+
+        assertThat(config.getFailureRateThreshold()).isEqualTo(0.25);
+        assertThat(config.getSlowCallMillis()).isEqualTo(200L);
+        assertThat(config.getSlowCallRateThreshold()).isEqualTo(0.75);
+    }
+
+    @Test
+    void whenOpen_thenInitialized() {
+        CircuitBreakerHttpClientConfig config = config(ImmutableMap.of("http.client.circuit.open.millis", "1000", "http.client.circuit.half.open.calls", "1"));
+
+        assertThat(config.getOpenMillis()).isEqualTo(1000L);
+        assertThat(config.getHalfOpenCalls()).isEqualTo(1);
+    }
+
+    private static CircuitBreakerHttpClientConfig config(Map<String, Object> settings) {
+        return new CircuitBreakerHttpClientConfig(settings);
+    }
+}
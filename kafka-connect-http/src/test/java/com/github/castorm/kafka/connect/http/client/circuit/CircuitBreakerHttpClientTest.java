@@ -0,0 +1,248 @@
+package com.github.castorm.kafka.connect.http.client.circuit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreakerHttpClientTest.Fixture.failure;
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreakerHttpClientTest.Fixture.ok;
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreakerHttpClientTest.Fixture.other;
+import static com.github.castorm.kafka.connect.http.client.circuit.CircuitBreakerHttpClientTest.Fixture.request;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerHttpClientTest {
+
+    CircuitBreakerHttpClient client;
+
+    @Mock
+    CircuitBreakerHttpClientConfig config;
+
+    @Mock
+    HttpClient delegate;
+
+    AtomicLong now = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        client = new CircuitBreakerHttpClient(__ -> config, now::get);
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(config.getWindowSize()).willReturn(4);
+        given(config.getMinCalls()).willReturn(2);
+        given(config.getFailureRateThreshold()).willReturn(0.5);
+        given(config.getSlowCallMillis()).willReturn(1000L);
+        given(config.getSlowCallRateThreshold()).willReturn(1.0);
+        given(config.getOpenMillis()).willReturn(30000L);
+        given(config.getHalfOpenCalls()).willReturn(2);
+        client.configure(emptyMap());
+    }
+
+    @Test
+    void givenSuccess_whenExecute_thenDelegated() throws IOException {
+
+        given(delegate.execute(request)).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenFailureBelowMinCalls_whenExecute_thenStillClosed() throws IOException {
+
+        given(delegate.execute(request)).willReturn(failure).willReturn(ok);
+
+        client.execute(request);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenFailureRateReached_whenExecute_thenFailsFast() throws IOException {
+
+        given(delegate.execute(request)).willReturn(ok).willThrow(new IOException());
+
+        client.execute(request);
+        catchThrowable(() -> client.execute(request));
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+        then(delegate).should(times(2)).execute(request);
+    }
+
+    @Test
+    void givenFailureRateBelowThreshold_whenExecute_thenStillClosed() throws IOException {
+
+        given(delegate.execute(request)).willReturn(ok, ok, ok, failure, ok);
+
+        for (int i = 0; i < 4; i++) {
+            client.execute(request);
+        }
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenFailuresOutOfWindow_whenExecute_thenStillClosed() throws IOException {
+
+        given(delegate.execute(request)).willReturn(ok, ok, failure, ok, ok, ok, failure, ok);
+
+        for (int i = 0; i < 7; i++) {
+            client.execute(request);
+        }
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenSlowCallRateReached_whenExecute_thenFailsFast() throws IOException {
+
+        given(delegate.execute(request)).will(__ -> {
+            now.addAndGet(1000L);
+            return ok;
+        });
+
+        client.execute(request);
+        client.execute(request);
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void givenCircuitOpen_whenExecuteOtherEndpoint_thenDelegated() throws IOException {
+
+        givenCircuitOpen();
+        given(delegate.execute(other)).willReturn(ok);
+
+        assertThat(client.execute(other)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenCircuitOpenAndTimeElapsed_whenExecute_thenTrialCallsLetThrough() throws IOException {
+
+        givenCircuitOpen();
+        now.addAndGet(30000L);
+        given(delegate.execute(request)).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenTrialCallsSucceeded_whenExecute_thenClosed() throws IOException {
+
+        givenCircuitOpen();
+        now.addAndGet(30000L);
+        given(delegate.execute(request)).willReturn(ok);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.execute(request)).isEqualTo(ok);
+        }
+    }
+
+    @Test
+    void givenTrialCallFailed_whenExecute_thenOpenAgain() throws IOException {
+
+        givenCircuitOpen();
+        now.addAndGet(30000L);
+        given(delegate.execute(request)).willReturn(failure);
+
+        client.execute(request);
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void givenTrialCallsInFlight_whenExecute_thenFailsFast() throws IOException {
+
+        givenCircuitOpen();
+        now.addAndGet(30000L);
+        given(delegate.execute(request)).will(__ -> {
+            if (now.get() == 30000L) {
+                now.set(30001L);
+                client.execute(request);
+                assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+            }
+            return ok;
+        });
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenStreamingServerError_whenExecuteStreaming_thenCountedAsFailure() throws IOException {
+
+        StreamingHttpResponse response = StreamingHttpResponse.builder().code(503).body(new ByteArrayInputStream(new byte[0])).build();
+        given(delegate.executeStreaming(request)).willReturn(response);
+
+        client.executeStreaming(request);
+        client.executeStreaming(request);
+
+        assertThat(catchThrowable(() -> client.executeStreaming(request))).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void givenAsyncFailuresReachRate_whenExecuteAsync_thenFailsFastThroughDelegateAsync() throws IOException {
+
+        CompletableFuture<HttpResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException());
+        given(delegate.executeAsync(request)).willReturn(completedFuture(ok), failed);
+
+        client.executeAsync(request).join();
+        catchThrowable(() -> client.executeAsync(request).join());
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).join())).hasCauseInstanceOf(CircuitOpenException.class);
+        then(delegate).should(times(2)).executeAsync(request);
+        then(delegate).should(never()).execute(any());
+    }
+
+    private void givenCircuitOpen() throws IOException {
+        given(delegate.execute(request)).willReturn(failure);
+        client.execute(request);
+        client.execute(request);
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+    }
+
+    interface Fixture {
+        HttpRequest request = HttpRequest.builder().url("http://localhost:8080/path?page=1").build();
+        HttpRequest other = HttpRequest.builder().url("http://localhost:8081/path").build();
+        HttpResponse ok = HttpResponse.builder().code(200).build();
+        HttpResponse failure = HttpResponse.builder().code(500).build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.castorm.kafka.connect.http.client.concurrent;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentHttpClientConfigTest {
+
+    @Test
+    void whenNoDelegate_thenDefault() {
+        assertThat(config(emptyMap()).getDelegateClient()).isInstanceOf(OkHttpClient.class);
+    }
+
+    @Test
+    void whenDelegate_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.concurrent.client", TestClient.class.getName())).getDelegateClient()).isInstanceOf(TestClient.class);
+    }
+
+    @Test
+    void whenNoVirtualThreads_thenDefault() {
+        assertThat(config(emptyMap()).getVirtualThreads()).isTrue();
+    }
+
+    @Test
+    void whenVirtualThreads_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.concurrent.virtual.threads", "false")).getVirtualThreads()).isFalse();
+    }
+
+    @Test
+    void whenNoPoolSize_thenDefault() {
+        assertThat(config(emptyMap()).getPoolSize()).isEqualTo(16);
+    }
+
+    @Test
+    void whenPoolSize_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.concurrent.pool.size", "4")).getPoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    void whenNoMaxInFlight_thenDefault() {
+        assertThat(config(emptyMap()).getMaxInFlight()).isEqualTo(5);
+    }
+
+    @Test
+    void whenMaxInFlight_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.concurrent.endpoint.max.in.flight", "2")).getMaxInFlight()).isEqualTo(2);
+    }
+
+    public static class TestClient implements HttpClient {
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return null;
+        }
+    }
+
+    private static ConcurrentHttpClientConfig config(Map<String, Object> settings) {
+        return new ConcurrentHttpClientConfig(settings);
+    }
+}
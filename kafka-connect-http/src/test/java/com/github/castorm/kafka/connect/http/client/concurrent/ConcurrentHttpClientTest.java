@@ -0,0 +1,202 @@
+package com.github.castorm.kafka.connect.http.client.concurrent;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentHttpClientTest {
+
+    ConcurrentHttpClient client;
+
+    @Mock
+    ConcurrentHttpClientConfig config;
+
+    @Mock
+    HttpClient delegate;
+
+    HttpRequest request = HttpRequest.builder().url("http://localhost:8080/path").build();
+
+    HttpResponse response = HttpResponse.builder().code(200).build();
+
+    @BeforeEach
+    void setUp() {
+        client = new ConcurrentHttpClient(__ -> config);
+        given(config.getVirtualThreads()).willReturn(true);
+        given(config.getPoolSize()).willReturn(4);
+        given(config.getMaxInFlight()).willReturn(2);
+    }
+
+    @Test
+    void whenExecute_thenDelegated() throws IOException {
+
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.execute(request)).willReturn(response);
+        client.configure(emptyMap());
+
+        assertThat(client.execute(request)).isEqualTo(response);
+    }
+
+    @Test
+    void whenExecuteAsync_thenDelegatedResponse() throws Exception {
+
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.execute(request)).willReturn(response);
+        client.configure(emptyMap());
+
+        assertThat(client.executeAsync(request).get(5, SECONDS)).isEqualTo(response);
+    }
+
+    @Test
+    void givenClosed_whenExecuteAsync_thenCompletedExceptionallyAndDelegateClosed() {
+
+        given(config.getDelegateClient()).willReturn(delegate);
+        client.configure(emptyMap());
+
+        client.close();
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).get(5, SECONDS))).hasCauseInstanceOf(IOException.class);
+        then(delegate).should().close();
+    }
+
+    @Test
+    void givenDelegateFails_whenExecuteAsync_thenCompletedExceptionally() throws IOException {
+
+        IOException failure = new IOException();
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.execute(request)).willThrow(failure);
+        client.configure(emptyMap());
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).get(5, SECONDS)))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+    }
+
+    @Test
+    void givenManyRequests_whenExecuteAsync_thenInFlightCappedPerEndpoint() throws Exception {
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        given(config.getDelegateClient()).willReturn(req -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                started.await(5, SECONDS);
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return response;
+        });
+        client.configure(emptyMap());
+
+        List<CompletableFuture<HttpResponse>> futures = IntStream.range(0, 8)
+                .mapToObj(__ -> client.executeAsync(request))
+                .collect(toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, SECONDS);
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenStreamsOpen_whenExecuteAsync_thenWaitsUntilClosed() throws Exception {
+
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.executeStreaming(request)).willAnswer(__ -> streaming());
+        given(delegate.execute(request)).willReturn(response);
+        client.configure(emptyMap());
+        StreamingHttpResponse first = client.executeStreaming(request);
+        client.executeStreaming(request);
+
+        CompletableFuture<HttpResponse> future = client.executeAsync(request);
+
+        assertThat(catchThrowable(() -> future.get(100, MILLISECONDS))).isInstanceOf(TimeoutException.class);
+        first.close();
+        assertThat(future.get(5, SECONDS)).isEqualTo(response);
+    }
+
+    @Test
+    void givenStreamClosedTwice_whenExecuteAsync_thenPermitReleasedOnce() throws Exception {
+
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.executeStreaming(request)).willAnswer(__ -> streaming());
+        given(delegate.execute(request)).willReturn(response);
+        client.configure(emptyMap());
+        StreamingHttpResponse stream = client.executeStreaming(request);
+        stream.close();
+        stream.close();
+        StreamingHttpResponse second = client.executeStreaming(request);
+        client.executeStreaming(request);
+
+        CompletableFuture<HttpResponse> future = client.executeAsync(request);
+
+        assertThat(catchThrowable(() -> future.get(100, MILLISECONDS))).isInstanceOf(TimeoutException.class);
+        second.close();
+        assertThat(future.get(5, SECONDS)).isEqualTo(response);
+    }
+
+    @Test
+    void givenDelegateFails_whenExecuteStreaming_thenPermitReleased() throws Exception {
+
+        IOException failure = new IOException();
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(delegate.executeStreaming(request)).willThrow(failure);
+        given(delegate.execute(request)).willReturn(response);
+        client.configure(emptyMap());
+
+        assertThat(catchThrowable(() -> client.executeStreaming(request))).isEqualTo(failure);
+        assertThat(catchThrowable(() -> client.executeStreaming(request))).isEqualTo(failure);
+        assertThat(client.executeAsync(request).get(5, SECONDS)).isEqualTo(response);
+    }
+
+    private static StreamingHttpResponse streaming() {
+        return StreamingHttpResponse.builder().code(200).body(new ByteArrayInputStream(new byte[0])).build();
+    }
+}
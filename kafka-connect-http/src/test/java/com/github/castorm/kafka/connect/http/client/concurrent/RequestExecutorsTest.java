@@ -0,0 +1,55 @@
+package com.github.castorm.kafka.connect.http.client.concurrent;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestExecutorsTest {
+
+    @Test
+    void givenVirtualThreadsDisabled_whenCreate_thenPlatformThreadsUsed() throws Exception {
+
+        ExecutorService executor = RequestExecutors.create(false, 2);
+
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, SECONDS)).startsWith("http-request-");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenVirtualThreadsEnabled_whenCreate_thenTasksExecuted() throws Exception {
+
+        ExecutorService executor = RequestExecutors.create(true, 2);
+
+        try {
+            assertThat(executor.submit(() -> "done").get(5, SECONDS)).isEqualTo("done");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
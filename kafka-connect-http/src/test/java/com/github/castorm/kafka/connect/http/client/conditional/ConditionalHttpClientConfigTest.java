@@ -0,0 +1,52 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalHttpClientConfigTest {
+
+    @Test
+    void whenNoDelegate_thenDefault() {
+        assertThat(config(emptyMap()).getDelegateClient()).isInstanceOf(OkHttpClient.class);
+    }
+
+    @Test
+    void whenNoCacheSize_thenDefault() {
+        assertThat(config(emptyMap()).getCacheSize()).isEqualTo(1000);
+    }
+
+    @Test
+    void whenCacheSize_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.conditional.cache.size", "10")).getCacheSize()).isEqualTo(10);
+    }
+
+    private static ConditionalHttpClientConfig config(Map<String, Object> settings) {
+        return new ConditionalHttpClientConfig(settings);
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.etag;
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.lastModified;
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.notModified;
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.ok;
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.request;
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalHttpClientTest.Fixture.validated;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.POST;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalHttpClientTest {
+
+    ConditionalHttpClient client;
+
+    @Mock
+    ConditionalHttpClientConfig config;
+
+    @Mock
+    HttpClient delegate;
+
+    @BeforeEach
+    void setUp() {
+        client = new ConditionalHttpClient(__ -> config);
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(config.getCacheSize()).willReturn(2);
+        client.configure(emptyMap());
+    }
+
+    @Test
+    void givenNoValidators_whenExecute_thenUnconditional() throws IOException {
+
+        given(delegate.execute(request)).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenValidatorsFromPreviousResponse_whenExecute_thenConditional() throws IOException {
+
+        given(delegate.execute(request)).willReturn(validated);
+        client.execute(request);
+        given(delegate.execute(conditional(request))).willReturn(notModified);
+
+        assertThat(client.execute(request)).isEqualTo(notModified);
+    }
+
+    @Test
+    void givenNotModified_whenExecute_thenValidatorsKept() throws IOException {
+
+        given(delegate.execute(request)).willReturn(validated);
+        client.execute(request);
+        given(delegate.execute(conditional(request))).willReturn(notModified);
+        client.execute(request);
+
+        assertThat(client.execute(request)).isEqualTo(notModified);
+    }
+
+    @Test
+    void givenResponseWithoutValidators_whenExecute_thenValidatorsForgotten() throws IOException {
+
+        given(delegate.execute(request)).willReturn(validated);
+        client.execute(request);
+        given(delegate.execute(conditional(request))).willReturn(ok);
+        client.execute(request);
+        given(delegate.execute(request)).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenValidatorsForOtherQuery_whenExecute_thenUnconditional() throws IOException {
+
+        HttpRequest other = request.toBuilder().queryParams(ImmutableMap.of("page", singletonList("2"))).build();
+        given(delegate.execute(request)).willReturn(validated);
+        client.execute(request);
+        given(delegate.execute(other)).willReturn(ok);
+
+        assertThat(client.execute(other)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenValidatorsOfPost_whenExecute_thenUnconditional() throws IOException {
+
+        HttpRequest post = request.toBuilder().method(POST).build();
+        given(delegate.execute(post)).willReturn(validated).willReturn(ok);
+        client.execute(post);
+
+        assertThat(client.execute(post)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenMoreUrlsThanCacheSize_whenExecute_thenLeastRecentlyUsedForgotten() throws IOException {
+
+        HttpRequest second = request.toBuilder().url("http://localhost/second").build();
+        HttpRequest third = request.toBuilder().url("http://localhost/third").build();
+        given(delegate.execute(request)).willReturn(validated);
+        given(delegate.execute(second)).willReturn(validated);
+        given(delegate.execute(third)).willReturn(validated);
+        client.execute(request);
+        client.execute(second);
+        client.execute(third);
+
+        client.execute(request);
+
+        then(delegate).should(times(2)).execute(request);
+    }
+
+    @Test
+    void givenValidatorsFromStreamingResponse_whenExecuteAsync_thenConditional() throws IOException {
+
+        given(delegate.executeStreaming(request)).willReturn(StreamingHttpResponse.builder().code(200).headers(validated.getHeaders()).body(new ByteArrayInputStream(new byte[0])).build());
+        client.executeStreaming(request);
+        given(delegate.executeAsync(conditional(request))).willReturn(completedFuture(notModified));
+
+        assertThat(client.executeAsync(request).join()).isEqualTo(notModified);
+    }
+
+    private static HttpRequest conditional(HttpRequest request) {
+        return request.toBuilder().headers(ImmutableMap.of("If-None-Match", singletonList(etag), "If-Modified-Since", singletonList(lastModified))).build();
+    }
+
+    interface Fixture {
+        String etag = "\"v1\"";
+        String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        HttpRequest request = HttpRequest.builder().url("http://localhost/snapshot").build();
+        HttpResponse ok = HttpResponse.builder().code(200).build();
+        HttpResponse notModified = HttpResponse.builder().code(304).build();
+        Map<String, List<String>> validators = ImmutableMap.of("etag", singletonList(etag), "last-modified", singletonList(lastModified));
+        HttpResponse validated = HttpResponse.builder().code(200).headers(validators).build();
+    }
+}
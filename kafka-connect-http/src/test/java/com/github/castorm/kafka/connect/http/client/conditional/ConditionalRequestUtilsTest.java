@@ -0,0 +1,64 @@
+package com.github.castorm.kafka.connect.http.client.conditional;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.data.MapEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.castorm.kafka.connect.http.client.conditional.ConditionalRequestUtils.withValidators;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestUtilsTest {
+
+    @Test
+    void givenNoValidators_whenWithValidators_thenSameRequest() {
+        HttpRequest request = HttpRequest.builder().url("http://localhost").build();
+
+        assertThat(withValidators(request, empty(), empty())).isSameAs(request);
+    }
+
+    @Test
+    void givenValidators_whenWithValidators_thenConditionsReplaced() {
+        HttpRequest request = HttpRequest.builder()
+                .url("http://localhost")
+                .headers(ImmutableMap.of("Accept", singletonList("application/json"), "if-none-match", singletonList("\"v0\"")))
+                .build();
+
+        HttpRequest conditional = withValidators(request, Optional.of("\"v1\""), Optional.of("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        assertThat(conditional.getHeaders()).containsOnly(
+                entry("Accept", "application/json"),
+                entry("If-None-Match", "\"v1\""),
+                entry("If-Modified-Since", "Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertThat(conditional.getUrl()).isEqualTo(request.getUrl());
+    }
+
+    private static MapEntry<String, List<String>> entry(String name, String value) {
+        return MapEntry.entry(name, singletonList(value));
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.castorm.kafka.connect.http.client.okhttp;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.Socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class BufferSizingSocketFactoryTest {
+
+    @Mock
+    SocketFactory delegate;
+
+    @Mock
+    Socket socket;
+
+    @Test
+    void givenSizes_whenCreateSocket_thenBuffersSized() throws IOException {
+
+        given(delegate.createSocket()).willReturn(socket);
+
+        assertThat(new BufferSizingSocketFactory(delegate, 1024, 2048).createSocket()).isEqualTo(socket);
+
+        then(socket).should().setSendBufferSize(1024);
+        then(socket).should().setReceiveBufferSize(2048);
+    }
+
+    @Test
+    void givenNoSizes_whenCreateSocket_thenSystemDefaults() throws IOException {
+
+        given(delegate.createSocket("localhost", 80)).willReturn(socket);
+
+        new BufferSizingSocketFactory(delegate, 0, 0).createSocket("localhost", 80);
+
+        then(socket).should(never()).setSendBufferSize(anyInt());
+        then(socket).should(never()).setReceiveBufferSize(anyInt());
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.castorm.kafka.connect.http.client.okhttp;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import okhttp3.Interceptor.Chain;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentEncoding.GZIP;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentEncoding.ZSTD;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentDecodingInterceptorTest.Fixture.body;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentDecodingInterceptorTest.Fixture.gzip;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentDecodingInterceptorTest.Fixture.request;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentDecodingInterceptorTest.Fixture.response;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ContentDecodingInterceptorTest {
+
+    @Mock
+    Chain chain;
+
+    @Test
+    void givenEncodings_whenIntercept_thenAccepted() throws IOException {
+
+        given(chain.request()).willReturn(request);
+        given(chain.proceed(any())).willReturn(response(body, null));
+
+        new ContentDecodingInterceptor(asList(GZIP, ZSTD)).intercept(chain);
+
+        assertThat(sentRequest().header("Accept-Encoding")).isEqualTo("gzip, zstd");
+    }
+
+    @Test
+    void givenNoEncodings_whenIntercept_thenIdentityAccepted() throws IOException {
+
+        given(chain.request()).willReturn(request);
+        given(chain.proceed(any())).willReturn(response(body, null));
+
+        new ContentDecodingInterceptor(emptyList()).intercept(chain);
+
+        assertThat(sentRequest().header("Accept-Encoding")).isEqualTo("identity");
+    }
+
+    @Test
+    void givenAcceptEncodingInRequest_whenIntercept_thenKept() throws IOException {
+
+        given(chain.request()).willReturn(request.newBuilder().header("Accept-Encoding", "deflate").build());
+        given(chain.proceed(any())).willReturn(response(body, null));
+
+        new ContentDecodingInterceptor(asList(GZIP)).intercept(chain);
+
+        assertThat(sentRequest().header("Accept-Encoding")).isEqualTo("deflate");
+    }
+
+    @Test
+    void givenEncodedResponse_whenIntercept_thenDecoded() throws IOException {
+
+        given(chain.request()).willReturn(request);
+        given(chain.proceed(any())).willReturn(response(gzip(body), "gzip"));
+
+        Response response = new ContentDecodingInterceptor(asList(GZIP)).intercept(chain);
+
+        assertThat(response.body().bytes()).isEqualTo(body);
+        assertThat(response.header("Content-Encoding")).isNull();
+        assertThat(response.header("Content-Length")).isNull();
+    }
+
+    @Test
+    void givenUnencodedResponse_whenIntercept_thenUnchanged() throws IOException {
+
+        given(chain.request()).willReturn(request);
+        Response response = response(body, null);
+        given(chain.proceed(any())).willReturn(response);
+
+        assertThat(new ContentDecodingInterceptor(asList(GZIP)).intercept(chain)).isSameAs(response);
+    }
+
+    @Test
+    void givenEncodedEmptyResponse_whenIntercept_thenEmpty() throws IOException {
+
+        given(chain.request()).willReturn(request);
+        given(chain.proceed(any())).willReturn(response(new byte[0], "gzip"));
+
+        assertThat(new ContentDecodingInterceptor(asList(GZIP)).intercept(chain).body().bytes()).isEmpty();
+    }
+
+    private Request sentRequest() throws IOException {
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        then(chain).should().proceed(captor.capture());
+        return captor.getValue();
+    }
+
+    interface Fixture {
+        Request request = new Request.Builder().url("http://localhost/path").build();
+        byte[] body = "[{\"id\":1},{\"id\":2}]".getBytes();
+
+        static Response response(byte[] body, String contentEncoding) {
+            Response.Builder builder = new Response.Builder()
+                    .request(request)
+                    .protocol(okhttp3.Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .header("Content-Length", String.valueOf(body.length))
+                    .body(ResponseBody.create(body, null));
+            if (contentEncoding != null) {
+                builder.header("Content-Encoding", contentEncoding);
+            }
+            return builder.build();
+        }
+
+        static byte[] gzip(byte[] bytes) throws IOException {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (GZIPOutputStream stream = new GZIPOutputStream(encoded)) {
+                stream.write(bytes);
+            }
+            return encoded.toByteArray();
+        }
+    }
+}
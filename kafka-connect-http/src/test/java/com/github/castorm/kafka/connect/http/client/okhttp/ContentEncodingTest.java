@@ -0,0 +1,94 @@
+package com.github.castorm.kafka.connect.http.client.okhttp;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.luben.zstd.ZstdOutputStream;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentEncodingTest.Fixture.body;
+import static com.github.castorm.kafka.connect.http.client.okhttp.ContentEncodingTest.Fixture.encode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ContentEncodingTest {
+
+    @Test
+    void givenGzip_whenDecode_thenDecoded() throws IOException {
+        assertThat(read(ContentEncoding.decode("gzip", encode(body, GZIPOutputStream::new)))).isEqualTo(body);
+    }
+
+    @Test
+    void givenDeflate_whenDecode_thenDecoded() throws IOException {
+        assertThat(read(ContentEncoding.decode("deflate", encode(body, DeflaterOutputStream::new)))).isEqualTo(body);
+    }
+
+    @Test
+    void givenZstd_whenDecode_thenDecoded() throws IOException {
+        assertThat(read(ContentEncoding.decode("zstd", encode(body, ZstdOutputStream::new)))).isEqualTo(body);
+    }
+
+    @Test
+    void givenIdentity_whenDecode_thenUnchanged() throws IOException {
+        assertThat(read(ContentEncoding.decode("identity", new ByteArrayInputStream(body)))).isEqualTo(body);
+    }
+
+    @Test
+    void givenCodingsApplied_whenDecode_thenDecodedInReverseOrder() throws IOException {
+
+        InputStream encoded = encode(read(encode(body, ZstdOutputStream::new)), GZIPOutputStream::new);
+
+        assertThat(read(ContentEncoding.decode("zstd, GZIP", encoded))).isEqualTo(body);
+    }
+
+    @Test
+    void givenUnsupported_whenDecode_thenIOException() {
+        assertThat(catchThrowable(() -> ContentEncoding.decode("br", new ByteArrayInputStream(body)))).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        return Okio.buffer(Okio.source(stream)).readByteArray();
+    }
+
+    interface Fixture {
+        byte[] body = "[{\"id\":1},{\"id\":2},{\"id\":3}]".getBytes();
+
+        static InputStream encode(byte[] bytes, Encoder encoder) throws IOException {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (OutputStream stream = encoder.wrap(encoded)) {
+                stream.write(bytes);
+            }
+            return new ByteArrayInputStream(encoded.toByteArray());
+        }
+
+        interface Encoder {
+            OutputStream wrap(OutputStream stream) throws IOException;
+        }
+    }
+}
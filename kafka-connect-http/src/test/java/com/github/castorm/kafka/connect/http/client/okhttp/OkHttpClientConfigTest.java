@@ -23,12 +23,17 @@ package com.github.castorm.kafka.connect.http.client.okhttp;
 import com.github.castorm.kafka.connect.http.auth.BasicHttpAuthenticator;
 import com.github.castorm.kafka.connect.http.auth.ConfigurableHttpAuthenticator;
 import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static okhttp3.Protocol.H2_PRIOR_KNOWLEDGE;
+import static okhttp3.Protocol.HTTP_1_1;
+import static okhttp3.Protocol.HTTP_2;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class OkHttpClientConfigTest {
 
@@ -64,7 +69,7 @@ class OkHttpClientConfigTest {
 
     @Test
     void whenMaxIdleConnections_thenDefault() {
-        assertThat(config(emptyMap()).getMaxIdleConnections()).isEqualTo(1);
+        assertThat(config(emptyMap()).getMaxIdleConnections()).isEqualTo(5);
     }
 
     @Test
@@ -72,6 +77,70 @@ class OkHttpClientConfigTest {
         assertThat(config(ImmutableMap.of("http.client.max-idle", "42")).getMaxIdleConnections()).isEqualTo(42L);
     }
 
+    @Test
+    void whenNoProtocols_thenHttp2WithFallback() {
+        assertThat(config(emptyMap()).getProtocols()).containsExactly(HTTP_2, HTTP_1_1);
+    }
+
+    @Test
+    void whenProtocolsPriorKnowledge_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.protocols", "h2_prior_knowledge")).getProtocols()).containsExactly(H2_PRIOR_KNOWLEDGE);
+    }
+
+    @Test
+    void whenProtocolsPriorKnowledgeWithOthers_thenConfigException() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.client.protocols", "H2_PRIOR_KNOWLEDGE,HTTP_1_1")))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenProtocolsWithoutHttp11_thenConfigException() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.client.protocols", "HTTP_2")))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenUnknownProtocol_thenConfigException() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.client.protocols", "HTTP_3,HTTP_1_1")))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenNoMaxRequests_thenDefault() {
+        OkHttpClientConfig config = config(emptyMap());
+
+        assertThat(config.getMaxRequests()).isEqualTo(64);
+        assertThat(config.getMaxRequestsPerHost()).isEqualTo(5);
+    }
+
+    @Test
+    void whenMaxRequests_thenInitialized() {
+        OkHttpClientConfig config = config(ImmutableMap.of("http.client.max.requests", "8", "http.client.max.requests.per.host", "4"));
+
+        assertThat(config.getMaxRequests()).isEqualTo(8);
+        assertThat(config.getMaxRequestsPerHost()).isEqualTo(4);
+    }
+
+    @Test
+    void whenSocketBuffers_thenInitialized() {
+        OkHttpClientConfig config = config(ImmutableMap.of("http.client.socket.send.buffer.bytes", "1024", "http.client.socket.receive.buffer.bytes", "2048"));
+
+        assertThat(config.getSocketSendBufferBytes()).isEqualTo(1024);
+        assertThat(config.getSocketReceiveBufferBytes()).isEqualTo(2048);
+    }
+
+    @Test
+    void whenNoAcceptEncoding_thenGzip() {
+        assertThat(config(emptyMap()).getAcceptEncodings()).containsExactly(ContentEncoding.GZIP);
+    }
+
+    @Test
+    void whenAcceptEncoding_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.accept.encoding", "zstd, gzip")).getAcceptEncodings()).containsExactly(ContentEncoding.ZSTD, ContentEncoding.GZIP);
+    }
+
+    @Test
+    void whenUnknownAcceptEncoding_thenConfigException() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.client.accept.encoding", "br")))).isInstanceOf(ConfigException.class);
+    }
+
     @Test
     void whenAuthenticator_thenDefault() {
         assertThat(config(emptyMap()).getAuthenticator()).isInstanceOf(ConfigurableHttpAuthenticator.class);
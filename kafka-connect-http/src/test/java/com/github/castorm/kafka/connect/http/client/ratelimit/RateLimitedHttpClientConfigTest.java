@@ -0,0 +1,88 @@
+package com.github.castorm.kafka.connect.http.client.ratelimit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitedHttpClientConfigTest {
+
+    @Test
+    void whenNoDelegate_thenDefault() {
+        assertThat(config(emptyMap()).getDelegateClient()).isInstanceOf(OkHttpClient.class);
+    }
+
+    @Test
+    void whenDelegate_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.ratelimit.client", TestClient.class.getName())).getDelegateClient()).isInstanceOf(TestClient.class);
+    }
+
+    @Test
+    void whenNoPermitsPerSecond_thenDefault() {
+        assertThat(config(emptyMap()).getPermitsPerSecond()).isEqualTo(10.0);
+    }
+
+    @Test
+    void whenPermitsPerSecond_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.ratelimit.permits.per.second", "0.5")).getPermitsPerSecond()).isEqualTo(0.5);
+    }
+
+    @Test
+    void whenNoBurst_thenDefault() {
+        assertThat(config(emptyMap()).getBurst()).isEqualTo(1);
+    }
+
+    @Test
+    void whenBurst_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.ratelimit.burst", "5")).getBurst()).isEqualTo(5);
+    }
+
+    @Test
+    void whenNoMaxPauseMillis_thenDefault() {
+        assertThat(config(emptyMap()).getMaxPauseMillis()).isEqualTo(300000L);
+    }
+
+    @Test
+    void whenMaxPauseMillis_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.ratelimit.max.pause.millis", "1000")).getMaxPauseMillis()).isEqualTo(1000L);
+    }
+
+    public static class TestClient implements HttpClient {
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return null;
+        }
+    }
+
+    private static RateLimitedHttpClientConfig config(Map<String, Object> settings) {
+        return new RateLimitedHttpClientConfig(settings);
+    }
+}
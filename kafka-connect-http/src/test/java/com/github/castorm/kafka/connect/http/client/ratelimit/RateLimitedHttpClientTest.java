@@ -0,0 +1,138 @@
+package com.github.castorm.kafka.connect.http.client.ratelimit;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.github.castorm.kafka.connect.timer.TokenBucketThrottler;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedHttpClientTest {
+
+    RateLimitedHttpClient client;
+
+    @Mock
+    RateLimitedHttpClientConfig config;
+
+    @Mock
+    HttpClient delegate;
+
+    @Mock
+    TokenBucketThrottler throttler;
+
+    HttpRequest request = HttpRequest.builder().url("http://localhost:8080/path").build();
+
+    Map<String, List<String>> headers = ImmutableMap.of("Retry-After", singletonList("5"));
+
+    @BeforeEach
+    void setUp() {
+        client = new RateLimitedHttpClient(__ -> config, __ -> throttler);
+        given(config.getDelegateClient()).willReturn(delegate);
+        client.configure(emptyMap());
+    }
+
+    @Test
+    void whenExecute_thenThrottledBeforeAndUpdatedAfter() throws Exception {
+
+        HttpResponse response = HttpResponse.builder().code(429).headers(headers).build();
+        given(delegate.execute(request)).willReturn(response);
+
+        assertThat(client.execute(request)).isEqualTo(response);
+
+        InOrder order = inOrder(throttler, delegate);
+        order.verify(throttler).throttle();
+        order.verify(delegate).execute(request);
+        order.verify(throttler).update(429, headers);
+    }
+
+    @Test
+    void whenExecuteStreaming_thenThrottledBeforeAndUpdatedAfter() throws Exception {
+
+        StreamingHttpResponse response = StreamingHttpResponse.builder().code(200).body(new ByteArrayInputStream(new byte[0])).headers(headers).build();
+        given(delegate.executeStreaming(request)).willReturn(response);
+
+        assertThat(client.executeStreaming(request)).isEqualTo(response);
+
+        InOrder order = inOrder(throttler, delegate);
+        order.verify(throttler).throttle();
+        order.verify(delegate).executeStreaming(request);
+        order.verify(throttler).update(200, headers);
+    }
+
+    @Test
+    void whenExecuteAsync_thenThrottledBeforeAndUpdatedAfterThroughDelegateAsync() throws Exception {
+
+        HttpResponse response = HttpResponse.builder().code(200).headers(headers).build();
+        given(delegate.executeAsync(request)).willReturn(completedFuture(response));
+
+        assertThat(client.executeAsync(request).join()).isEqualTo(response);
+
+        InOrder order = inOrder(throttler, delegate);
+        order.verify(throttler).throttle();
+        order.verify(delegate).executeAsync(request);
+        order.verify(throttler).update(200, headers);
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    void givenInterrupted_whenExecuteAsync_thenFailedWithIOException() throws Exception {
+
+        willThrow(new InterruptedException()).given(throttler).throttle();
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).join())).hasCauseInstanceOf(IOException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void givenInterrupted_whenExecute_thenIOException() throws Exception {
+
+        willThrow(new InterruptedException()).given(throttler).throttle();
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(IOException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.castorm.kafka.connect.http.client.retry;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.okhttp.OkHttpClient;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.IO;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.SERVER_ERROR;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.TOO_MANY_REQUESTS;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.GET;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.HEAD;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.POST;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.PUT;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryingHttpClientConfigTest {
+
+    @Test
+    void whenNoDelegate_thenDefault() {
+        assertThat(config(emptyMap()).getDelegateClient()).isInstanceOf(OkHttpClient.class);
+    }
+
+    @Test
+    void whenNoRetryOn_thenAll() {
+        assertThat(config(emptyMap()).getRetryOn()).containsExactlyInAnyOrder(IO, SERVER_ERROR, TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void whenRetryOn_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.retry.on", "io, server_error")).getRetryOn()).containsExactlyInAnyOrder(IO, SERVER_ERROR);
+    }
+
+    @Test
+    void whenNoIoMethods_thenIdempotentOnes() {
+        assertThat(config(emptyMap()).getIoMethods()).containsExactlyInAnyOrder(GET, HEAD, PUT);
+    }
+
+    @Test
+    void whenIoMethods_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.retry.io.methods", "get, post")).getIoMethods()).containsExactlyInAnyOrder(GET, POST);
+    }
+
+    @Test
+    void whenNoMaxAttempts_thenDefault() {
+        assertThat(config(emptyMap()).getMaxAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void whenMaxAttempts_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.client.retry.max.attempts", "5")).getMaxAttempts()).isEqualTo(5);
+    }
+
+    @Test
+    void whenBackoff_thenInitialized() {
+        RetryingHttpClientConfig config = config(ImmutableMap.of("http.client.retry.backoff.initial.millis", "10", "http.client.retry.backoff.max.millis", "20"));
+
+        assertThat(config.getBackoffInitialMillis()).isEqualTo(10L);
+        assertThat(config.getBackoffMaxMillis()).isEqualTo(20L);
+    }
+
+    @Test
+    void whenBudget_thenInitialized() {
+        RetryingHttpClientConfig config = config(ImmutableMap.of("http.client.retry.budget.ratio", "0.5", "http.client.retry.budget.max", "3"));
+
+        assertThat(config.getBudgetRatio()).isEqualTo(0.5);
+        assertThat(config.getBudgetMax()).isEqualTo(3);
+    }
+
+    private static RetryingHttpClientConfig config(Map<String, Object> settings) {
+        return new RetryingHttpClientConfig(settings);
+    }
+}
@@ -0,0 +1,357 @@
+package com.github.castorm.kafka.connect.http.client.retry;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.circuit.CircuitBreakerHttpClient;
+import com.github.castorm.kafka.connect.http.client.circuit.CircuitOpenException;
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.IO;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.SERVER_ERROR;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClient.RetryOn.TOO_MANY_REQUESTS;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClientTest.Fixture.ok;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClientTest.Fixture.request;
+import static com.github.castorm.kafka.connect.http.client.retry.RetryingHttpClientTest.Fixture.response;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.GET;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.HEAD;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.POST;
+import static com.github.castorm.kafka.connect.http.model.HttpRequest.HttpMethod.PUT;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingHttpClientTest {
+
+    RetryingHttpClient client;
+
+    @Mock
+    RetryingHttpClientConfig config;
+
+    @Mock
+    HttpClient delegate;
+
+    List<Long> sleeps = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        client = new RetryingHttpClient(__ -> config, sleeps::add, () -> 0.5);
+        given(config.getDelegateClient()).willReturn(delegate);
+        given(config.getRetryOn()).willReturn(EnumSet.of(IO, SERVER_ERROR, TOO_MANY_REQUESTS));
+        given(config.getIoMethods()).willReturn(EnumSet.of(GET, HEAD, PUT));
+        given(config.getMaxAttempts()).willReturn(3);
+        lenient().when(config.getBackoffInitialMillis()).thenReturn(100L);
+        lenient().when(config.getBackoffMaxMillis()).thenReturn(10000L);
+        given(config.getBudgetRatio()).willReturn(0.0);
+        given(config.getBudgetMax()).willReturn(10);
+    }
+
+    @Test
+    void givenSuccess_whenExecute_thenNotRetried() throws IOException {
+
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void givenIOExceptionThenSuccess_whenExecute_thenRetriedWithJitteredBackoff() throws IOException {
+
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willThrow(new IOException()).willThrow(new IOException()).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(sleeps).containsExactly(50L, 100L);
+    }
+
+    @Test
+    void givenIOExceptionAlways_whenExecute_thenThrownAfterMaxAttempts() throws IOException {
+
+        client.configure(emptyMap());
+        IOException failure = new IOException();
+        given(delegate.execute(request)).willThrow(failure);
+
+        assertThat(catchThrowable(() -> client.execute(request))).isEqualTo(failure);
+        then(delegate).should(times(3)).execute(request);
+    }
+
+    @Test
+    void givenIOExceptionOnPost_whenExecute_thenThrownWithoutRetrying() throws IOException {
+
+        client.configure(emptyMap());
+        HttpRequest post = request.toBuilder().method(POST).build();
+        given(delegate.execute(post)).willThrow(new IOException());
+
+        assertThat(catchThrowable(() -> client.execute(post))).isInstanceOf(IOException.class);
+        then(delegate).should(times(1)).execute(post);
+    }
+
+    @Test
+    void givenIOExceptionNotRetried_whenExecute_thenThrown() throws IOException {
+
+        given(config.getRetryOn()).willReturn(EnumSet.of(SERVER_ERROR));
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willThrow(new IOException());
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(IOException.class);
+        then(delegate).should(times(1)).execute(request);
+    }
+
+    @Test
+    void givenServerErrorAlways_whenExecute_thenLastResponse() throws IOException {
+
+        client.configure(emptyMap());
+        HttpResponse error = response(503);
+        given(delegate.execute(request)).willReturn(error);
+
+        assertThat(client.execute(request)).isEqualTo(error);
+        then(delegate).should(times(3)).execute(request);
+    }
+
+    @Test
+    void givenClientError_whenExecute_thenNotRetried() throws IOException {
+
+        client.configure(emptyMap());
+        HttpResponse error = response(404);
+        given(delegate.execute(request)).willReturn(error);
+
+        assertThat(client.execute(request)).isEqualTo(error);
+        then(delegate).should(times(1)).execute(request);
+    }
+
+    @Test
+    void givenTooManyRequestsWithRetryAfter_whenExecute_thenWaitedRetryAfter() throws IOException {
+
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willReturn(response(429).withHeaders(ImmutableMap.of("retry-after", singletonList("2")))).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(sleeps).containsExactly(2000L);
+    }
+
+    @Test
+    void givenRetryAfterOverMaxBackoff_whenExecute_thenNotRetried() throws IOException {
+
+        client.configure(emptyMap());
+        HttpResponse error = response(429).withHeaders(ImmutableMap.of("Retry-After", singletonList("60")));
+        given(delegate.execute(request)).willReturn(error);
+
+        assertThat(client.execute(request)).isEqualTo(error);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void givenTooManyRequestsWithRetryAfterDateInThePast_whenExecute_thenRetriedRightAway() throws IOException {
+
+        client.configure(emptyMap());
+        HttpResponse error = response(429).withHeaders(ImmutableMap.of("Retry-After", singletonList("Wed, 21 Oct 2015 07:28:00 GMT")));
+        given(delegate.execute(request)).willReturn(error).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(sleeps).containsExactly(0L);
+    }
+
+    @Test
+    void givenRetryAfterDateOverMaxBackoff_whenExecute_thenNotRetried() throws IOException {
+
+        client.configure(emptyMap());
+        HttpResponse error = response(429).withHeaders(ImmutableMap.of("Retry-After", singletonList("Fri, 31 Dec 9999 23:59:59 GMT")));
+        given(delegate.execute(request)).willReturn(error);
+
+        assertThat(client.execute(request)).isEqualTo(error);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void givenLargeInitialBackoff_whenExecute_thenCappedAtMaxBackoff() throws IOException {
+
+        given(config.getBackoffInitialMillis()).willReturn(Long.MAX_VALUE / 4);
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willThrow(new IOException()).willThrow(new IOException()).willReturn(ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(sleeps).containsExactly(5000L, 5000L);
+    }
+
+    @Test
+    void givenBudgetSpent_whenExecute_thenNotRetried() throws IOException {
+
+        given(config.getBudgetMax()).willReturn(2);
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willReturn(response(500));
+
+        client.execute(request);
+        client.execute(request);
+
+        then(delegate).should(times(4)).execute(request);
+    }
+
+    @Test
+    void givenBudgetEarned_whenExecute_thenRetried() throws IOException {
+
+        given(config.getBudgetMax()).willReturn(1);
+        given(config.getBudgetRatio()).willReturn(0.5);
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willReturn(response(500), ok, response(500), response(500), ok);
+
+        assertThat(client.execute(request)).isEqualTo(ok);
+        assertThat(client.execute(request).getCode()).isEqualTo(500);
+        assertThat(client.execute(request)).isEqualTo(ok);
+    }
+
+    @Test
+    void givenStreamingServerError_whenExecuteStreaming_thenClosedAndRetried() throws IOException {
+
+        client.configure(emptyMap());
+        InputStream body = mock(InputStream.class);
+        StreamingHttpResponse error = StreamingHttpResponse.builder().code(502).body(body).build();
+        StreamingHttpResponse success = StreamingHttpResponse.builder().code(200).body(body).build();
+        given(delegate.executeStreaming(request)).willReturn(error, success);
+
+        assertThat(client.executeStreaming(request)).isEqualTo(success);
+        then(body).should().close();
+    }
+
+    @Test
+    void givenIOExceptionThenSuccess_whenExecuteAsync_thenRetriedAsynchronouslyWithoutSleeping() throws IOException {
+
+        List<Long> delays = new ArrayList<>();
+        client = new RetryingHttpClient(__ -> config, sleeps::add, () -> 0.5, millis -> {
+            delays.add(millis);
+            return completedFuture(null);
+        });
+        client.configure(emptyMap());
+        given(delegate.executeAsync(request)).willReturn(failed(new IOException()), completedFuture(ok));
+
+        assertThat(client.executeAsync(request).join()).isEqualTo(ok);
+        assertThat(delays).containsExactly(50L);
+        assertThat(sleeps).isEmpty();
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    void givenServerErrorAlways_whenExecuteAsync_thenLastResponse() {
+
+        client = new RetryingHttpClient(__ -> config, sleeps::add, () -> 0.5, millis -> completedFuture(null));
+        client.configure(emptyMap());
+        HttpResponse error = response(503);
+        given(delegate.executeAsync(request)).willReturn(completedFuture(error));
+
+        assertThat(client.executeAsync(request).join()).isEqualTo(error);
+        then(delegate).should(times(3)).executeAsync(request);
+    }
+
+    @Test
+    void givenIOExceptionNotRetried_whenExecuteAsync_thenFailedWithIOException() {
+
+        given(config.getRetryOn()).willReturn(EnumSet.of(SERVER_ERROR));
+        client.configure(emptyMap());
+        IOException failure = new IOException();
+        given(delegate.executeAsync(request)).willReturn(failed(failure));
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).join())).hasCause(failure);
+    }
+
+    @Test
+    void givenCircuitOpen_whenExecute_thenThrownWithoutRetrying() throws IOException {
+
+        client.configure(emptyMap());
+        given(delegate.execute(request)).willThrow(new CircuitOpenException("http://localhost:8080"));
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+        then(delegate).should(times(1)).execute(request);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void givenCircuitBreakerDelegate_whenCircuitOpens_thenFailsFastWithoutBackoff() throws IOException {
+
+        FailingClient.calls.set(0);
+        CircuitBreakerHttpClient breaker = new CircuitBreakerHttpClient();
+        breaker.configure(ImmutableMap.of(
+                "http.client.circuit.client", FailingClient.class.getName(),
+                "http.client.circuit.window.size", "2",
+                "http.client.circuit.min.calls", "2"));
+        given(config.getDelegateClient()).willReturn(breaker);
+        client.configure(emptyMap());
+
+        catchThrowable(() -> client.execute(request));
+        sleeps.clear();
+
+        assertThat(catchThrowable(() -> client.execute(request))).isInstanceOf(CircuitOpenException.class);
+        assertThat(sleeps).isEmpty();
+        assertThat(FailingClient.calls).hasValue(2);
+    }
+
+    public static class FailingClient implements HttpClient {
+
+        static final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            calls.incrementAndGet();
+            throw new IOException();
+        }
+    }
+
+    private static CompletableFuture<HttpResponse> failed(Throwable e) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    interface Fixture {
+        HttpRequest request = HttpRequest.builder().url("http://localhost:8080/path").build();
+        HttpResponse ok = response(200);
+
+        static HttpResponse response(int code) {
+            return HttpResponse.builder().code(code).build();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.castorm.kafka.connect.http.client.spi;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class HttpClientTest {
+
+    HttpRequest request = HttpRequest.builder().build();
+
+    HttpResponse response = HttpResponse.builder().code(200).build();
+
+    @Test
+    void givenExecuteSucceeds_whenExecuteAsync_thenCompletedWithResponse() {
+
+        HttpClient client = __ -> response;
+
+        assertThat(client.executeAsync(request)).isCompletedWithValue(response);
+    }
+
+    @Test
+    void givenExecuteSucceeds_whenExecuteStreaming_thenBodyStreamed() throws IOException {
+
+        HttpClient client = __ -> HttpResponse.builder().code(200).body("body".getBytes()).build();
+
+        try (StreamingHttpResponse streamingResponse = client.executeStreaming(request)) {
+            assertThat(streamingResponse.getCode()).isEqualTo(200);
+            assertThat(streamingResponse.buffer().getBody()).isEqualTo("body".getBytes());
+        }
+    }
+
+    @Test
+    void givenExecuteFails_whenExecuteAsync_thenCompletedExceptionally() {
+
+        IOException failure = new IOException();
+        HttpClient client = __ -> {
+            throw failure;
+        };
+
+        assertThat(catchThrowable(() -> client.executeAsync(request).get()))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.castorm.kafka.connect.http.model;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.castorm.kafka.connect.http.model.OffsetTest.Fixture.now;
+import static com.github.castorm.kafka.connect.http.model.OffsetTest.Fixture.offsetMap;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffsetTest {
+
+    @Test
+    void givenTimestamp_whenGetTimestampMillis_thenEpochMillis() {
+        assertThat(Offset.of(offsetMap("1")).getTimestampMillis()).hasValue(now.toEpochMilli());
+    }
+
+    @Test
+    void givenNoTimestamp_whenGetTimestampMillis_thenEmpty() {
+        assertThat(Offset.of(emptyMap()).getTimestampMillis()).isEmpty();
+    }
+
+    @Test
+    void givenOffsetBuiltWithTimestamp_whenGetTimestamp_thenSameAsParsed() {
+        Offset offset = Offset.of(emptyMap(), "1", now);
+
+        assertThat(offset.getTimestamp()).isEqualTo(Offset.of(offset.toMap()).getTimestamp());
+    }
+
+    @Test
+    void givenNoValidators_whenGetValidators_thenEmpty() {
+        Offset offset = Offset.of(offsetMap("1"));
+
+        assertThat(offset.getETag()).isEmpty();
+        assertThat(offset.getLastModified()).isEmpty();
+    }
+
+    @Test
+    void givenValidators_whenWithValidators_thenKeptAlongProperties() {
+        Offset offset = Offset.of(offsetMap("1")).withValidators(Optional.of("\"v1\""), Optional.of("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        assertThat(offset.getETag()).contains("\"v1\"");
+        assertThat(offset.getLastModified()).contains("Wed, 21 Oct 2015 07:28:00 GMT");
+        assertThat(offset.getKey()).contains("1");
+        assertThat(Offset.of(offset.toMap()).getETag()).contains("\"v1\"");
+    }
+
+    @Test
+    void givenValidators_whenWithoutValidators_thenOnlyPropertiesKept() {
+        Offset offset = Offset.of(offsetMap("1")).withValidators(Optional.of("\"v1\""), Optional.of("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        assertThat(offset.withoutValidators().toMap()).isEqualTo(offsetMap("1"));
+    }
+
+    @Test
+    void givenEqualPropertiesAndDifferentValidators_whenMatches_thenTrue() {
+        Offset offset = Offset.of(offsetMap("1")).withValidators(Optional.of("\"v1\""), Optional.empty());
+
+        assertThat(offset.matches(Offset.of(offsetMap("1")).withValidators(Optional.of("\"v2\""), Optional.empty()).toMap())).isTrue();
+        assertThat(offset.matches(offsetMap("1"))).isTrue();
+    }
+
+    @Test
+    void givenDifferentProperties_whenMatches_thenFalse() {
+        Offset offset = Offset.of(offsetMap("1"));
+
+        assertThat(offset.matches(offsetMap("2"))).isFalse();
+        assertThat(offset.matches(ImmutableMap.of("key", "1"))).isFalse();
+    }
+
+    @Test
+    void givenDifferentValidators_whenEquals_thenTrue() {
+        Offset offset = Offset.of(offsetMap("1")).withValidators(Optional.of("\"v1\""), Optional.empty());
+        Offset other = Offset.of(offsetMap("1")).withValidators(Optional.of("\"v2\""), Optional.empty());
+
+        assertThat(offset).isEqualTo(other).isEqualTo(Offset.of(offsetMap("1"))).hasSameHashCodeAs(other);
+    }
+
+    @Test
+    void givenEqualProperties_whenEquals_thenTrue() {
+        Offset offset = Offset.of(offsetMap("1"));
+        Offset other = Offset.of(new HashMap<>(offsetMap("1")));
+
+        assertThat(offset).isEqualTo(other).hasSameHashCodeAs(other);
+    }
+
+    @Test
+    void givenDifferentProperties_whenEquals_thenFalse() {
+        assertThat(Offset.of(offsetMap("1"))).isNotEqualTo(Offset.of(offsetMap("2")));
+    }
+
+    @Test
+    void givenSwappedValues_whenEquals_thenFalse() {
+        assertThat(Offset.of(ImmutableMap.of("a", "1", "b", "2"))).isNotEqualTo(Offset.of(ImmutableMap.of("a", "2", "b", "1")));
+    }
+
+    interface Fixture {
+        Instant now = Instant.now();
+
+        static Map<String, Object> offsetMap(String key) {
+            return ImmutableMap.of("key", key, "timestamp", now.toString());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionListTaskPartitionerTest {
+
+    PartitionListTaskPartitioner partitioner;
+
+    @Mock
+    PartitionListTaskPartitionerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new PartitionListTaskPartitioner(__ -> config);
+    }
+
+    @Test
+    void givenPartitions_whenPartition_thenSamePartitions() {
+
+        given(config.getPartitions()).willReturn(asList(singletonMap("tenant", "a"), singletonMap("tenant", "b")));
+        partitioner.configure(emptyMap());
+
+        assertThat(partitioner.partition(1)).containsExactly(singletonMap("tenant", "a"), singletonMap("tenant", "b"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class TimeWindowTaskPartitionerConfigTest {
+
+    @Test
+    void whenWindow_thenInitialized() {
+        TimeWindowTaskPartitionerConfig config = new TimeWindowTaskPartitionerConfig(ImmutableMap.of(
+                "http.task.partitioner.window.from", "2020-01-01T00:00:00Z",
+                "http.task.partitioner.window.to", "2020-01-02T00:00:00Z"));
+
+        assertThat(config.getFrom()).isEqualTo(Instant.parse("2020-01-01T00:00:00Z"));
+        assertThat(config.getTo()).isEqualTo(Instant.parse("2020-01-02T00:00:00Z"));
+    }
+
+    @Test
+    void whenMissingWindow_thenException() {
+        assertThat(catchThrowable(() -> new TimeWindowTaskPartitionerConfig(ImmutableMap.of(
+                "http.task.partitioner.window.from", "2020-01-01T00:00:00Z")))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenEmptyWindow_thenException() {
+        assertThat(catchThrowable(() -> new TimeWindowTaskPartitionerConfig(ImmutableMap.of(
+                "http.task.partitioner.window.from", "2020-01-01T00:00:00Z",
+                "http.task.partitioner.window.to", "2020-01-01T00:00:00Z")))).isInstanceOf(ConfigException.class);
+    }
+}
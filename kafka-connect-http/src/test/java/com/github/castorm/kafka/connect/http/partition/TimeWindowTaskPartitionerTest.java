@@ -0,0 +1,71 @@
+package com.github.castorm.kafka.connect.http.partition;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TimeWindowTaskPartitionerTest {
+
+    TimeWindowTaskPartitioner partitioner;
+
+    @Mock
+    TimeWindowTaskPartitionerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new TimeWindowTaskPartitioner(__ -> config);
+    }
+
+    @Test
+    void givenWindow_whenPartition_thenDisjointWindowsPerTask() {
+
+        given(config.getFrom()).willReturn(Instant.parse("2020-01-01T00:00:00Z"));
+        given(config.getTo()).willReturn(Instant.parse("2020-01-04T00:00:00Z"));
+        partitioner.configure(emptyMap());
+
+        assertThat(partitioner.partition(3)).containsExactly(
+                ImmutableMap.of("from", "2020-01-01T00:00:00Z", "to", "2020-01-02T00:00:00Z"),
+                ImmutableMap.of("from", "2020-01-02T00:00:00Z", "to", "2020-01-03T00:00:00Z"),
+                ImmutableMap.of("from", "2020-01-03T00:00:00Z", "to", "2020-01-04T00:00:00Z"));
+    }
+
+    @Test
+    void givenWindowShorterThanTasks_whenPartition_thenOneWindowPerMilli() {
+
+        given(config.getFrom()).willReturn(Instant.ofEpochMilli(0));
+        given(config.getTo()).willReturn(Instant.ofEpochMilli(2));
+        partitioner.configure(emptyMap());
+
+        assertThat(partitioner.partition(3)).hasSize(2);
+    }
+}
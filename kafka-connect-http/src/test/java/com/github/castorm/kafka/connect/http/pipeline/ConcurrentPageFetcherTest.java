@@ -0,0 +1,172 @@
+package com.github.castorm.kafka.connect.http.pipeline;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.client.spi.HttpClient;
+import com.github.castorm.kafka.connect.http.model.HttpRequest;
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.request.spi.PaginatedHttpRequestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentPageFetcherTest {
+
+    ConcurrentPageFetcher fetcher;
+
+    @Mock
+    PaginatedHttpRequestFactory requestFactory;
+
+    @Mock
+    HttpClient client;
+
+    Offset offset = Offset.of(emptyMap());
+
+    List<HttpResponse> parsed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        fetcher = new ConcurrentPageFetcher(requestFactory);
+    }
+
+    @Test
+    void givenSinglePage_whenFetch_thenOnlyFirstPage() throws IOException {
+
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(client.execute(request(1))).willReturn(response(1));
+        given(requestFactory.getPageCount(response(1))).willReturn(1);
+
+        assertThat(fetcher.fetch(client, offset, this::parse)).containsExactly(response(1));
+        then(client).should(never()).executeAsync(request(2));
+    }
+
+    @Test
+    void givenPagesCompletingOutOfOrder_whenFetch_thenPageOrder() throws IOException {
+
+        CompletableFuture<HttpResponse> page2 = new CompletableFuture<>();
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(requestFactory.createRequest(offset, 2)).willReturn(request(2));
+        given(requestFactory.createRequest(offset, 3)).willReturn(request(3));
+        given(client.execute(request(1))).willReturn(response(1));
+        given(requestFactory.getPageCount(response(1))).willReturn(3);
+        given(requestFactory.getPageWindow()).willReturn(2);
+        given(client.executeAsync(request(2))).willReturn(page2);
+        given(client.executeAsync(request(3))).will(__ -> {
+            page2.complete(response(2));
+            return CompletableFuture.completedFuture(response(3));
+        });
+
+        assertThat(fetcher.fetch(client, offset, this::parse)).containsExactly(response(1), response(2), response(3));
+    }
+
+    @Test
+    void givenPagesCompletingOutOfOrder_whenFetch_thenParsedInPageOrderAsTheyComplete() throws IOException {
+
+        CompletableFuture<HttpResponse> page2 = new CompletableFuture<>();
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(requestFactory.createRequest(offset, 2)).willReturn(request(2));
+        given(requestFactory.createRequest(offset, 3)).willReturn(request(3));
+        given(client.execute(request(1))).willReturn(response(1));
+        given(requestFactory.getPageCount(response(1))).willReturn(3);
+        given(requestFactory.getPageWindow()).willReturn(1);
+        given(client.executeAsync(request(2))).will(__ -> {
+            page2.complete(response(2));
+            return page2;
+        });
+        given(client.executeAsync(request(3))).will(__ -> {
+            assertThat(parsed).containsExactly(response(1), response(2));
+            return CompletableFuture.completedFuture(response(3));
+        });
+
+        fetcher.fetch(client, offset, this::parse);
+
+        assertThat(parsed).containsExactly(response(1), response(2), response(3));
+    }
+
+    @Test
+    void givenFirstPageYieldsNothing_whenFetch_thenPagesNotCounted() throws IOException {
+
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(client.execute(request(1))).willReturn(response(1));
+
+        assertThat(fetcher.fetch(client, offset, __ -> emptyList())).isEmpty();
+        then(requestFactory).should(never()).getPageCount(any());
+    }
+
+    @Test
+    void givenFirstPageFailsParsing_whenFetch_thenFailedBeforeCountingPages() throws IOException {
+
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(client.execute(request(1))).willReturn(response(1));
+
+        assertThat(catchThrowable(() -> fetcher.fetch(client, offset, __ -> {
+            throw new IllegalStateException();
+        }))).isInstanceOf(IllegalStateException.class);
+        then(requestFactory).should(never()).getPageCount(any());
+    }
+
+    @Test
+    void givenPageFails_whenFetch_thenIOException() throws IOException {
+
+        CompletableFuture<HttpResponse> page2 = new CompletableFuture<>();
+        page2.completeExceptionally(new IOException());
+        given(requestFactory.createRequest(offset, 1)).willReturn(request(1));
+        given(requestFactory.createRequest(offset, 2)).willReturn(request(2));
+        given(client.execute(request(1))).willReturn(response(1));
+        given(requestFactory.getPageCount(response(1))).willReturn(2);
+        given(requestFactory.getPageWindow()).willReturn(2);
+        given(client.executeAsync(request(2))).willReturn(page2);
+
+        assertThat(catchThrowable(() -> fetcher.fetch(client, offset, this::parse))).isInstanceOf(IOException.class);
+    }
+
+    private List<HttpResponse> parse(HttpResponse page) {
+        parsed.add(page);
+        return singletonList(page);
+    }
+
+    private static HttpRequest request(int page) {
+        return HttpRequest.builder().url("http://localhost/items?page=" + page).build();
+    }
+
+    private static HttpResponse response(int page) {
+        return HttpResponse.builder().code(200).body(String.valueOf(page).getBytes()).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.castorm.kafka.connect.http.pipeline;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.kafka.connect.errors.RetriableException;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.castorm.kafka.connect.http.pipeline.RecordPipelineTest.Fixture.record;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class RecordPipelineTest {
+
+    RecordPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    void givenNoBatchReady_whenDrain_thenEmpty() throws InterruptedException {
+
+        CountDownLatch never = new CountDownLatch(1);
+        pipeline = new RecordPipeline(() -> {
+            never.await();
+            return singletonList(record(0));
+        }, 1);
+        pipeline.start();
+
+        assertThat(pipeline.drain(10)).isEmpty();
+    }
+
+    @Test
+    void givenBatchesReady_whenDrain_thenRecordsInOrder() throws InterruptedException {
+
+        AtomicInteger counter = new AtomicInteger();
+        pipeline = new RecordPipeline(() -> singletonList(record(counter.incrementAndGet())), 2);
+        pipeline.start();
+
+        assertThat(pipeline.drain(1000)).startsWith(record(1));
+        assertThat(pipeline.drain(1000).get(0).kafkaPartition()).isGreaterThan(1);
+    }
+
+    @Test
+    void givenStageFails_whenDrain_thenFailureRethrown() {
+
+        pipeline = new RecordPipeline(() -> {
+            throw new RetriableException("boom");
+        }, 1);
+        pipeline.start();
+
+        assertThat(catchThrowable(() -> pipeline.drain(1000))).isInstanceOf(RetriableException.class);
+    }
+
+    interface Fixture {
+        static SourceRecord record(int index) {
+            return new SourceRecord(emptyMap(), emptyMap(), "topic", index, null, null);
+        }
+    }
+}
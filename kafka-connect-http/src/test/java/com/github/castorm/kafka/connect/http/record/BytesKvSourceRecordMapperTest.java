@@ -0,0 +1,99 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.connect.data.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static com.github.castorm.kafka.connect.http.record.BytesKvSourceRecordMapperTest.Fixture.now;
+import static com.github.castorm.kafka.connect.http.record.BytesKvSourceRecordMapperTest.Fixture.offset;
+import static com.github.castorm.kafka.connect.http.record.BytesKvSourceRecordMapperTest.Fixture.record;
+import static java.time.Instant.now;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BytesKvSourceRecordMapperTest {
+
+    BytesKvSourceRecordMapper mapper;
+
+    @Mock
+    SourceRecordMapperConfig config;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new BytesKvSourceRecordMapper(__ -> config);
+        mapper.configure(emptyMap());
+    }
+
+    @Test
+    void givenValueBytes_whenMap_thenSameBytesMapped() {
+
+        byte[] bytes = "{\"k\": \"v\"}".getBytes();
+
+        assertThat(mapper.map(record.withValueBytes(bytes)).value()).isSameAs(bytes);
+    }
+
+    @Test
+    void givenNoValueBytes_whenMap_thenValueEncoded() {
+        assertThat(mapper.map(record.withValue("value")).value()).isEqualTo("value".getBytes());
+    }
+
+    @Test
+    void whenMap_thenBytesSchema() {
+        assertThat(mapper.map(record).valueSchema()).isEqualTo(Schema.BYTES_SCHEMA);
+    }
+
+    @Test
+    void givenKey_whenMap_thenKeyMapped() {
+        assertThat(mapper.map(record.withKey("key")).key()).isEqualTo("key");
+    }
+
+    @Test
+    void givenOffset_whenMap_thenOffsetAndTimestampMapped() {
+        assertThat(mapper.map(record.withOffset(offset)).sourceOffset()).isEqualTo(offset.toMap());
+        assertThat(mapper.map(record.withOffset(offset)).timestamp()).isEqualTo(now.toEpochMilli());
+    }
+
+    @Test
+    void givenTopic_whenMap_thenTopicMapped() {
+
+        given(config.getTopic()).willReturn("topic");
+
+        assertThat(mapper.map(record).topic()).isEqualTo("topic");
+    }
+
+    interface Fixture {
+        Instant now = now();
+        Offset offset = Offset.of(ImmutableMap.of("k", "v"), "key", now);
+        KvRecord record = KvRecord.builder().value("not-null").offset(offset).build();
+    }
+}
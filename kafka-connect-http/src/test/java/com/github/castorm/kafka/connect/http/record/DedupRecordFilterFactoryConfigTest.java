@@ -0,0 +1,86 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.record.DedupRecordFilterFactoryConfigTest.Fixture.config;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DedupRecordFilterFactoryConfigTest {
+
+    @Test
+    void whenNoCapacity_thenDefault() {
+        assertThat(config(emptyMap()).getCapacity()).isEqualTo(100000);
+    }
+
+    @Test
+    void whenCapacity_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.record.filter.dedup.capacity", "42")).getCapacity()).isEqualTo(42);
+    }
+
+    @Test
+    void whenCapacityOverMax_thenRejected() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.record.filter.dedup.capacity", String.valueOf(Integer.MAX_VALUE))))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenNoTtl_thenDefault() {
+        assertThat(config(emptyMap()).getTtlMillis()).isEqualTo(86400000L);
+    }
+
+    @Test
+    void whenTtl_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.record.filter.dedup.ttl.millis", "1000")).getTtlMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    void whenNoBloomFilter_thenDefault() {
+        assertThat(config(emptyMap()).getBloomFilter()).isTrue();
+    }
+
+    @Test
+    void whenBloomFilter_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.record.filter.dedup.bloom", "false")).getBloomFilter()).isFalse();
+    }
+
+    @Test
+    void whenNoKeyOnly_thenDefault() {
+        assertThat(config(emptyMap()).getKeyOnly()).isFalse();
+    }
+
+    @Test
+    void whenKeyOnly_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.record.filter.dedup.key.only", "true")).getKeyOnly()).isTrue();
+    }
+
+    interface Fixture {
+        static DedupRecordFilterFactoryConfig config(Map<String, String> settings) {
+            return new DedupRecordFilterFactoryConfig(settings);
+        }
+    }
+}
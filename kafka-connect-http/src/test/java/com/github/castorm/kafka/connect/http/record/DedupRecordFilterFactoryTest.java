@@ -0,0 +1,150 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.spi.SourceRecordFilterFactory;
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Predicate;
+
+import static com.github.castorm.kafka.connect.http.record.DedupRecordFilterFactoryTest.Fixture.offset;
+import static com.github.castorm.kafka.connect.http.record.DedupRecordFilterFactoryTest.Fixture.record;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DedupRecordFilterFactoryTest {
+
+    DedupRecordFilterFactory factory;
+
+    @Mock
+    DedupRecordFilterFactoryConfig config;
+
+    @Mock
+    SourceRecordFilterFactory delegate;
+
+    long now;
+
+    @BeforeEach
+    void setUp() {
+        factory = new DedupRecordFilterFactory(__ -> config, delegate, () -> now);
+        given(config.getCapacity()).willReturn(10);
+        given(config.getTtlMillis()).willReturn(1000L);
+        given(config.getBloomFilter()).willReturn(true);
+        factory.configure(emptyMap());
+    }
+
+    @Test
+    void givenNotSeen_whenTest_thenTrue() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+
+        assertThat(factory.create(offset).test(record("a", "p1"))).isTrue();
+    }
+
+    @Test
+    void givenSeenInPreviousPoll_whenTest_thenFalse() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+        factory.create(offset).test(record("a", "p1"));
+
+        assertThat(factory.create(offset).test(record("a", "p1"))).isFalse();
+    }
+
+    @Test
+    void givenSeenInOtherPartition_whenTest_thenTrue() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+        factory.create(offset).test(record("a", "p1"));
+
+        assertThat(factory.create(offset).test(record("a", "p2"))).isTrue();
+    }
+
+    @Test
+    void givenSeenBeforeTtl_whenTest_thenTrue() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+        factory.create(offset).test(record("a", "p1"));
+        now = 1000;
+
+        assertThat(factory.create(offset).test(record("a", "p1"))).isTrue();
+    }
+
+    @Test
+    void givenFilteredByDelegate_whenTest_thenFalseAndNotRemembered() {
+
+        given(delegate.create(any())).willReturn(__ -> false, __ -> true);
+        factory.create(offset).test(record("a", "p1"));
+
+        assertThat(factory.create(offset).test(record("a", "p1"))).isTrue();
+    }
+
+    @Test
+    void givenSeenWithOtherTimestamp_whenTest_thenTrue() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+        factory.create(offset).test(record("a", "p1", "2020-01-01T00:00:00Z"));
+
+        assertThat(factory.create(offset).test(record("a", "p1", "2020-01-02T00:00:00Z"))).isTrue();
+    }
+
+    @Test
+    void givenKeyOnlySeenWithOtherTimestamp_whenTest_thenFalse() {
+
+        given(config.getKeyOnly()).willReturn(true);
+        factory.configure(emptyMap());
+        given(delegate.create(any())).willReturn(__ -> true);
+        factory.create(offset).test(record("a", "p1", "2020-01-01T00:00:00Z"));
+
+        assertThat(factory.create(offset).test(record("a", "p1", "2020-01-02T00:00:00Z"))).isFalse();
+    }
+
+    @Test
+    void givenNoKey_whenTestTwice_thenTrue() {
+
+        given(delegate.create(any())).willReturn(__ -> true);
+        Predicate<SourceRecord> predicate = factory.create(offset);
+        predicate.test(record(null, "p1"));
+
+        assertThat(predicate.test(record(null, "p1"))).isTrue();
+    }
+
+    interface Fixture {
+        Offset offset = Offset.of(emptyMap());
+
+        static SourceRecord record(String key, String partition) {
+            return new SourceRecord(ImmutableMap.of("partition", partition), key == null ? emptyMap() : ImmutableMap.of("key", key), null, null, null, null, null, null, 0L);
+        }
+
+        static SourceRecord record(String key, String partition, String timestamp) {
+            return new SourceRecord(ImmutableMap.of("partition", partition), ImmutableMap.of("key", key, "timestamp", timestamp), null, null, null, null, null, null, 0L);
+        }
+    }
+}
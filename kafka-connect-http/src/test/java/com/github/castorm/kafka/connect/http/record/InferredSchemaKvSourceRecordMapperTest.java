@@ -0,0 +1,163 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static com.github.castorm.kafka.connect.http.record.InferredSchemaKvSourceRecordMapperTest.Fixture.now;
+import static com.github.castorm.kafka.connect.http.record.InferredSchemaKvSourceRecordMapperTest.Fixture.offset;
+import static com.github.castorm.kafka.connect.http.record.InferredSchemaKvSourceRecordMapperTest.Fixture.record;
+import static java.time.Instant.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class InferredSchemaKvSourceRecordMapperTest {
+
+    InferredSchemaKvSourceRecordMapper mapper;
+
+    @Mock
+    SourceRecordMapperConfig config;
+
+    @BeforeEach
+    void setUp() {
+        given(config.getSchemaCacheSize()).willReturn(10);
+        mapper = new InferredSchemaKvSourceRecordMapper(__ -> config);
+        mapper.configure(emptyMap());
+    }
+
+    @Test
+    void givenObject_whenMap_thenNativeTypesInferred() {
+
+        Struct value = (Struct) mapper.map(record.withValue("{\"s\":\"v\",\"i\":1,\"d\":1.5,\"b\":true}")).value();
+
+        assertThat(value.schema().field("s").schema().type()).isEqualTo(Schema.Type.STRING);
+        assertThat(value.schema().field("i").schema().type()).isEqualTo(Schema.Type.INT64);
+        assertThat(value.schema().field("d").schema().type()).isEqualTo(Schema.Type.FLOAT64);
+        assertThat(value.schema().field("b").schema().type()).isEqualTo(Schema.Type.BOOLEAN);
+        assertThat(value.getString("s")).isEqualTo("v");
+        assertThat(value.getInt64("i")).isEqualTo(1L);
+        assertThat(value.getFloat64("d")).isEqualTo(1.5);
+        assertThat(value.getBoolean("b")).isTrue();
+    }
+
+    @Test
+    void givenNestedObject_whenMap_thenNestedStruct() {
+
+        Struct value = (Struct) mapper.map(record.withValue("{\"o\":{\"k\":\"v\"}}")).value();
+
+        assertThat(value.getStruct("o").getString("k")).isEqualTo("v");
+    }
+
+    @Test
+    void givenArray_whenMap_thenArrayOfItemType() {
+
+        Struct value = (Struct) mapper.map(record.withValue("{\"a\":[1,2]}")).value();
+
+        assertThat(value.getArray("a")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void givenMixedArray_whenMap_thenArrayOfJsonStrings() {
+
+        Struct value = (Struct) mapper.map(record.withValue("{\"a\":[1,\"v\",{\"k\":true}]}")).value();
+
+        assertThat(value.getArray("a")).containsExactly("1", "v", "{\"k\":true}");
+    }
+
+    @Test
+    void givenSameShape_whenMap_thenSameSchema() {
+
+        Schema schema = mapper.map(record.withValue("{\"k\":\"v1\",\"n\":1}")).valueSchema();
+
+        assertThat(mapper.map(record.withValue("{\"k\":\"v2\",\"n\":2}")).valueSchema()).isSameAs(schema);
+    }
+
+    @Test
+    void givenDifferentShape_whenMap_thenDifferentSchema() {
+
+        Schema schema = mapper.map(record.withValue("{\"k\":\"v1\"}")).valueSchema();
+
+        assertThat(mapper.map(record.withValue("{\"k\":1}")).valueSchema()).isNotEqualTo(schema);
+    }
+
+    @Test
+    void givenCacheFull_whenMap_thenLeastRecentlyUsedSchemaEvicted() {
+
+        given(config.getSchemaCacheSize()).willReturn(1);
+        mapper.configure(emptyMap());
+        Schema schema = mapper.map(record.withValue("{\"k\":\"v\"}")).valueSchema();
+        mapper.map(record.withValue("{\"k\":1}"));
+
+        assertThat(mapper.map(record.withValue("{\"k\":\"v\"}")).valueSchema()).isNotSameAs(schema).isEqualTo(schema);
+    }
+
+    @Test
+    void givenValueMap_whenMap_thenValueMapUsed() {
+
+        KvRecord parsed = record.withValue("not-json").withValueMap(() -> ImmutableMap.of("k", asList("v")));
+
+        assertThat(((Struct) mapper.map(parsed).value()).getArray("k")).containsExactly("v");
+    }
+
+    @Test
+    void givenNotAnObject_whenMap_thenWrappedIntoValue() {
+        assertThat(((Struct) mapper.map(record.withValue("not-json")).value()).getString("value")).isEqualTo("not-json");
+    }
+
+    @Test
+    void givenKey_whenMap_thenKeyMapped() {
+        assertThat(((Struct) mapper.map(record.withKey("key")).key()).get("key")).isEqualTo("key");
+    }
+
+    @Test
+    void givenOffset_whenMap_thenOffsetAndTimestampMapped() {
+        assertThat(mapper.map(record.withOffset(offset)).sourceOffset()).isEqualTo(offset.toMap());
+        assertThat(mapper.map(record.withOffset(offset)).timestamp()).isEqualTo(now.toEpochMilli());
+    }
+
+    @Test
+    void givenTopic_whenMap_thenTopicMapped() {
+
+        given(config.getTopic()).willReturn("topic");
+
+        assertThat(mapper.map(record).topic()).isEqualTo("topic");
+    }
+
+    interface Fixture {
+        Instant now = now();
+        Offset offset = Offset.of(ImmutableMap.of("k", "v"), "key", now);
+        KvRecord record = KvRecord.builder().value("{}").offset(offset).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.record.ObjectMapKvSourceRecordMapperTest.Fixture.now;
+import static com.github.castorm.kafka.connect.http.record.ObjectMapKvSourceRecordMapperTest.Fixture.offset;
+import static com.github.castorm.kafka.connect.http.record.ObjectMapKvSourceRecordMapperTest.Fixture.record;
+import static java.time.Instant.now;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectMapKvSourceRecordMapperTest {
+
+    ObjectMapKvSourceRecordMapper mapper;
+
+    @Mock
+    SourceRecordMapperConfig config;
+
+    @BeforeEach
+    void setUp() {
+        given(config.getTopic()).willReturn("topic");
+        mapper = new ObjectMapKvSourceRecordMapper(__ -> config);
+        mapper.configure(emptyMap());
+    }
+
+    @Test
+    void givenValue_whenMap_thenValueParsed() {
+        assertThat(value(mapper.map(record.withValue("{\"k\":\"v\"}")).value())).containsEntry("k", "v");
+    }
+
+    @Test
+    void givenValueMap_whenMap_thenValueMapUsedInsteadOfValue() {
+
+        KvRecord parsed = record.withValue("not-json").withValueMap(() -> new HashMap<>(ImmutableMap.of("k", "v")));
+
+        assertThat(value(mapper.map(parsed).value())).containsEntry("k", "v");
+    }
+
+    @Test
+    void givenKeyAndOffsetTimestamp_whenMap_thenAddedToValue() {
+
+        Map<String, Object> value = value(mapper.map(record.withKey("key").withOffset(offset)).value());
+
+        assertThat(value).containsEntry("key", "key").containsEntry("timestamp", now.toEpochMilli());
+    }
+
+    @Test
+    void givenKey_whenMap_thenKeyMapped() {
+        assertThat(mapper.map(record.withKey("key")).key()).isEqualTo("key");
+    }
+
+    @Test
+    void givenTopic_whenMap_thenTopicMapped() {
+        assertThat(mapper.map(record).topic()).isEqualTo("topic");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> value(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    interface Fixture {
+        Instant now = now();
+        Offset offset = Offset.of(ImmutableMap.of("k", "v"), "key", now);
+        KvRecord record = KvRecord.builder().value("{}").offset(offset).build();
+    }
+}
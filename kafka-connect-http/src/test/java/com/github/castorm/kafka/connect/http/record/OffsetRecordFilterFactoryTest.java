@@ -30,9 +30,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import static com.github.castorm.kafka.connect.http.record.OffsetRecordFilterFactoryTest.Fixture.record;
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -66,7 +69,24 @@ class OffsetRecordFilterFactoryTest {
         assertThat(predicate.test(record(6))).isTrue();
     }
 
+    @Test
+    void givenValidatorsChangedWithEqualTimestampTail_whenCreateAndTest_thenOnlyRecordsAfterLastSeen() {
+
+        Instant now = Instant.now();
+        Offset committed = Offset.of(emptyMap(), "1", now).withValidators(Optional.of("\"v1\""), Optional.empty());
+        Predicate<SourceRecord> predicate = factory.create(committed);
+
+        assertThat(predicate.test(record("1", now, "\"v2\""))).isFalse();
+        assertThat(predicate.test(record("2", now, "\"v2\""))).isTrue();
+    }
+
     interface Fixture {
+        static SourceRecord record(String key, Instant timestamp, String etag) {
+            Offset offset = Offset.of(emptyMap(), key, timestamp).withValidators(Optional.of(etag), Optional.empty());
+            return new SourceRecord(null, offset.toMap(), null, null, null, null, null, null, timestamp.toEpochMilli());
+        }
+
+
         static SourceRecord record(int index) {
             return new SourceRecord(null, ImmutableMap.of("i", index), null, null, null, null, null, null, 0L);
         }
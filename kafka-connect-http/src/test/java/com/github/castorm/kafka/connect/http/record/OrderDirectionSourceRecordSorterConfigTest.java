@@ -43,6 +43,16 @@ class OrderDirectionSourceRecordSorterConfigTest {
         assertThat(config(ImmutableMap.of("http.response.list.order.direction", "ASC")).getOrderDirection()).isEqualTo(ASC);
     }
 
+    @Test
+    void whenNoFields_thenEmpty() {
+        assertThat(config(emptyMap()).getOrderFields()).isEmpty();
+    }
+
+    @Test
+    void whenFields_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.response.list.order.fields", "id, seq")).getOrderFields()).containsExactly("id", "seq");
+    }
+
     interface Fixture {
         static OrderDirectionSourceRecordSorterConfig config(Map<String, String> settings) {
             return new OrderDirectionSourceRecordSorterConfig(settings);
@@ -21,6 +21,7 @@ package com.github.castorm.kafka.connect.http.record;
  */
 
 import com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorter.OrderDirection;
+import com.google.common.collect.ImmutableMap;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,8 +36,10 @@ import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceR
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorter.OrderDirection.IMPLICIT;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.mid;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.newer;
+import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.keyed;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.older;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.ordered;
+import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.record;
 import static com.github.castorm.kafka.connect.http.record.OrderDirectionSourceRecordSorterTest.Fixture.reverseOrdered;
 import static java.lang.Long.MAX_VALUE;
 import static java.lang.Long.MIN_VALUE;
@@ -100,17 +103,98 @@ class OrderDirectionSourceRecordSorterTest {
         assertThat(sorter.sort(reverseOrdered)).containsExactly(older, mid, newer);
     }
 
+    @Test
+    void givenDesc_whenOrderedRecords_thenReversedWithoutCopy() {
+
+        givenDirection(DESC);
+
+        assertThat(sorter.sort(ordered)).isInstanceOf(ReversedList.class);
+    }
+
+    @Test
+    void givenField_whenUnorderedRecords_thenSortedByField() {
+
+        givenFields("id");
+
+        assertThat(sorter.sort(asList(record(3, 0), record(1, 0), record(2, 0)))).containsExactly(record(1, 0), record(2, 0), record(3, 0));
+    }
+
+    @Test
+    void givenFields_whenUnorderedRecords_thenSortedByFieldsInOrder() {
+
+        givenFields("id", "seq");
+
+        assertThat(sorter.sort(asList(record(2, 1), record(1, 2), record(1, 1), record(2, 0)))).containsExactly(record(1, 1), record(1, 2), record(2, 0), record(2, 1));
+    }
+
+    @Test
+    void givenField_whenSameValues_thenOrderKept() {
+
+        givenFields("id");
+
+        assertThat(sorter.sort(asList(record(1, 2), record(1, 1), record(0, 3)))).containsExactly(record(0, 3), record(1, 2), record(1, 1));
+    }
+
+    @Test
+    void givenField_whenNumericStrings_thenSortedNumerically() {
+
+        givenFields("key");
+
+        assertThat(sorter.sort(asList(keyed("10"), keyed("9")))).containsExactly(keyed("9"), keyed("10"));
+    }
+
+    @Test
+    void givenField_whenTimestamps_thenSortedChronologically() {
+
+        givenFields("key");
+
+        assertThat(sorter.sort(asList(keyed("2020-01-02T00:00:00Z"), keyed("2020-01-01T00:00:00.5Z"), keyed("2020-01-01T00:00:00Z"))))
+                .containsExactly(keyed("2020-01-01T00:00:00Z"), keyed("2020-01-01T00:00:00.5Z"), keyed("2020-01-02T00:00:00Z"));
+    }
+
+    @Test
+    void givenField_whenNotNumeric_thenSortedAsStrings() {
+
+        givenFields("key");
+
+        assertThat(sorter.sort(asList(keyed("b"), keyed("10"), keyed(null), keyed("a"), keyed("9"))))
+                .containsExactly(keyed("10"), keyed("9"), keyed("a"), keyed("b"), keyed(null));
+    }
+
+    @Test
+    void givenField_whenMissingValues_thenSortedLast() {
+
+        givenFields("key");
+
+        assertThat(sorter.sort(asList(keyed(null), keyed("2"), keyed(null), keyed("1"))))
+                .containsExactly(keyed("1"), keyed("2"), keyed(null), keyed(null));
+    }
+
     private void givenDirection(OrderDirection asc) {
         sorter = new OrderDirectionSourceRecordSorter(__ -> config);
         given(config.getOrderDirection()).willReturn(asc);
         sorter.configure(Collections.emptyMap());
     }
 
+    private void givenFields(String... fields) {
+        sorter = new OrderDirectionSourceRecordSorter(__ -> config);
+        given(config.getOrderFields()).willReturn(asList(fields));
+        sorter.configure(Collections.emptyMap());
+    }
+
     interface Fixture {
         SourceRecord older = new SourceRecord(null, null, null, null, null, null, null, null, MIN_VALUE);
         SourceRecord mid = new SourceRecord(null, null, null, null, null, null, null, null, 0L);
         SourceRecord newer = new SourceRecord(null, null, null, null, null, null, null, null, MAX_VALUE);
         List<SourceRecord> ordered = asList(older, mid, newer);
         List<SourceRecord> reverseOrdered = asList(newer, mid, older);
+
+        static SourceRecord record(long id, int seq) {
+            return new SourceRecord(null, ImmutableMap.of("id", id, "seq", seq), null, null, null, null, null, null, 0L);
+        }
+
+        static SourceRecord keyed(String key) {
+            return new SourceRecord(null, key != null ? ImmutableMap.of("key", key) : ImmutableMap.of(), null, null, null, null, null, null, 0L);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package com.github.castorm.kafka.connect.http.record;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentKeyIndexTest {
+
+    @Test
+    void whenAddNew_thenTrue() {
+        assertThat(new RecentKeyIndex(10, 1000, true).add(1L, 0)).isTrue();
+    }
+
+    @Test
+    void whenAddTwice_thenFalse() {
+        RecentKeyIndex index = new RecentKeyIndex(10, 1000, true);
+        index.add(1L, 0);
+
+        assertThat(index.add(1L, 1)).isFalse();
+    }
+
+    @Test
+    void givenNoBloomFilter_whenAddTwice_thenFalse() {
+        RecentKeyIndex index = new RecentKeyIndex(10, 1000, false);
+        index.add(1L, 0);
+
+        assertThat(index.add(1L, 1)).isFalse();
+    }
+
+    @Test
+    void whenAddZeroTwice_thenFalse() {
+        RecentKeyIndex index = new RecentKeyIndex(10, 1000, true);
+        index.add(0L, 0);
+
+        assertThat(index.add(0L, 1)).isFalse();
+    }
+
+    @Test
+    void whenAddAfterTtl_thenTrue() {
+        RecentKeyIndex index = new RecentKeyIndex(10, 1000, true);
+        index.add(1L, 0);
+
+        assertThat(index.add(1L, 1000)).isTrue();
+    }
+
+    @Test
+    void whenAddOverCapacity_thenOldestForgotten() {
+        RecentKeyIndex index = new RecentKeyIndex(2, 1000, true);
+        index.add(1L, 0);
+        index.add(2L, 0);
+        index.add(3L, 0);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.add(2L, 0)).isFalse();
+        assertThat(index.add(1L, 0)).isTrue();
+    }
+
+    @Test
+    void whenManyCollidingHashesEvicted_thenLatestStillFound() {
+        RecentKeyIndex index = new RecentKeyIndex(100, Long.MAX_VALUE, true);
+        Random random = new Random(42);
+        long[] latest = new long[100];
+        int added = 0;
+        for (int i = 0; i < 10000; i++) {
+            long hash = (long) random.nextInt(16) << 32 | random.nextInt(32);
+            if (index.add(hash, i)) {
+                latest[added++ % latest.length] = hash;
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        for (long hash : latest) {
+            assertThat(index.add(hash, 10000)).isFalse();
+        }
+    }
+}
@@ -90,6 +90,14 @@ class SchemedKvSourceRecordMapperTest {
         assertThat(mapper.map(record.withOffset(offset)).timestamp()).isEqualTo(now.toEpochMilli());
     }
 
+    @Test
+    void givenSourcePartition_whenMap_thenSourcePartitionMapped() {
+
+        given(config.getSourcePartition()).willReturn(ImmutableMap.of("shard", "1"));
+
+        assertThat(mapper.map(record).sourcePartition()).isEqualTo(ImmutableMap.of("shard", "1"));
+    }
+
     @Test
     void whenMap_thenNoPartitionMapped() {
         assertThat(mapper.map(record).kafkaPartition()).isNull();
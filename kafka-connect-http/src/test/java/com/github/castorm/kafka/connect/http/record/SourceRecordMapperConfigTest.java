@@ -28,6 +28,7 @@ import java.util.Map;
 
 import static com.github.castorm.kafka.connect.http.record.SourceRecordMapperConfigTest.Fixture.minimumConfig;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
@@ -43,6 +44,26 @@ class SourceRecordMapperConfigTest {
         assertThat(minimumConfig(emptyMap()).getTopic()).isEqualTo("test-topic");
     }
 
+    @Test
+    void whenNoSourcePartition_thenEmpty() {
+        assertThat(minimumConfig(emptyMap()).getSourcePartition()).isEmpty();
+    }
+
+    @Test
+    void whenSourcePartition_thenInitialized() {
+        assertThat(minimumConfig(singletonMap("http.source.partition", "shard=1")).getSourcePartition()).containsEntry("shard", "1");
+    }
+
+    @Test
+    void whenNoSchemaCacheSize_thenDefault() {
+        assertThat(minimumConfig(emptyMap()).getSchemaCacheSize()).isEqualTo(100);
+    }
+
+    @Test
+    void whenSchemaCacheSize_thenInitialized() {
+        assertThat(minimumConfig(singletonMap("http.record.schema.cache.size", "5")).getSchemaCacheSize()).isEqualTo(5);
+    }
+
     interface Fixture {
 
         static SourceRecordMapperConfig minimumConfig(Map<String, String> customConfig) {
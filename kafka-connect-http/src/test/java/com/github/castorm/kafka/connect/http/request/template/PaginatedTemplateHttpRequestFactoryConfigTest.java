@@ -0,0 +1,55 @@
+package com.github.castorm.kafka.connect.http.request.template;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.http.request.template.PaginatedTemplateHttpRequestFactoryConfigTest.Fixture.config;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PaginatedTemplateHttpRequestFactoryConfigTest {
+
+    @Test
+    void whenMissingLimit_thenDefault() {
+        assertThat(config(ImmutableMap.of("http.request.url", "http://localhost")).getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void whenLimit_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.request.url", "http://localhost", "pagination.limit", "50")).getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void whenLimitZero_thenException() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.request.url", "http://localhost", "pagination.limit", "0")))).isInstanceOf(ConfigException.class);
+    }
+
+    interface Fixture {
+        static PaginatedTemplateHttpRequestFactoryConfig config(Map<String, String> settings) {
+            return new PaginatedTemplateHttpRequestFactoryConfig(settings);
+        }
+    }
+}
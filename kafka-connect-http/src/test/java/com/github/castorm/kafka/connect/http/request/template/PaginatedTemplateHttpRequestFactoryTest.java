@@ -0,0 +1,141 @@
+package com.github.castorm.kafka.connect.http.request.template;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PaginatedTemplateHttpRequestFactoryTest {
+
+    PaginatedTemplateHttpRequestFactory factory;
+
+    Offset offset = Offset.of(emptyMap());
+
+    @BeforeEach
+    void setUp() {
+        factory = new PaginatedTemplateHttpRequestFactory();
+    }
+
+    @Test
+    void givenPage_whenCreateRequest_thenPageAndLimitParamsAdded() {
+
+        given(ImmutableMap.of("http.request.params", "param=value", "pagination.limit", "50"));
+
+        assertThat(factory.createRequest(offset, 3).getQueryParams())
+                .containsEntry("param", singletonList("value"))
+                .containsEntry("pageNumber", singletonList("3"))
+                .containsEntry("limit", singletonList("50"));
+    }
+
+    @Test
+    void givenUrl_whenCreateRequest_thenFirstPage() {
+
+        given(emptyMap());
+
+        assertThat(factory.createRequest(offset).getQueryParams()).containsEntry("pageNumber", singletonList("1"));
+    }
+
+    @Test
+    void givenNoCountPointer_whenGetPageCount_thenSinglePage() throws IOException {
+
+        given(emptyMap());
+
+        assertThat(factory.getPageCount(response("{\"total\":100}"))).isEqualTo(1);
+    }
+
+    @Test
+    void givenCountPointer_whenGetPageCount_thenPagesRoundedUp() throws IOException {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/meta/total", "pagination.limit", "10"));
+
+        assertThat(factory.getPageCount(response("{\"meta\":{\"total\":101}}"))).isEqualTo(11);
+    }
+
+    @Test
+    void givenCountPointerAndNoRecords_whenGetPageCount_thenSinglePage() throws IOException {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/total"));
+
+        assertThat(factory.getPageCount(response("{\"total\":0}"))).isEqualTo(1);
+    }
+
+    @Test
+    void givenCountAfterRecords_whenGetPageCount_thenPagesRoundedUp() throws IOException {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/meta/total", "pagination.limit", "10"));
+
+        assertThat(factory.getPageCount(response("{\"items\":[{\"total\":1}],\"meta\":{\"total\":25}}"))).isEqualTo(3);
+    }
+
+    @Test
+    void givenCountOverMaxPages_whenGetPageCount_thenMaxPages() throws IOException {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/total", "pagination.limit", "10", "pagination.max.pages", "5"));
+
+        assertThat(factory.getPageCount(response("{\"total\":1000}"))).isEqualTo(5);
+    }
+
+    @Test
+    void givenCountPointerMissing_whenGetPageCount_thenIOException() {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/total"));
+
+        assertThat(catchThrowable(() -> factory.getPageCount(response("{}")))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void givenBodyNotJson_whenGetPageCount_thenIOException() {
+
+        given(ImmutableMap.of("http.response.count.pointer", "/total"));
+
+        assertThat(catchThrowable(() -> factory.getPageCount(response("<html></html>")))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void givenWindow_whenGetPageWindow_thenConfigured() {
+
+        given(ImmutableMap.of("pagination.window", "4"));
+
+        assertThat(factory.getPageWindow()).isEqualTo(4);
+    }
+
+    private void given(Map<String, String> settings) {
+        Map<String, String> allSettings = new HashMap<>(settings);
+        allSettings.put("http.request.url", "http://localhost/items");
+        factory.configure(allSettings);
+    }
+
+    private static HttpResponse response(String body) {
+        return HttpResponse.builder().code(200).body(body.getBytes()).build();
+    }
+}
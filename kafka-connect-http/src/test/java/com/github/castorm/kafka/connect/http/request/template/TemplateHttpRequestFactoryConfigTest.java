@@ -48,6 +48,16 @@ class TemplateHttpRequestFactoryConfigTest {
         assertThat(config("http.request.url", value).getUrl()).isEqualTo(value);
     }
 
+    @Test
+    void whenMissingSourcePartition_thenEmpty() {
+        assertThat(configWithout("http.source.partition").getSourcePartition()).isEmpty();
+    }
+
+    @Test
+    void whenSourcePartition_thenInitialized() {
+        assertThat(config("http.source.partition", "shard=1").getSourcePartition()).containsEntry("shard", "1");
+    }
+
     @Test
     void whenMissingMethod_thenDefault() {
         assertThat(configWithout("http.request.method").getMethod()).isEqualTo("GET");
@@ -44,6 +44,11 @@ class BackwardsCompatibleFreeMarkerTemplateFactoryTest {
         assertThat(factory.create("template ${offset.key}").apply(offset)).isEqualTo("template offset1");
     }
 
+    @Test
+    void givenTemplateWithPartition_whenApply_thenReplaced() {
+        assertThat(factory.create("shard ${partition.shard}", ImmutableMap.of("shard", "1")).apply(Offset.of(emptyMap()))).isEqualTo("shard 1");
+    }
+
     @Test
     void givenTemplate_whenApplyOffsetValue_thenReplacedWithoutNamespace() {
         Offset offset = Offset.of(ImmutableMap.of("key", "offset1"));
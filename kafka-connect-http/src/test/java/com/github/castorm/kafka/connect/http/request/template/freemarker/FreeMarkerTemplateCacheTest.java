@@ -0,0 +1,54 @@
+package com.github.castorm.kafka.connect.http.request.template.freemarker;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import freemarker.template.Template;
+import org.junit.jupiter.api.Test;
+
+import static com.github.castorm.kafka.connect.http.request.template.freemarker.FreeMarkerTemplateCache.MAX_TEMPLATES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeMarkerTemplateCacheTest {
+
+    @Test
+    void givenSameSource_whenGet_thenSameTemplate() {
+        assertThat(FreeMarkerTemplateCache.get("template ${offset.key}")).isSameAs(FreeMarkerTemplateCache.get("template ${offset.key}"));
+    }
+
+    @Test
+    void givenDifferentSource_whenGet_thenDifferentTemplate() {
+        assertThat(FreeMarkerTemplateCache.get("template ${offset.key}")).isNotSameAs(FreeMarkerTemplateCache.get("template ${offset.other}"));
+    }
+
+    @Test
+    void givenMoreThanMaxSources_whenGet_thenLeastRecentlyUsedRecompiled() {
+
+        Template eldest = FreeMarkerTemplateCache.get("eldest ${offset.key}");
+        Template recent = FreeMarkerTemplateCache.get("recent ${offset.key}");
+        for (int i = 0; i < MAX_TEMPLATES - 1; i++) {
+            FreeMarkerTemplateCache.get("recent ${offset.key}");
+            FreeMarkerTemplateCache.get("template " + i + " ${offset.key}");
+        }
+
+        assertThat(FreeMarkerTemplateCache.get("recent ${offset.key}")).isSameAs(recent);
+        assertThat(FreeMarkerTemplateCache.get("eldest ${offset.key}")).isNotSameAs(eldest);
+    }
+}
@@ -44,6 +44,11 @@ class FreeMarkerTemplateFactoryTest {
         assertThat(factory.create("template ${offset.key}").apply(offset)).isEqualTo("template offset1");
     }
 
+    @Test
+    void givenTemplateWithPartition_whenApply_thenReplaced() {
+        assertThat(factory.create("shard ${partition.shard}", ImmutableMap.of("shard", "1")).apply(Offset.of(emptyMap()))).isEqualTo("shard 1");
+    }
+
     @Test
     void givenTemplateWithTimestampAsString_whenApplyValue_thenReplaced() {
         Offset offset = Offset.of(ImmutableMap.of("timestamp", Instant.parse("2020-01-01T00:00:00Z")));
@@ -21,6 +21,7 @@ package com.github.castorm.kafka.connect.http.response;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.record.ObjectMapKvSourceRecordMapper;
 import com.github.castorm.kafka.connect.http.record.SchemedKvSourceRecordMapper;
 import com.github.castorm.kafka.connect.http.record.model.KvRecord;
 import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
@@ -59,8 +60,29 @@ class KvHttpResponseParserConfigTest {
         assertThat(config(ImmutableMap.of("http.response.record.mapper", TestRecordMapper.class.getName())).getRecordMapper()).isInstanceOf(TestRecordMapper.class);
     }
 
+    @Test
+    void givenMapperReadingValueMap_thenParserKeepsValueMap() {
+        config(ImmutableMap.of("http.response.record.parser", TestResponseParser.class.getName(), "http.response.record.mapper", ObjectMapKvSourceRecordMapper.class.getName()));
+
+        assertThat(TestResponseParser.settings).containsEntry("http.response.record.value.map", true);
+    }
+
+    @Test
+    void givenMapperNotReadingValueMap_thenParserDoesNotKeepValueMap() {
+        config(ImmutableMap.of("http.response.record.parser", TestResponseParser.class.getName()));
+
+        assertThat(TestResponseParser.settings).doesNotContainKey("http.response.record.value.map");
+    }
+
     public static class TestResponseParser implements KvRecordHttpResponseParser {
 
+        static Map<String, Object> settings;
+
+        @Override
+        public void configure(Map<String, ?> settings) {
+            TestResponseParser.settings = new HashMap<>(settings);
+        }
+
         @Override
         public List<KvRecord> parse(HttpResponse response) {
             return null;
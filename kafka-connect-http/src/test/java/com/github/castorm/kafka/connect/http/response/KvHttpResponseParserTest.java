@@ -21,6 +21,7 @@ package com.github.castorm.kafka.connect.http.response;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.record.model.KvRecord;
 import com.github.castorm.kafka.connect.http.record.spi.KvSourceRecordMapper;
 import com.github.castorm.kafka.connect.http.response.spi.KvRecordHttpResponseParser;
@@ -31,9 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
 import static com.github.castorm.kafka.connect.http.response.KvHttpResponseParserTest.Fixture.record;
 import static com.github.castorm.kafka.connect.http.response.KvHttpResponseParserTest.Fixture.response;
 import static com.github.castorm.kafka.connect.http.response.KvHttpResponseParserTest.Fixture.sourceRecord;
+import static com.github.castorm.kafka.connect.http.response.KvHttpResponseParserTest.Fixture.streamingResponse;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
@@ -90,8 +95,18 @@ class KvHttpResponseParserTest {
         assertThat(parser.parse(response)).containsExactly(sourceRecord);
     }
 
+    @Test
+    void givenList_whenParseStream_thenItemsMappedReturned() throws IOException {
+
+        given(recordParser.parseStream(streamingResponse)).willReturn(singletonList(record));
+        given(recordFactory.map(record)).willReturn(sourceRecord);
+
+        assertThat(parser.parseStream(streamingResponse)).containsExactly(sourceRecord);
+    }
+
     interface Fixture {
         HttpResponse response = HttpResponse.builder().build();
+        StreamingHttpResponse streamingResponse = StreamingHttpResponse.builder().body(new ByteArrayInputStream(new byte[0])).build();
         KvRecord record = KvRecord.builder().build();
         SourceRecord sourceRecord = new SourceRecord(null, null, null, null, null);
     }
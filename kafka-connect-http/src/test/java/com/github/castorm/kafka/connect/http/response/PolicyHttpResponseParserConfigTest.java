@@ -56,6 +56,16 @@ class PolicyHttpResponseParserConfigTest {
         assertThat(config(ImmutableMap.of("http.response.policy", TestPolicy.class.getName())).getPolicy()).isInstanceOf(TestPolicy.class);
     }
 
+    @Test
+    void whenNoOffsetValidators_thenDisabled() {
+        assertThat(config(emptyMap()).getOffsetValidators()).isFalse();
+    }
+
+    @Test
+    void whenOffsetValidators_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.response.offset.validators", "true")).getOffsetValidators()).isTrue();
+    }
+
     public static class TestResponseParser implements HttpResponseParser {
 
         @Override
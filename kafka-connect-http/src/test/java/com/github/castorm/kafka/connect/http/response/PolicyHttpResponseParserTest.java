@@ -21,9 +21,12 @@ package com.github.castorm.kafka.connect.http.response;
  */
 
 import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.model.Offset;
+import com.github.castorm.kafka.connect.http.model.StreamingHttpResponse;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponseParser;
 import com.github.castorm.kafka.connect.http.response.spi.HttpResponsePolicy;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,8 +34,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.keyedRecord;
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.keyedRecord2;
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.notModified;
 import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.record;
 import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.response;
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.streamingResponse;
+import static com.github.castorm.kafka.connect.http.response.PolicyHttpResponseParserTest.Fixture.validated;
 import static com.github.castorm.kafka.connect.http.response.spi.HttpResponsePolicy.HttpResponseOutcome.FAIL;
 import static com.github.castorm.kafka.connect.http.response.spi.HttpResponsePolicy.HttpResponseOutcome.PROCESS;
 import static com.github.castorm.kafka.connect.http.response.spi.HttpResponsePolicy.HttpResponseOutcome.SKIP;
@@ -122,8 +134,99 @@ class PolicyHttpResponseParserTest {
         assertThat(parser.parse(response)).isEmpty();
     }
 
+    @Test
+    void givenPolicyProcess_whenParseStream_thenDelegateStreamed() throws IOException {
+
+        given(policy.resolve(any())).willReturn(PROCESS);
+        given(delegate.parseStream(streamingResponse)).willReturn(ImmutableList.of(record));
+
+        assertThat(parser.parseStream(streamingResponse)).containsExactly(record);
+    }
+
+    @Test
+    void givenPolicySkip_whenParseStream_thenEmpty() throws IOException {
+
+        given(policy.resolve(any())).willReturn(SKIP);
+
+        assertThat(parser.parseStream(streamingResponse)).isEmpty();
+    }
+
+    @Test
+    void givenPolicyFail_whenParseStream_thenIllegalState() {
+
+        given(policy.resolve(any())).willReturn(FAIL);
+
+        assertThat(catchThrowable(() -> parser.parseStream(streamingResponse))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenNotModified_whenParse_thenEmptyWithoutPolicyNorDelegate() {
+
+        assertThat(parser.parse(notModified)).isEmpty();
+
+        then(policy).should(never()).resolve(any());
+        then(delegate).should(never()).parse(any());
+    }
+
+    @Test
+    void givenNotModified_whenParseStream_thenEmptyWithoutPolicyNorDelegate() throws IOException {
+
+        assertThat(parser.parseStream(StreamingHttpResponse.builder().code(304).body(new ByteArrayInputStream(new byte[0])).build())).isEmpty();
+
+        then(policy).should(never()).resolve(any());
+        then(delegate).should(never()).parseStream(any());
+    }
+
+    @Test
+    void givenOffsetValidators_whenParse_thenValidatorsInOffsets() {
+
+        given(config.getOffsetValidators()).willReturn(true);
+        parser.configure(emptyMap());
+        given(policy.resolve(validated)).willReturn(PROCESS);
+        given(delegate.parse(validated)).willReturn(ImmutableList.of(keyedRecord));
+
+        SourceRecord parsed = parser.parse(validated).get(0);
+        Offset offset = Offset.of(parsed.sourceOffset());
+
+        assertThat(offset.getKey()).contains("1");
+        assertThat(offset.getETag()).contains("\"v1\"");
+        assertThat(offset.getLastModified()).contains("Wed, 21 Oct 2015 07:28:00 GMT");
+        assertThat(parsed.value()).isEqualTo(keyedRecord.value());
+    }
+
+    @Test
+    void givenOffsetValidators_whenParseSeveralRecords_thenValidatorsOnlyInLastOffset() {
+
+        given(config.getOffsetValidators()).willReturn(true);
+        parser.configure(emptyMap());
+        given(policy.resolve(validated)).willReturn(PROCESS);
+        given(delegate.parse(validated)).willReturn(ImmutableList.of(keyedRecord, keyedRecord2));
+
+        List<SourceRecord> parsed = parser.parse(validated);
+
+        assertThat(parsed.get(0)).isSameAs(keyedRecord);
+        assertThat(Offset.of(parsed.get(1).sourceOffset()).getKey()).contains("2");
+        assertThat(Offset.of(parsed.get(1).sourceOffset()).getETag()).contains("\"v1\"");
+    }
+
+    @Test
+    void givenNoOffsetValidators_whenParse_thenOffsetsUnchanged() {
+
+        given(policy.resolve(validated)).willReturn(PROCESS);
+        given(delegate.parse(validated)).willReturn(ImmutableList.of(keyedRecord));
+
+        assertThat(parser.parse(validated)).containsExactly(keyedRecord);
+    }
+
     interface Fixture {
         HttpResponse response = HttpResponse.builder().build();
+        HttpResponse notModified = HttpResponse.builder().code(304).build();
+        HttpResponse validated = HttpResponse.builder().code(200).headers(ImmutableMap.of(
+                "etag", ImmutableList.of("\"v1\""),
+                "last-modified", ImmutableList.of("Wed, 21 Oct 2015 07:28:00 GMT"))).build();
+        SourceRecord keyedRecord = new SourceRecord(emptyMap(), ImmutableMap.of("key", "1"), "topic", null, "Something");
+        SourceRecord keyedRecord2 = new SourceRecord(emptyMap(), ImmutableMap.of("key", "2"), "topic", null, "Something else");
+        StreamingHttpResponse streamingResponse = StreamingHttpResponse.builder().code(200).body(new ByteArrayInputStream(new byte[0])).build();
         SourceRecord record = new SourceRecord(null, null, null, null, "Something");
     }
 }
@@ -55,6 +55,16 @@ class JacksonKvRecordHttpResponseParserConfigTest {
         assertThat(config(emptyMap()).getTimestampParser()).isInstanceOf(EpochMillisOrDelegateTimestampParser.class);
     }
 
+    @Test
+    void whenKeyHashConfigured_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.response.record.key.hash", "murmur3_128")).getKeyHash()).isEqualTo(RecordKeyHash.MURMUR3_128);
+    }
+
+    @Test
+    void whenMissingKeyHashConfigured_thenUuid() {
+        assertThat(config(emptyMap()).getKeyHash()).isEqualTo(RecordKeyHash.UUID);
+    }
+
     interface Fixture {
         static JacksonKvRecordHttpResponseParserConfig config(Map<String, String> settings) {
             return new JacksonKvRecordHttpResponseParserConfig(settings);
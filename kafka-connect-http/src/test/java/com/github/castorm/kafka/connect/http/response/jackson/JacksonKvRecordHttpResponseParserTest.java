@@ -36,11 +36,13 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static com.github.castorm.kafka.connect.common.HashUtils.xxHash64;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParserTest.Fixture.bytes;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParserTest.Fixture.record;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParserTest.Fixture.response;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParserTest.Fixture.timestamp;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonKvRecordHttpResponseParserTest.Fixture.timestampIso;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Instant.ofEpochMilli;
 import static java.time.Instant.parse;
 import static java.util.Collections.emptyMap;
@@ -69,6 +71,7 @@ class JacksonKvRecordHttpResponseParserTest {
         parser = new JacksonKvRecordHttpResponseParser(__ -> config);
         given(config.getResponseParser()).willReturn(responseParser);
         given(config.getTimestampParser()).willReturn(timestampParser);
+        given(config.getKeyHash()).willReturn(RecordKeyHash.UUID);
         parser.configure(emptyMap());
     }
 
@@ -171,6 +174,16 @@ class JacksonKvRecordHttpResponseParserTest {
         assertThat(parser.parse(response).stream().findFirst().get().getOffset().getKey()).contains(nameUUIDFromBytes(record.getBody().toString().getBytes()).toString());
     }
 
+    @Test
+    void givenOneItemWithNoKeyAndXxHash64_thenConsistentHashMappedToOffset() {
+
+        given(config.getKeyHash()).willReturn(RecordKeyHash.XXHASH64);
+        parser.configure(emptyMap());
+        givenRecords(Stream.of(record.withKey(null).withOffset(emptyMap())));
+
+        assertThat(parser.parse(response).stream().findFirst().get().getOffset().getKey()).contains(String.format("%016x", xxHash64(record.getBody().getBytes(UTF_8))));
+    }
+
     private void givenRecords(Stream<JacksonRecord> records) {
         given(responseParser.getRecords(bytes)).willReturn(records);
     }
@@ -0,0 +1,105 @@
+package com.github.castorm.kafka.connect.http.response.jackson;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.castorm.kafka.connect.http.model.HttpResponse;
+import com.github.castorm.kafka.connect.http.record.model.KvRecord;
+import com.github.castorm.kafka.connect.http.response.jackson.model.JacksonRecord;
+import com.github.castorm.kafka.connect.http.response.timestamp.spi.TimestampParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRawKvRecordHttpResponseParserTest.Fixture.bytes;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRawKvRecordHttpResponseParserTest.Fixture.record;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRawKvRecordHttpResponseParserTest.Fixture.response;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRawKvRecordHttpResponseParserTest.Fixture.value;
+import static java.util.Collections.emptyMap;
+import static java.util.UUID.nameUUIDFromBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JacksonRawKvRecordHttpResponseParserTest {
+
+    JacksonRawKvRecordHttpResponseParser parser;
+
+    @Mock
+    JacksonKvRecordHttpResponseParserConfig config;
+
+    @Mock
+    JacksonResponseRecordParser responseParser;
+
+    @Mock
+    TimestampParser timestampParser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new JacksonRawKvRecordHttpResponseParser(__ -> config);
+        given(config.getResponseParser()).willReturn(responseParser);
+        given(config.getTimestampParser()).willReturn(timestampParser);
+        given(config.getKeyHash()).willReturn(RecordKeyHash.UUID);
+        parser.configure(emptyMap());
+    }
+
+    @Test
+    void givenOneItem_thenValueBytesMapped() {
+
+        given(responseParser.getRawRecords(bytes)).willReturn(Stream.of(record));
+
+        assertThat(parser.parse(response)).first().extracting(KvRecord::getValueBytes).isEqualTo(value);
+    }
+
+    @Test
+    void givenOneItem_thenNoValueString() {
+
+        given(responseParser.getRawRecords(bytes)).willReturn(Stream.of(record));
+
+        assertThat(parser.parse(response)).first().extracting(KvRecord::getValue).isNull();
+    }
+
+    @Test
+    void givenOneItemWithNoKey_thenKeyGeneratedFromValueBytes() {
+
+        given(responseParser.getRawRecords(bytes)).willReturn(Stream.of(record));
+
+        assertThat(parser.parse(response)).first().extracting(KvRecord::getKey).isEqualTo(nameUUIDFromBytes(value).toString());
+    }
+
+    @Test
+    void givenOneItem_thenKeyMapped() {
+
+        given(responseParser.getRawRecords(bytes)).willReturn(Stream.of(record.withKey("key")));
+
+        assertThat(parser.parse(response)).first().extracting(KvRecord::getKey).isEqualTo("key");
+    }
+
+    interface Fixture {
+        byte[] bytes = "bytes".getBytes();
+        HttpResponse response = HttpResponse.builder().body(bytes).build();
+        byte[] value = "{\"k\": \"v\"}".getBytes();
+        JacksonRecord record = JacksonRecord.builder().bodyBytes(value).build();
+    }
+}
@@ -42,6 +42,16 @@ class JacksonRecordParserConfigTest {
         assertThat(config("http.response.list.pointer", "/test-pointer").getRecordsPointer()).isEqualTo(compile("/test-pointer"));
     }
 
+    @Test
+    void whenMissingStreaming_thenDefault() {
+        assertThat(configWithout("http.response.list.streaming").getStreaming()).isFalse();
+    }
+
+    @Test
+    void whenStreamingConfigured_thenInitialized() {
+        assertThat(config("http.response.list.streaming", "true").getStreaming()).isTrue();
+    }
+
     @Test
     void whenMissingItemKeyPointerConfigured_thenInitialized() {
         assertThat(configWithout("http.response.record.key.pointer").getKeyPointer()).isEmpty();
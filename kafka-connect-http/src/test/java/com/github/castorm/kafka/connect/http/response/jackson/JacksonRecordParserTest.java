@@ -20,9 +20,11 @@ package com.github.castorm.kafka.connect.http.response.jackson;
  * #L%
  */
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.collect.ImmutableMap;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,12 +33,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.util.Optional;
 
 import static com.fasterxml.jackson.core.JsonPointer.compile;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.deserialize;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.item1;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.jsonK1K2;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.k1;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.k2;
+import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.mapper;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.pointerToK1;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.pointerToK2;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonRecordParserTest.Fixture.v1;
@@ -98,6 +104,19 @@ class JacksonRecordParserTest {
         assertThat(parser.getValue(jsonK1K2)).isEqualTo(v1);
     }
 
+    @Test
+    void givenRootPointer_whenGetValueFromBufferedItem_thenItemWrittenOut() throws IOException {
+
+        given(config.getValuePointer()).willReturn(compile("/"));
+        parser.configure(emptyMap());
+        JsonParser itemParser = mapper.createParser(item1);
+        itemParser.nextToken();
+        TokenBuffer item = new TokenBuffer(mapper, false);
+        item.copyCurrentStructure(itemParser);
+
+        assertThat(parser.getValue(item, jsonK1K2)).isEqualTo(item1);
+    }
+
     @Test
     void givenPointer_whenGetValueObject_thenValue() {
 
@@ -107,6 +126,54 @@ class JacksonRecordParserTest {
         assertThat(parser.getValue(jsonK1K2)).isEqualTo(v1);
     }
 
+    @Test
+    void givenRootPointer_whenGetValueMap_thenItemAsMap() {
+
+        given(config.getValueMap()).willReturn(true);
+        given(config.getValuePointer()).willReturn(compile("/"));
+        parser.configure(emptyMap());
+
+        assertThat(parser.getValueMap(jsonK1K2).get()).isEqualTo(ImmutableMap.of(k1, v1, k2, v2));
+    }
+
+    @Test
+    void givenPointerToText_whenGetValueMap_thenNull() {
+
+        given(config.getValueMap()).willReturn(true);
+        given(config.getValuePointer()).willReturn(pointerToK1);
+        parser.configure(emptyMap());
+
+        assertThat(parser.getValueMap(jsonK1K2)).isNull();
+    }
+
+    @Test
+    void givenValueMapNotRead_whenGetValueMap_thenNull() {
+
+        given(config.getValueMap()).willReturn(false);
+        parser.configure(emptyMap());
+
+        assertThat(parser.getValueMap(jsonK1K2)).isNull();
+    }
+
+    @Test
+    void givenRootPointer_whenGetValueBytes_thenItemBytes() {
+
+        given(config.getValuePointer()).willReturn(compile("/"));
+        parser.configure(emptyMap());
+        byte[] itemBytes = item1.getBytes();
+
+        assertThat(parser.getValueBytes(jsonK1K2, itemBytes)).isSameAs(itemBytes);
+    }
+
+    @Test
+    void givenPointerToText_whenGetValueBytes_thenTextBytes() {
+
+        given(config.getValuePointer()).willReturn(pointerToK1);
+        parser.configure(emptyMap());
+
+        assertThat(parser.getValueBytes(jsonK1K2, item1.getBytes())).isEqualTo(v1.getBytes());
+    }
+
     @Test
     void givenNoPointer_whenGetTimestamp_thenEmpty() {
 
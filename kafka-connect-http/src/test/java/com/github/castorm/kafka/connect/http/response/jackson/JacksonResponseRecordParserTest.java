@@ -23,6 +23,7 @@ package com.github.castorm.kafka.connect.http.response.jackson;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.collect.ImmutableMap;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -129,6 +130,22 @@ class JacksonResponseRecordParserTest {
         assertThat(parser.getRecords(itemArray.getBytes()).findFirst().get().getBody()).isEqualTo("value");
     }
 
+    @Test
+    void givenStreaming_whenGetRecords_thenItemsStreamed() {
+
+        TokenBuffer item = new TokenBuffer(null, false);
+        given(config.getRecordsPointer()).willReturn(pointer);
+        given(config.getStreaming()).willReturn(true);
+        given(serializer.streamArrayAt(itemArray.getBytes(), pointer)).willReturn(Stream.of(item));
+        given(serializer.deserialize(item)).willReturn(deserialize(item1));
+        given(recordParser.getValue(item, deserialize(item1))).willReturn("value");
+        parser.configure(emptyMap());
+
+        assertThat(parser.getRecords(itemArray.getBytes()).findFirst().get())
+                .satisfies(record -> assertThat(record.getKey()).isEqualTo("value"))
+                .satisfies(record -> assertThat(record.getBody()).isEqualTo("value"));
+    }
+
     private void givenRecords(JsonNode... records) {
         given(config.getRecordsPointer()).willReturn(pointer);
         given(serializer.deserialize(itemArray.getBytes())).willReturn(itemArrayJson);
@@ -31,6 +31,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static com.fasterxml.jackson.core.JsonPointer.compile;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonSerializerTest.Fixture.array;
@@ -40,7 +42,9 @@ import static com.github.castorm.kafka.connect.http.response.jackson.JacksonSeri
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonSerializerTest.Fixture.item2;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonSerializerTest.Fixture.itemArray;
 import static com.github.castorm.kafka.connect.http.response.jackson.JacksonSerializerTest.Fixture.itemArrayNull;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,6 +72,14 @@ class JacksonSerializerTest {
         assertThat(serializer.deserialize(item1.getBytes())).isEqualTo(item1Json);
     }
 
+    @Test
+    void whenToMap_thenSameAsReadingValueAsMap() throws IOException {
+
+        String json = "{\"s\":\"v\",\"i\":1,\"l\":10000000000,\"d\":1.5,\"b\":true,\"n\":null,\"a\":[1,{\"k\":\"v\"}],\"o\":{\"k\":[]}}";
+
+        assertThat(new JacksonSerializer().toMap(deserialize(json))).isEqualTo(new ObjectMapper().readValue(json, Map.class));
+    }
+
     @Test
     void whenGetArrayAtPointerObject_thenObject() {
         assertThat(serializer.getArrayAt(deserialize(item1), compile("/"))).containsExactly(deserialize(item1));
@@ -98,6 +110,76 @@ class JacksonSerializerTest {
         assertThat(serializer.getObjectAt(deserialize(item1), compile("/k1"))).isEqualTo(deserialize(item1).at("/k1"));
     }
 
+    @Test
+    void whenStreamArrayAtRootArray_thenAllItems() {
+        assertThat(streamed(array, "/")).containsExactly(item1, item2);
+    }
+
+    @Test
+    void whenStreamArrayAtPointerItems_thenAllItems() {
+        assertThat(streamed(itemArray, "/items")).containsExactly(item1, item2);
+    }
+
+    @Test
+    void whenStreamArrayAtPointerObject_thenObject() {
+        assertThat(streamed(item1, "/")).containsExactly(item1);
+    }
+
+    @Test
+    void whenStreamNullAtPointerItems_thenNoItem() {
+        assertThat(streamed(itemArrayNull, "/items")).isEmpty();
+    }
+
+    @Test
+    void whenStreamArrayAtMissingPointer_thenException() {
+        assertThat(catchThrowable(() -> streamed(itemArray, "/missing"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenStreamArrayAtPointerItems_thenItemsDeserializable() {
+        JacksonSerializer realSerializer = new JacksonSerializer();
+
+        assertThat(realSerializer.streamArrayAt(itemArray.getBytes(), compile("/items")).map(realSerializer::deserialize))
+                .containsExactly(deserialize(item1), deserialize(item2));
+    }
+
+    @Test
+    void whenSliceArrayAtPointer_thenItemsBytesAsTheyWere() {
+        assertThat(sliced("{\"items\": [ {\"k1\": \"v1\"} ,{\"k2\":[1, 2]}]}", "/items"))
+                .containsExactly("{\"k1\": \"v1\"}", "{\"k2\":[1, 2]}");
+    }
+
+    @Test
+    void whenSliceArrayAtRootOfScalars_thenItemsBytesAsTheyWere() {
+        assertThat(sliced("[1, \"v\", true]", "/")).containsExactly("1", "\"v\"", "true");
+    }
+
+    @Test
+    void whenSliceObjectAtPointer_thenObjectBytes() {
+        assertThat(sliced("{\"item\": {\"k1\": \"v1\"}}", "/item")).containsExactly("{\"k1\": \"v1\"}");
+    }
+
+    @Test
+    void whenSliceArrayAtPointer_thenItemsParsed() {
+        assertThat(new JacksonSerializer().sliceArrayAt(itemArray.getBytes(), compile("/items")).map(JacksonSerializer.RawItem::getNode))
+                .containsExactly(deserialize(item1), deserialize(item2));
+    }
+
+    private static Stream<String> sliced(String body, String pointer) {
+        return new JacksonSerializer().sliceArrayAt(body.getBytes(), compile(pointer))
+                .map(item -> new String(item.getBytes()))
+                .collect(toList())
+                .stream();
+    }
+
+    private static Stream<String> streamed(String body, String pointer) {
+        JacksonSerializer realSerializer = new JacksonSerializer();
+        return realSerializer.streamArrayAt(body.getBytes(), compile(pointer))
+                .map(realSerializer::serialize)
+                .collect(toList())
+                .stream();
+    }
+
     interface Fixture {
         ObjectMapper mapper = new ObjectMapper();
         String item1 = "{\"k1\":\"v1\"}";
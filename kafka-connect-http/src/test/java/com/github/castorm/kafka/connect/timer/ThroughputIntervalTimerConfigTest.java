@@ -0,0 +1,80 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.timer.ThroughputIntervalTimerConfigTest.Fixture.config;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ThroughputIntervalTimerConfigTest {
+
+    @Test
+    void whenNoIntervals_thenDefaults() {
+        ThroughputIntervalTimerConfig config = config(emptyMap());
+
+        assertThat(config.getInitialIntervalMillis()).isEqualTo(60000L);
+        assertThat(config.getMinIntervalMillis()).isEqualTo(1000L);
+        assertThat(config.getMaxIntervalMillis()).isEqualTo(300000L);
+    }
+
+    @Test
+    void whenInitialIntervalOutOfBounds_thenClamped() {
+        assertThat(config(ImmutableMap.of("http.timer.interval.millis", "10", "http.timer.throughput.min.interval.millis", "500")).getInitialIntervalMillis()).isEqualTo(500L);
+    }
+
+    @Test
+    void whenMaxIntervalBelowMin_thenMin() {
+        assertThat(config(ImmutableMap.of("http.timer.throughput.min.interval.millis", "500", "http.timer.throughput.max.interval.millis", "100")).getMaxIntervalMillis()).isEqualTo(500L);
+    }
+
+    @Test
+    void whenMinIntervalZero_thenRejected() {
+        assertThat(catchThrowable(() -> config(ImmutableMap.of("http.timer.throughput.min.interval.millis", "0")))).isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void whenBackoffMultiplier_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.timer.throughput.backoff.multiplier", "3")).getBackoffMultiplier()).isEqualTo(3.0);
+    }
+
+    @Test
+    void whenSmoothing_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.timer.throughput.smoothing", "0.5")).getSmoothing()).isEqualTo(0.5);
+    }
+
+    @Test
+    void whenPageSize_thenInitialized() {
+        assertThat(config(ImmutableMap.of("http.timer.throughput.page.size", "50")).getPageSize()).isEqualTo(50);
+    }
+
+    interface Fixture {
+        static ThroughputIntervalTimerConfig config(Map<String, String> settings) {
+            return new ThroughputIntervalTimerConfig(settings);
+        }
+    }
+}
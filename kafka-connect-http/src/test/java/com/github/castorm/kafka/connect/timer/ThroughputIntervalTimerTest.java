@@ -0,0 +1,167 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.time.Instant.now;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ThroughputIntervalTimerTest {
+
+    ThroughputIntervalTimer timer;
+
+    @Mock
+    ThroughputIntervalTimerConfig config;
+
+    long nowMillis;
+
+    @BeforeEach
+    void setUp() {
+        given(config.getInitialIntervalMillis()).willReturn(8000L);
+        given(config.getMinIntervalMillis()).willReturn(1000L);
+        given(config.getMaxIntervalMillis()).willReturn(60000L);
+        given(config.getBackoffMultiplier()).willReturn(2.0);
+        given(config.getSmoothing()).willReturn(0.5);
+    }
+
+    @Test
+    void givenConfigured_whenGetRemainingMillis_thenInitialInterval() {
+
+        givenConfiguredTimer(0);
+
+        assertThat(timer.getRemainingMillis()).isEqualTo(8000L);
+    }
+
+    @Test
+    void givenReset_whenGetRemainingMillisLater_thenRemainingInterval() {
+
+        givenConfiguredTimer(0);
+        timer.reset(now());
+        nowMillis += 3000;
+
+        assertThat(timer.getRemainingMillis()).isEqualTo(5000L);
+    }
+
+    @Test
+    void givenNoNewRecords_whenUpdate_thenBackedOff() {
+
+        givenConfiguredTimer(0);
+
+        timer.update(10, 0);
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(16000L);
+    }
+
+    @Test
+    void givenNoNewRecordsForLong_whenUpdate_thenCeiling() {
+
+        givenConfiguredTimer(0);
+
+        for (int i = 0; i < 10; i++) {
+            timer.update(10, 0);
+        }
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(60000L);
+    }
+
+    @Test
+    void givenNoNewRecordsAtSmallFloor_whenUpdate_thenBackedOff() {
+
+        given(config.getInitialIntervalMillis()).willReturn(1L);
+        given(config.getMinIntervalMillis()).willReturn(1L);
+        given(config.getBackoffMultiplier()).willReturn(1.5);
+        givenConfiguredTimer(0);
+
+        timer.update(10, 0);
+        timer.update(10, 0);
+        timer.update(10, 0);
+        timer.update(10, 0);
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(8L);
+    }
+
+    @Test
+    void givenNewRecordsAndNoPageSize_whenUpdate_thenShrunk() {
+
+        givenConfiguredTimer(0);
+
+        timer.update(10, 5);
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(4000L);
+    }
+
+    @Test
+    void givenNewRecordsForLong_whenUpdate_thenFloor() {
+
+        givenConfiguredTimer(0);
+
+        for (int i = 0; i < 10; i++) {
+            timer.update(10, 5);
+        }
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    void givenFewNewRecordsOfPageSize_whenUpdate_thenShrunkLess() {
+
+        givenConfiguredTimer(100);
+
+        timer.update(25, 25);
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(6400L);
+    }
+
+    @Test
+    void givenFullPage_whenUpdate_thenFloor() {
+
+        givenConfiguredTimer(100);
+
+        timer.update(100, 100);
+
+        assertThat(timer.getIntervalMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    void givenNewRecords_whenUpdate_thenAverageSmoothed() {
+
+        givenConfiguredTimer(0);
+
+        timer.update(10, 10);
+        timer.update(10, 0);
+
+        assertThat(timer.getNewRecordsAverage()).isEqualTo(5.0);
+    }
+
+    private void givenConfiguredTimer(int pageSize) {
+        given(config.getPageSize()).willReturn(pageSize);
+        timer = new ThroughputIntervalTimer(__ -> config, () -> nowMillis);
+        timer.configure(emptyMap());
+    }
+}
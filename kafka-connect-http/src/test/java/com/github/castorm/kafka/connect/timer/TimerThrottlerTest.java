@@ -64,4 +64,12 @@ class TimerThrottlerTest {
 
         then(externalSleeper).should().sleep(42L);
     }
+
+    @Test
+    void whenUpdate_thenTimerUpdated() {
+
+        sleeper.update(10, 4);
+
+        then(timer).should().update(10, 4);
+    }
 }
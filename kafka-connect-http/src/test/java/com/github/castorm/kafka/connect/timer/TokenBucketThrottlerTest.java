@@ -0,0 +1,179 @@
+package com.github.castorm.kafka.connect.timer;
+
+/*-
+ * #%L
+ * kafka-connect-http
+ * %%
+ * Copyright (C) 2020 CastorM
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.castorm.kafka.connect.timer.TokenBucketThrottlerTest.Fixture.headers;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketThrottlerTest {
+
+    long now = 1_600_000_000_000L;
+
+    TokenBucketThrottler throttler(double permitsPerSecond, int capacity) {
+        return new TokenBucketThrottler(permitsPerSecond, capacity, 300000, millis -> now += millis, () -> now);
+    }
+
+    @Test
+    void givenTokens_whenReserve_thenNoWait() {
+        assertThat(throttler(1, 2).reserve()).isEqualTo(0);
+    }
+
+    @Test
+    void givenNoTokens_whenReserve_thenWaitForNextToken() {
+        TokenBucketThrottler throttler = throttler(2, 1);
+        throttler.reserve();
+
+        assertThat(throttler.reserve()).isEqualTo(500);
+    }
+
+    @Test
+    void givenConcurrentReservations_whenReserve_thenQueued() {
+        TokenBucketThrottler throttler = throttler(2, 1);
+        throttler.reserve();
+        throttler.reserve();
+
+        assertThat(throttler.reserve()).isEqualTo(1000);
+    }
+
+    @Test
+    void givenIdle_whenReserve_thenRefilledUpToCapacity() {
+        TokenBucketThrottler throttler = throttler(1, 2);
+        throttler.reserve();
+        throttler.reserve();
+        now += 10000;
+        throttler.reserve();
+        throttler.reserve();
+
+        assertThat(throttler.reserve()).isEqualTo(1000);
+    }
+
+    @Test
+    void whenThrottle_thenSleptUntilToken() throws InterruptedException {
+        TokenBucketThrottler throttler = throttler(1, 1);
+        long start = now;
+        throttler.throttle();
+        throttler.throttle();
+
+        assertThat(now - start).isEqualTo(1000);
+    }
+
+    @Test
+    void givenRetryAfterSeconds_whenReserve_thenWaitUntilThen() {
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(429, headers("Retry-After", "30"));
+
+        assertThat(throttler.reserve()).isEqualTo(30100);
+    }
+
+    @Test
+    void givenRetryAfterDate_whenReserve_thenWaitUntilThen() {
+        now = 1_577_836_800_000L;
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(503, headers("retry-after", "Wed, 1 Jan 2020 00:00:10 GMT"));
+
+        assertThat(throttler.reserve()).isEqualTo(10100);
+    }
+
+    @Test
+    void givenNoRemaining_whenReserve_thenWaitUntilReset() {
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(200, headers("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", String.valueOf(now / 1000 + 60)));
+
+        assertThat(throttler.reserve()).isEqualTo(60100);
+    }
+
+    @Test
+    void givenNoRemainingUntilEpochMillisReset_whenReserve_thenWaitUntilReset() {
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(200, headers("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", String.valueOf(now + 60000)));
+
+        assertThat(throttler.reserve()).isEqualTo(60100);
+    }
+
+    @Test
+    void givenRetryAfterOverMaxPause_whenReserve_thenWaitMaxPause() {
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(429, headers("Retry-After", "86400"));
+
+        assertThat(throttler.reserve()).isEqualTo(300100);
+    }
+
+    @Test
+    void givenResetOverMaxPause_whenReserve_thenWaitMaxPause() {
+        TokenBucketThrottler throttler = throttler(10, 5);
+        throttler.update(200, headers("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", String.valueOf(now / 1000 + 86400)));
+
+        assertThat(throttler.reserve()).isEqualTo(300100);
+    }
+
+    @Test
+    void givenRemainingUntilRelativeReset_whenReserve_thenPacedToQuota() {
+        TokenBucketThrottler throttler = throttler(100, 1);
+        throttler.update(200, headers("X-RateLimit-Remaining", "10", "X-RateLimit-Reset", "20"));
+        throttler.reserve();
+
+        assertThat(throttler.reserve()).isEqualTo(2000);
+    }
+
+    @Test
+    void givenQuotaReset_whenReserve_thenConfiguredRate() {
+        TokenBucketThrottler throttler = throttler(100, 1);
+        throttler.update(200, headers("X-RateLimit-Remaining", "10", "X-RateLimit-Reset", "20"));
+        now += 20000;
+        throttler.reserve();
+
+        assertThat(throttler.reserve()).isEqualTo(10);
+    }
+
+    @Test
+    void given429WithoutHeaders_whenReserve_thenWaitForNextToken() {
+        TokenBucketThrottler throttler = throttler(1, 5);
+        throttler.update(429, emptyMap());
+
+        assertThat(throttler.reserve()).isEqualTo(1000);
+    }
+
+    @Test
+    void givenUnparseableHeaders_whenReserve_thenIgnored() {
+        TokenBucketThrottler throttler = throttler(1, 5);
+        throttler.update(200, headers("Retry-After", "soon", "X-RateLimit-Remaining", "many"));
+
+        assertThat(throttler.reserve()).isEqualTo(0);
+    }
+
+    interface Fixture {
+        static Map<String, List<String>> headers(String name, String value) {
+            return ImmutableMap.of(name, singletonList(value));
+        }
+
+        static Map<String, List<String>> headers(String name1, String value1, String name2, String value2) {
+            return ImmutableMap.of(name1, singletonList(value1), name2, singletonList(value2));
+        }
+    }
+}